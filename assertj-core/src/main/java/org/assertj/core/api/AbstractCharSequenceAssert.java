@@ -38,6 +38,7 @@ import static org.assertj.core.util.IterableUtil.toArray;
 
 import java.util.Comparator;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.regex.Matcher;
@@ -46,6 +47,7 @@ import java.util.regex.Pattern;
 import org.assertj.core.annotation.CheckReturnValue;
 import org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy;
 import org.assertj.core.internal.Strings;
+import org.assertj.core.util.Patterns;
 
 /**
  * Base class for all implementations of assertions for {@code CharSequence}s.
@@ -472,6 +474,44 @@ public abstract class AbstractCharSequenceAssert<SELF extends AbstractCharSequen
     return executeAssertion(() -> strings.assertHasLineCount(info, actual, expectedLineCount));
   }
 
+  /**
+   * Returns a list assertion on the lines of the actual {@code CharSequence}, the lines becoming the new value under test.
+   * <p>
+   * A line is considered to be <i>terminated</i> by any one of a line feed ({@code '\n'}), a carriage return ({@code '\r'}),
+   * or a carriage return followed immediately by a linefeed, see {@link String#lines()}.
+   * <p>
+   * The lines are not split upfront, they are located and copied lazily as the list assertions access them, which allows to check
+   * large texts without building all their lines.
+   * <p>
+   * Examples:
+   * <pre><code class='java'> String log = &quot;INFO starting\n&quot; +
+   *              &quot;WARN low memory\n&quot; +
+   *              &quot;INFO started&quot;;
+   *
+   * // assertions succeed
+   * assertThat(log).lines()
+   *                .hasSize(3)
+   *                .anyMatch(line -&gt; line.startsWith(&quot;WARN&quot;));
+   * assertThat(log).lines()
+   *                .element(2)
+   *                .isEqualTo(&quot;INFO started&quot;);
+   *
+   * // assertion fails
+   * assertThat(log).lines()
+   *                .noneMatch(line -&gt; line.startsWith(&quot;WARN&quot;));</code></pre>
+   *
+   * @return a new {@link AbstractListAssert} instance whose value under test is the lines of the actual {@code CharSequence}.
+   * @throws AssertionError if the actual {@code CharSequence} is {@code null}.
+   * @since 4.0.0
+   */
+  @CheckReturnValue
+  public AbstractListAssert<?, List<? extends String>, String, ObjectAssert<String>> lines() {
+    return executeAssertionNavigation(() -> {
+      isNotNull();
+      return newListAssertInstance(Strings.lines(actual)).withAssertionState(myself);
+    }, ListAssert::nullListAssert);
+  }
+
   /**
    * Verifies that the actual {@code CharSequence} has a length that's the same as the length of the given
    * {@code CharSequence}.
@@ -1305,7 +1345,7 @@ public abstract class AbstractCharSequenceAssert<SELF extends AbstractCharSequen
    * @throws AssertionError       if the actual {@code CharSequence} does not match the given regular expression.
    */
   public SELF matchesSatisfying(CharSequence regex, Consumer<Matcher> matchSatisfies) {
-    return matchesSatisfying(Pattern.compile(regex.toString()), matchSatisfies);
+    return matchesSatisfying(Patterns.compile(regex.toString()), matchSatisfies);
   }
 
   /**
@@ -1692,7 +1732,7 @@ public abstract class AbstractCharSequenceAssert<SELF extends AbstractCharSequen
    * @throws AssertionError       if the given regular expression cannot be found in the actual {@code CharSequence}.
    */
   public SELF containsPatternSatisfying(CharSequence regex, Consumer<Matcher> matchSatisfies) {
-    return containsPatternSatisfying(Pattern.compile(regex.toString()), matchSatisfies);
+    return containsPatternSatisfying(Patterns.compile(regex.toString()), matchSatisfies);
   }
 
   /**
@@ -1920,7 +1960,7 @@ public abstract class AbstractCharSequenceAssert<SELF extends AbstractCharSequen
   public SELF isAlphabetic() {
     return executeAssertion(() -> {
       isNotNull();
-      if (!Pattern.matches("\\p{Alpha}+", actual)) throwAssertionError(shouldBeAlphabetic(actual));
+      if (!Patterns.compile("\\p{Alpha}+").matcher(actual).matches()) throwAssertionError(shouldBeAlphabetic(actual));
     });
   }
 
@@ -1947,7 +1987,7 @@ public abstract class AbstractCharSequenceAssert<SELF extends AbstractCharSequen
   public SELF isAlphanumeric() {
     return executeAssertion(() -> {
       isNotNull();
-      if (!Pattern.matches("\\p{Alnum}+", actual)) throwAssertionError(shouldBeAlphanumeric(actual));
+      if (!Patterns.compile("\\p{Alnum}+").matcher(actual).matches()) throwAssertionError(shouldBeAlphanumeric(actual));
     });
   }
 
@@ -1974,7 +2014,7 @@ public abstract class AbstractCharSequenceAssert<SELF extends AbstractCharSequen
   public SELF isASCII() {
     return executeAssertion(() -> {
       isNotNull();
-      if (!Pattern.matches("\\p{ASCII}+", actual)) throwAssertionError(shouldBeASCII(actual));
+      if (!Patterns.compile("\\p{ASCII}+").matcher(actual).matches()) throwAssertionError(shouldBeASCII(actual));
     });
   }
 
@@ -2001,7 +2041,7 @@ public abstract class AbstractCharSequenceAssert<SELF extends AbstractCharSequen
   public SELF isHexadecimal() {
     return executeAssertion(() -> {
       isNotNull();
-      if (!Pattern.matches("\\p{XDigit}+", actual)) throwAssertionError(shouldBeHexadecimal(actual));
+      if (!Patterns.compile("\\p{XDigit}+").matcher(actual).matches()) throwAssertionError(shouldBeHexadecimal(actual));
     });
   }
 
@@ -2029,7 +2069,7 @@ public abstract class AbstractCharSequenceAssert<SELF extends AbstractCharSequen
   public SELF isPrintable() {
     return executeAssertion(() -> {
       isNotNull();
-      if (!Pattern.matches("\\p{Print}+", actual)) throwAssertionError(shouldBePrintable(actual));
+      if (!Patterns.compile("\\p{Print}+").matcher(actual).matches()) throwAssertionError(shouldBePrintable(actual));
     });
   }
 
@@ -2056,7 +2096,7 @@ public abstract class AbstractCharSequenceAssert<SELF extends AbstractCharSequen
   public SELF isVisible() {
     return executeAssertion(() -> {
       isNotNull();
-      if (!Pattern.matches("\\p{Graph}+", actual)) throwAssertionError(shouldBeVisible(actual));
+      if (!Patterns.compile("\\p{Graph}+").matcher(actual).matches()) throwAssertionError(shouldBeVisible(actual));
     });
   }
 
@@ -27,6 +27,7 @@ import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.file.FileSystem;
 import java.security.MessageDigest;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
 
 import org.assertj.core.annotation.CheckReturnValue;
@@ -1052,6 +1053,48 @@ public abstract class AbstractFileAssert<SELF extends AbstractFileAssert<SELF>>
     return executeAssertion(() -> files.assertIsDirectoryRecursivelyContaining(info, actual, filter));
   }
 
+  /**
+   * Scans the directory trees of the following {@code isDirectoryRecursivelyContaining} assertions in parallel in the
+   * {@link ForkJoinPool#commonPool() common pool}, each subdirectory being listed by its own task.
+   * <p>
+   * This is useful for large directory trees, like build outputs, on storage serving concurrent reads well. The scan stops
+   * as soon as a matching {@code File} is found, in parallel or not.
+   * <p>
+   * The given predicates must be thread safe.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // looking for a class file among millions of build output files
+   * assertThat(buildOutput).inParallel()
+   *                        .isDirectoryRecursivelyContaining("glob:**Foo.class");</code></pre>
+   *
+   * @return {@code this} assertion object.
+   * @since 4.0.0
+   */
+  @CheckReturnValue
+  public SELF inParallel() {
+    return inParallel(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Same as {@link #inParallel()} but scans the directory trees in the given {@link ForkJoinPool}, this allows to control
+   * the parallelism level.
+   * <p>
+   * Example:
+   * <pre><code class='java'> ForkJoinPool pool = new ForkJoinPool(4);
+   * assertThat(buildOutput).inParallel(pool)
+   *                        .isDirectoryRecursivelyContaining("glob:**Foo.class");</code></pre>
+   *
+   * @param directoryScanPool the pool used to scan the directory trees.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given pool is {@code null}.
+   * @since 4.0.0
+   */
+  @CheckReturnValue
+  public SELF inParallel(ForkJoinPool directoryScanPool) {
+    files = files.inParallel(directoryScanPool);
+    return myself;
+  }
+
   /**
    * Verify that the actual {@code File} is a directory that does not contain any files matching the given {@code Predicate<File>}.
    * <p>
@@ -16,6 +16,7 @@
 package org.assertj.core.api;
 
 import static java.util.Arrays.asList;
+import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.StreamSupport.stream;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -32,6 +33,7 @@ import static org.assertj.core.extractor.Extractors.resultOf;
 import static org.assertj.core.internal.CommonValidations.checkSequenceIsNotNull;
 import static org.assertj.core.internal.CommonValidations.checkSubsequenceIsNotNull;
 import static org.assertj.core.internal.Iterables.byPassingAssertions;
+import static org.assertj.core.internal.Iterables.evaluateElements;
 import static org.assertj.core.internal.TypeComparators.defaultTypeComparators;
 import static org.assertj.core.util.Arrays.isArray;
 import static org.assertj.core.util.IterableUtil.toArray;
@@ -49,6 +51,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.SortedSet;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -73,6 +76,7 @@ import org.assertj.core.internal.CommonErrors;
 import org.assertj.core.internal.ConfigurableRecursiveFieldByFieldComparator;
 import org.assertj.core.internal.ExtendedByTypesComparator;
 import org.assertj.core.internal.Iterables;
+import org.assertj.core.internal.LazyList;
 import org.assertj.core.internal.ObjectArrays;
 import org.assertj.core.internal.Objects;
 import org.assertj.core.internal.TypeComparators;
@@ -121,6 +125,9 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
   /** Internal assertions for iterable values. */
   protected Iterables iterables = Iterables.instance();
 
+  // null means that elements are evaluated sequentially
+  private ForkJoinPool parallelExecutionPool;
+
   /**
    * Creates a new iterable assertion.
    *
@@ -765,7 +772,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
   @Override
   @CheckReturnValue
   public SELF usingElementComparator(Comparator<? super ELEMENT> elementComparator) {
-    this.iterables = new Iterables(new ComparatorBasedComparisonStrategy(elementComparator));
+    this.iterables = withParallelExecution(new Iterables(new ComparatorBasedComparisonStrategy(elementComparator)));
     // to have the same semantics on base assertions like isEqualTo, we need to use an iterable comparator comparing
     // elements with elementComparator parameter
     objects = new Objects(new IterableElementComparisonStrategy<>(elementComparator));
@@ -775,10 +782,58 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
   @Override
   @CheckReturnValue
   public SELF usingDefaultElementComparator() {
-    this.iterables = Iterables.instance();
+    this.iterables = withParallelExecution(Iterables.instance());
     return usingDefaultComparator();
   }
 
+  /**
+   * Evaluates the elements of the following element-wise assertions in parallel in the {@link ForkJoinPool#commonPool() common pool}:
+   * {@code allSatisfy}, {@code allMatch}, {@code noneMatch}, {@code filteredOn(Predicate)}, {@code filteredOnAssertions},
+   * {@code extracting(Function)} and {@code flatExtracting(Function)}.
+   * <p>
+   * This is useful when the element checks are expensive and the iterable under test is large, the results keep the
+   * iterable order so that filtered/extracted elements and reported errors are the same as with a sequential evaluation.
+   * <p>
+   * The given predicates, requirements or functions must be thread safe.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // checking a million signatures in parallel
+   * assertThat(signedDocuments).inParallel()
+   *                            .allSatisfy(document -&gt; assertThat(verifySignature(document)).isTrue());</code></pre>
+   *
+   * @return {@code this} assertion object.
+   * @since 4.0.0
+   */
+  @CheckReturnValue
+  public SELF inParallel() {
+    return inParallel(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Same as {@link #inParallel()} but evaluates the elements in the given {@link ForkJoinPool}, this allows to control the
+   * parallelism level.
+   * <p>
+   * Example:
+   * <pre><code class='java'> ForkJoinPool pool = new ForkJoinPool(4);
+   * assertThat(signedDocuments).inParallel(pool)
+   *                            .allSatisfy(document -&gt; assertThat(verifySignature(document)).isTrue());</code></pre>
+   *
+   * @param parallelExecutionPool the pool used to evaluate the elements.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given pool is {@code null}.
+   * @since 4.0.0
+   */
+  @CheckReturnValue
+  public SELF inParallel(ForkJoinPool parallelExecutionPool) {
+    this.parallelExecutionPool = requireNonNull(parallelExecutionPool, "The ForkJoinPool should not be null");
+    this.iterables = iterables.inParallel(parallelExecutionPool);
+    return myself;
+  }
+
+  private Iterables withParallelExecution(Iterables iterables) {
+    return parallelExecutionPool == null ? iterables : iterables.inParallel(parallelExecutionPool);
+  }
+
   /**
    * Verifies that the actual {@link Iterable} contains at least one of the given values.
    * <p>
@@ -1300,7 +1355,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
                                                                                        String methodName) {
     return executeAssertionNavigation(() -> {
       isNotNull(methodName);
-      List<V> values = FieldsOrPropertiesExtractor.extract(actual, mapper);
+      List<V> values = evaluateElements(actual, parallelExecutionPool, elements -> elements.<V> map(mapper).toList());
       return newListAssertInstanceForMethodsChangingElementType(values);
     }, ListAssert::nullListAssert);
   }
@@ -1481,9 +1536,9 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
                                                                                            String methodName) {
     return executeAssertionNavigation(() -> {
       isNotNull(methodName);
-      List<V> result = FieldsOrPropertiesExtractor.extract(actual, mapper).stream()
-                                                  .flatMap(Collection::stream)
-                                                  .collect(toList());
+      List<V> result = evaluateElements(actual, parallelExecutionPool, elements -> elements.map(mapper)
+                                                                                          .flatMap(Collection::stream)
+                                                                                          .collect(toList()));
       return newListAssertInstanceForMethodsChangingElementType(result);
     }, ListAssert::nullListAssert);
   }
@@ -2382,7 +2437,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
    * @return this assertion object
    */
   protected SELF usingComparisonStrategy(ComparisonStrategy comparisonStrategy) {
-    iterables = new Iterables(comparisonStrategy);
+    iterables = withParallelExecution(new Iterables(comparisonStrategy));
     return myself;
   }
 
@@ -2825,8 +2880,9 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
    */
   public SELF filteredOnAssertions(Consumer<? super ELEMENT> elementAssertions) {
     checkArgument(elementAssertions != null, "The element assertions should not be null");
-    List<? extends ELEMENT> filteredIterable = stream(actual.spliterator(), false).filter(byPassingAssertions(elementAssertions))
-                                                                                  .toList();
+    List<? extends ELEMENT> filteredIterable = evaluateElements(actual, parallelExecutionPool,
+                                                                elements -> elements.filter(byPassingAssertions(elementAssertions))
+                                                                                    .toList());
     return newAbstractIterableAssert(filteredIterable).withAssertionState(myself);
   }
 
@@ -3123,8 +3179,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
   @SuppressWarnings("unchecked")
   private ELEMENT_ASSERT internalElement(int index) {
     isNotEmpty();
-    assertThat(index).describedAs(navigationDescription("check index validity"))
-                     .isBetween(0, IterableUtil.sizeOf(actual) - 1);
+    checkIndexValidity(index);
     ELEMENT elementAtIndex;
     if (actual instanceof @SuppressWarnings("rawtypes") List list) {
       elementAtIndex = (ELEMENT) list.get(index);
@@ -3139,6 +3194,14 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
     return toAssert(elementAtIndex, navigationDescription("element at index " + index));
   }
 
+  private void checkIndexValidity(int index) {
+    // lazy lists like the ones built from streams are only consumed up to the index when it is valid, this supports infinite
+    // streams and huge texts
+    if (actual instanceof LazyList lazyList && index >= 0 && lazyList.hasElementAt(index)) return;
+    assertThat(index).describedAs(navigationDescription("check index validity"))
+                     .isBetween(0, IterableUtil.sizeOf(actual) - 1);
+  }
+
   /**
    * Verifies that the {@link Iterable} under test contains a single element and allows to perform assertions on that element.
    * <p>
@@ -3293,7 +3356,8 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
    */
   public SELF filteredOn(Predicate<? super ELEMENT> predicate) {
     checkArgument(predicate != null, "The filter predicate should not be null");
-    List<? extends ELEMENT> filteredIterable = stream(actual.spliterator(), false).filter(predicate).toList();
+    List<? extends ELEMENT> filteredIterable = evaluateElements(actual, parallelExecutionPool,
+                                                                elements -> elements.filter(predicate).toList());
     return newAbstractIterableAssert(filteredIterable).withAssertionState(myself);
   }
 
@@ -3707,6 +3771,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
   SELF withAssertionState(AbstractAssert assertInstance) {
     if (assertInstance instanceof AbstractIterableAssert iterableAssert) {
       return (SELF) super.withAssertionState(assertInstance).withIterables(iterableAssert.iterables)
+                                                            .withParallelExecutionPool(iterableAssert.parallelExecutionPool)
                                                             .withTypeComparators(iterableAssert.comparatorsByType)
                                                             .withComparatorsForElementPropertyOrFieldNames(iterableAssert.comparatorsForElementPropertyOrFieldNames)
                                                             .withComparatorsForElementPropertyOrFieldTypes(iterableAssert.comparatorsForElementPropertyOrFieldTypes);
@@ -3726,6 +3791,12 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
     return myself;
   }
 
+  // must be kept in sync with iterables, see inParallel
+  SELF withParallelExecutionPool(ForkJoinPool parallelExecutionPool) {
+    this.parallelExecutionPool = parallelExecutionPool;
+    return myself;
+  }
+
   SELF withTypeComparators(TypeComparators comparatorsByType) {
     this.comparatorsByType = comparatorsByType;
     return myself;
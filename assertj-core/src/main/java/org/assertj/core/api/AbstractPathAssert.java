@@ -30,6 +30,7 @@ import java.nio.file.Path;
 import java.nio.file.ProviderMismatchException;
 import java.nio.file.spi.FileSystemProvider;
 import java.security.MessageDigest;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
 
 import org.assertj.core.annotation.CheckReturnValue;
@@ -1627,6 +1628,101 @@ public abstract class AbstractPathAssert<SELF extends AbstractPathAssert<SELF>>
     return executeAssertion(() -> paths.assertIsDirectoryRecursivelyContaining(info, actual, filter));
   }
 
+  /**
+   * Verifies that the actual {@code Path} is a directory having the same tree as the given one, that is:
+   * <ul>
+   * <li>the same entries at the same relative paths,</li>
+   * <li>each entry having the same type (directory, regular file or symbolic link, links are not followed),</li>
+   * <li>regular files having the same binary content and symbolic links the same target.</li>
+   * </ul>
+   * <p>
+   * The trees are compared first, then only the files having the same size have their content compared. These
+   * comparisons are run sequentially unless {@link #inParallel()} or {@link #inParallel(ForkJoinPool)} was called, the
+   * latter bounding their concurrency.
+   * <p>
+   * The error message lists the missing, unexpected and differing entries by their path relative to the directories.
+   * <p>
+   * Examples:
+   * <pre><code class='java'> // given the following directories:
+   * // /expected
+   * // |-- foo.txt (content: "foo")
+   * // `-- bar
+   * //     `-- bar.txt (content: "bar")
+   * //
+   * // /same
+   * // |-- foo.txt (content: "foo")
+   * // `-- bar
+   * //     `-- bar.txt (content: "bar")
+   * //
+   * // /different
+   * // |-- foo.txt (content: "FOO")
+   * // `-- baz.txt
+   *
+   * Path expected = Paths.get("/expected");
+   *
+   * // The following assertion succeeds:
+   * assertThat(Paths.get("/same")).hasSameTreeAs(expected);
+   *
+   * // The following assertion fails as bar/bar.txt is missing, baz.txt unexpected and foo.txt differs:
+   * assertThat(Paths.get("/different")).hasSameTreeAs(expected);</code></pre>
+   *
+   * @param expected the directory to compare actual's tree to.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given {@code Path} is {@code null}.
+   * @throws IllegalArgumentException if the given {@code Path} is not an existing directory.
+   * @throws UncheckedIOException if an I/O error occurs while walking or reading the trees.
+   * @throws AssertionError if actual is {@code null}.
+   * @throws AssertionError if actual is not an existing directory.
+   * @throws AssertionError if actual does not have the same tree as the given directory.
+   * @since 4.0.0
+   */
+  public SELF hasSameTreeAs(Path expected) {
+    return executeAssertion(() -> paths.assertHasSameTreeAs(info, actual, expected));
+  }
+
+  /**
+   * Scans the directory trees of the following {@code isDirectoryRecursivelyContaining} assertions in parallel in the
+   * {@link ForkJoinPool#commonPool() common pool}, each subdirectory being listed by its own task, and compares the file
+   * contents of the following {@code hasSameTreeAs} assertions in the same pool.
+   * <p>
+   * This is useful for large directory trees, like build outputs, on storage serving concurrent reads well. The scan stops
+   * as soon as a matching {@code Path} is found, in parallel or not.
+   * <p>
+   * The given predicates must be thread safe.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // looking for a class file among millions of build output files
+   * assertThat(buildOutput).inParallel()
+   *                        .isDirectoryRecursivelyContaining("glob:**Foo.class");</code></pre>
+   *
+   * @return {@code this} assertion object.
+   * @since 4.0.0
+   */
+  @CheckReturnValue
+  public SELF inParallel() {
+    return inParallel(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Same as {@link #inParallel()} but scans the directory trees in the given {@link ForkJoinPool}, this allows to control
+   * the parallelism level.
+   * <p>
+   * Example:
+   * <pre><code class='java'> ForkJoinPool pool = new ForkJoinPool(4);
+   * assertThat(buildOutput).inParallel(pool)
+   *                        .isDirectoryRecursivelyContaining("glob:**Foo.class");</code></pre>
+   *
+   * @param directoryScanPool the pool used to scan the directory trees.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given pool is {@code null}.
+   * @since 4.0.0
+   */
+  @CheckReturnValue
+  public SELF inParallel(ForkJoinPool directoryScanPool) {
+    paths = paths.inParallel(directoryScanPool);
+    return myself;
+  }
+
   /**
    * Verify that the actual {@code Path} is a directory that does not contain any files matching the given {@code Predicate<Path>}.
    * <p>
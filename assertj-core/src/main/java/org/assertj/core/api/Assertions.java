@@ -3425,6 +3425,69 @@ public class Assertions implements InstanceOfAssertFactories {
     return assertThat(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link IntStreamAssert}</code> from the given {@link IntStream}.
+   * <p>
+   * Unlike {@link #assertThat(IntStream)}, the elements are collected in an {@code int[]} instead of being boxed in a {@code List},
+   * all the {@code int[]} assertions are then available.
+   * <p>
+   * <b>Be aware that the {@code IntStream} under test is consumed and closed when the returned assertion is created.</b>
+   * <p>
+   * Examples:
+   * <pre><code class='java'> assertThatIntStream(IntStream.of(1, 2, 3)).contains(1)
+   *                                            .doesNotContain(42)
+   *                                            .isSorted();</code></pre>
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   * @since 4.0.0
+   */
+  public static IntStreamAssert assertThatIntStream(IntStream actual) {
+    return new IntStreamAssert(actual);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link LongStreamAssert}</code> from the given {@link LongStream}.
+   * <p>
+   * Unlike {@link #assertThat(LongStream)}, the elements are collected in a {@code long[]} instead of being boxed in a {@code List},
+   * all the {@code long[]} assertions are then available.
+   * <p>
+   * <b>Be aware that the {@code LongStream} under test is consumed and closed when the returned assertion is created.</b>
+   * <p>
+   * Examples:
+   * <pre><code class='java'> assertThatLongStream(LongStream.of(1L, 2L, 3L)).contains(1L)
+   *                                                 .doesNotContain(42L)
+   *                                                 .isSorted();</code></pre>
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   * @since 4.0.0
+   */
+  public static LongStreamAssert assertThatLongStream(LongStream actual) {
+    return new LongStreamAssert(actual);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link DoubleStreamAssert}</code> from the given {@link DoubleStream}.
+   * <p>
+   * Unlike {@link #assertThat(DoubleStream)}, the elements are collected in a {@code double[]} instead of being boxed in a {@code List},
+   * all the {@code double[]} assertions are then available.
+   * <p>
+   * <b>Be aware that the {@code DoubleStream} under test is consumed and closed when the returned assertion is created.</b>
+   * <p>
+   * Examples:
+   * <pre><code class='java'> assertThatDoubleStream(DoubleStream.of(1.0, 2.0, 3.0)).contains(1.0)
+   *                                                        .doesNotContain(42.0)
+   *                                                        .isSorted();</code></pre>
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   * @since 4.0.0
+   */
+  public static DoubleStreamAssert assertThatDoubleStream(DoubleStream actual) {
+    return new DoubleStreamAssert(actual);
+  }
+
   /**
    * Verifies that at least one of the executables does not fail.
    * <p>
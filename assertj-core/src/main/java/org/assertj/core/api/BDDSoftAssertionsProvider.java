@@ -1544,6 +1544,69 @@ public interface BDDSoftAssertionsProvider extends SoftAssertionsProvider {
     return soft(Assertions.assertThat(actual));
   }
 
+  /**
+   * Creates a new instance of <code>{@link IntStreamAssert}</code> from the given {@link IntStream}.
+   * <p>
+   * Unlike {@link #then(IntStream)}, the elements are collected in an {@code int[]} instead of being boxed in a {@code List},
+   * all the {@code int[]} assertions are then available.
+   * <p>
+   * <b>Be aware that the {@code IntStream} under test is consumed and closed when the returned assertion is created.</b>
+   * <p>
+   * Examples:
+   * <pre><code class='java'> thenIntStream(IntStream.of(1, 2, 3)).contains(1)
+   *                                      .doesNotContain(42)
+   *                                      .isSorted();</code></pre>
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   * @since 4.0.0
+   */
+  default IntStreamAssert thenIntStream(IntStream actual) {
+    return soft(Assertions.assertThatIntStream(actual));
+  }
+
+  /**
+   * Creates a new instance of <code>{@link LongStreamAssert}</code> from the given {@link LongStream}.
+   * <p>
+   * Unlike {@link #then(LongStream)}, the elements are collected in a {@code long[]} instead of being boxed in a {@code List},
+   * all the {@code long[]} assertions are then available.
+   * <p>
+   * <b>Be aware that the {@code LongStream} under test is consumed and closed when the returned assertion is created.</b>
+   * <p>
+   * Examples:
+   * <pre><code class='java'> thenLongStream(LongStream.of(1L, 2L, 3L)).contains(1L)
+   *                                           .doesNotContain(42L)
+   *                                           .isSorted();</code></pre>
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   * @since 4.0.0
+   */
+  default LongStreamAssert thenLongStream(LongStream actual) {
+    return soft(Assertions.assertThatLongStream(actual));
+  }
+
+  /**
+   * Creates a new instance of <code>{@link DoubleStreamAssert}</code> from the given {@link DoubleStream}.
+   * <p>
+   * Unlike {@link #then(DoubleStream)}, the elements are collected in a {@code double[]} instead of being boxed in a {@code List},
+   * all the {@code double[]} assertions are then available.
+   * <p>
+   * <b>Be aware that the {@code DoubleStream} under test is consumed and closed when the returned assertion is created.</b>
+   * <p>
+   * Examples:
+   * <pre><code class='java'> thenDoubleStream(DoubleStream.of(1.0, 2.0, 3.0)).contains(1.0)
+   *                                                  .doesNotContain(42.0)
+   *                                                  .isSorted();</code></pre>
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   * @since 4.0.0
+   */
+  default DoubleStreamAssert thenDoubleStream(DoubleStream actual) {
+    return soft(Assertions.assertThatDoubleStream(actual));
+  }
+
   /**
    * Creates a new instance of <code>{@link ListAssert}</code> from the given {@link DoubleStream}.
    * <p>
@@ -15,10 +15,12 @@
  */
 package org.assertj.core.api;
 
+import static java.util.Arrays.mismatch;
 import static org.assertj.core.error.ShouldHaveSameSizeAs.shouldHaveSameSizeAs;
 import static org.assertj.core.error.ShouldNotBeNull.shouldNotBeNull;
 import static org.assertj.core.error.SubarraysShouldHaveSameSize.subarraysShouldHaveSameSize;
 import static org.assertj.core.error.array2d.Array2dElementShouldBeDeepEqual.elementShouldBeEqual;
+import static org.assertj.core.internal.Arrays2D.toStringAround;
 
 import java.util.Comparator;
 
@@ -78,7 +80,7 @@ public class Boolean2DArrayAssert extends Abstract2DArrayAssert<Boolean2DArrayAs
       if (actual == expected) return;
       isNotNull();
       if (expected.length != actual.length) {
-        throw failures.failure(info, shouldHaveSameSizeAs(actual, expected, actual.length, expected.length));
+        throw failures.failure(info, shouldHaveSameSizeAs(info.representation(), actual, expected));
       }
 
       for (int i = 0; i < actual.length; i++) {
@@ -88,15 +90,15 @@ public class Boolean2DArrayAssert extends Abstract2DArrayAssert<Boolean2DArrayAs
         if (actualSubArray == expectedSubArray) continue;
         if (actualSubArray == null) throw failures.failure(info, shouldNotBeNull("actual[" + i + "]"));
         if (expectedSubArray.length != actualSubArray.length) {
-          throw failures.failure(info, subarraysShouldHaveSameSize(actual, expected, actualSubArray, actualSubArray.length,
-                                                                   expectedSubArray, expectedSubArray.length, i),
-                                 info.representation().toStringOf(actual), info.representation().toStringOf(expected));
+          throw failures.failure(info, subarraysShouldHaveSameSize(info.representation(), actual, expected, i),
+                                 toStringAround(info.representation(), actual, i, expectedSubArray.length),
+                                 toStringAround(info.representation(), expected, i, expectedSubArray.length));
         }
-        for (int j = 0; j < actualSubArray.length; j++) {
-          if (actualSubArray[j] != expectedSubArray[j]) {
-            throw failures.failure(info, elementShouldBeEqual(actualSubArray[j], expectedSubArray[j], i, j),
-                                   info.representation().toStringOf(actual), info.representation().toStringOf(expected));
-          }
+        int j = mismatch(actualSubArray, expectedSubArray);
+        if (j != -1) {
+          throw failures.failure(info, elementShouldBeEqual(actualSubArray[j], expectedSubArray[j], i, j),
+                                 toStringAround(info.representation(), actual, i, j),
+                                 toStringAround(info.representation(), expected, i, j));
         }
       }
     });
@@ -18,8 +18,7 @@ package org.assertj.core.api;
 import java.math.BigDecimal;
 import java.util.Comparator;
 
-import org.assertj.core.internal.Doubles;
-import org.assertj.core.internal.Floats;
+import org.assertj.core.internal.ToleranceComparator;
 
 /**
  * Creates floating-point comparators with a configured precision.
@@ -40,19 +39,21 @@ public class ComparatorFactory {
    */
   public Comparator<Double> doubleComparatorWithPrecision(double precision) {
     // can't use <> with anonymous class in java 8
-    return new Comparator<>() {
+    return new ToleranceComparator<>() {
 
       @Override
       public int compare(Double double1, Double double2) {
-        if (Doubles.instance().isNanOrInfinite(precision)) {
-          throw new IllegalArgumentException("Precision should not be Nan or Infinity!");
-        }
-        // handle NAN or Infinity cases with Java Float behavior (and not BigDecimal that are used afterwards)
-        if (Doubles.instance().isNanOrInfinite(double1) || Doubles.instance().isNanOrInfinite(double2)) {
-          return Double.compare(double1, double2);
-        }
-        // if floats are close enough they are considered equal, otherwise we compare as BigDecimal which does exact computation.
-        return isWithinPrecision(double1, double2, precision) ? 0 : asBigDecimal(double1).compareTo(asBigDecimal(double2));
+        return compareWithPrecision(double1, double2, precision);
+      }
+
+      @Override
+      public boolean areEqual(double value1, double value2) {
+        return compareWithPrecision(value1, value2, precision) == 0;
+      }
+
+      @Override
+      public Class<Double> getNumberType() {
+        return Double.class;
       }
 
       @Override
@@ -70,20 +71,21 @@ public class ComparatorFactory {
    */
   public Comparator<Float> floatComparatorWithPrecision(float precision) {
     // can't use <> with anonymous class in java 8
-    return new Comparator<>() {
+    return new ToleranceComparator<>() {
 
       @Override
       public int compare(Float float1, Float float2) {
-        Floats floats = Floats.instance();
-        if (floats.isNanOrInfinite(precision)) {
-          throw new IllegalArgumentException("Precision should not be Nan or Infinity!");
-        }
-        // handle NAN or Infinity cases with Java Float behavior (and not BigDecimal that are used afterwards)
-        if (floats.isNanOrInfinite(float1) || floats.isNanOrInfinite(float2)) {
-          return Float.compare(float1, float2);
-        }
-        // if floats are close enough they are considered equal, otherwise we compare as BigDecimal which does exact computation.
-        return isWithinPrecision(float1, float2, precision) ? 0 : asBigDecimal(float1).compareTo(asBigDecimal(float2));
+        return compareWithPrecision(float1, float2, precision);
+      }
+
+      @Override
+      public boolean areEqual(double value1, double value2) {
+        return compareWithPrecision((float) value1, (float) value2, precision) == 0;
+      }
+
+      @Override
+      public Class<Float> getNumberType() {
+        return Float.class;
       }
 
       @Override
@@ -93,32 +95,35 @@ public class ComparatorFactory {
     };
   }
 
-  /**
-   * Convert to a precise BigDecimal object using an intermediate String.
-   *
-   * @param <T> type of expected and precision, which should be the subclass of java.lang.Number and java.lang.Comparable
-   * @param number the Number to convert
-   * @return the built BigDecimal
-   */
-  private static <T extends Number> BigDecimal asBigDecimal(T number) {
-    return new BigDecimal(String.valueOf(number));
+  private static int compareWithPrecision(double double1, double double2, double precision) {
+    if (!Double.isFinite(precision)) throw new IllegalArgumentException("Precision should not be Nan or Infinity!");
+    // handle NAN or Infinity cases with Java Double behavior (and not BigDecimal that are used afterwards)
+    if (!Double.isFinite(double1) || !Double.isFinite(double2)) return Double.compare(double1, double2);
+    // if doubles are close enough they are considered equal, otherwise we compare as BigDecimal which does exact computation.
+    return compareWithPrecision(new BigDecimal(String.valueOf(double1)), new BigDecimal(String.valueOf(double2)),
+                                new BigDecimal(String.valueOf(precision)));
+  }
+
+  private static int compareWithPrecision(float float1, float float2, float precision) {
+    if (!Float.isFinite(precision)) throw new IllegalArgumentException("Precision should not be Nan or Infinity!");
+    // handle NAN or Infinity cases with Java Float behavior (and not BigDecimal that are used afterwards)
+    if (!Float.isFinite(float1) || !Float.isFinite(float2)) return Float.compare(float1, float2);
+    // if floats are close enough they are considered equal, otherwise we compare as BigDecimal which does exact computation.
+    return compareWithPrecision(new BigDecimal(String.valueOf(float1)), new BigDecimal(String.valueOf(float2)),
+                                new BigDecimal(String.valueOf(precision)));
   }
 
   /**
-   * Returns true if the abs(expected - precision) is &lt;= precision, false otherwise.
+   * Returns 0 if the abs(expected - actual) is &lt;= precision, the comparison of actual and expected otherwise.
    * @param actual    the actual value
    * @param expected  the expected value
    * @param precision the acceptable precision
    *
-   * @param <T> type of number to compare including the precision
-   * @return whether true if the abs(expected - precision) is &lt;= precision, false otherwise.
+   * @return 0 if the abs(expected - actual) is &lt;= precision, the comparison of actual and expected otherwise.
    */
-  private static <T extends Number> boolean isWithinPrecision(T actual, T expected, T precision) {
-    BigDecimal expectedBigDecimal = asBigDecimal(expected);
-    BigDecimal actualBigDecimal = asBigDecimal(actual);
-    BigDecimal absDifference = expectedBigDecimal.subtract(actualBigDecimal).abs();
-    BigDecimal precisionAsBigDecimal = asBigDecimal(precision);
-    return absDifference.compareTo(precisionAsBigDecimal) <= 0;
+  private static int compareWithPrecision(BigDecimal actual, BigDecimal expected, BigDecimal precision) {
+    BigDecimal absDifference = expected.subtract(actual).abs();
+    return absDifference.compareTo(precision) <= 0 ? 0 : actual.compareTo(expected);
   }
 
 }
@@ -15,24 +15,44 @@
  */
 package org.assertj.core.api;
 
-import static java.util.Collections.synchronizedList;
+import static java.lang.String.format;
 import static java.util.Collections.unmodifiableList;
+import static java.util.stream.Collectors.joining;
+import static org.assertj.core.util.Preconditions.checkArgument;
+import static org.assertj.core.util.Throwables.getFirstStackTraceElementFromTest;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Default in-memory assertion error collector.
+ * <p>
+ * Errors can be collected concurrently without locking, by default all of them are retained, use
+ * {@link #setMaxErrorsRetained(int)} to bound the memory used when collecting a lot of errors.
  */
 public class DefaultAssertionErrorCollector implements AssertionErrorCollector {
 
   // Marking this field as volatile doesn't ensure complete thread safety
   // (mutual exclusion, race-free behavior), but guarantees eventual visibility
   private volatile boolean wasSuccess = true;
-  private final List<AssertionError> collectedAssertionErrors = synchronizedList(new ArrayList<>());
+  private final Queue<AssertionError> collectedAssertionErrors = new ConcurrentLinkedQueue<>();
 
-  private final List<AfterAssertionErrorCollected> callbacks = synchronizedList(new ArrayList<>());
+  // callbacks are rarely registered but iterated for each collected error
+  private final List<AfterAssertionErrorCollected> callbacks = new CopyOnWriteArrayList<>();
+
+  private volatile int maxErrorsRetained = Integer.MAX_VALUE;
+  private final AtomicLong collectedErrorsCount = new AtomicLong();
+  // count of the errors not retained by location of the failing assertion
+  private final Map<String, LongAdder> notRetainedErrorsCountBySite = new ConcurrentHashMap<>();
 
   private AssertionErrorCollector delegate = null;
 
@@ -58,7 +78,7 @@ public class DefaultAssertionErrorCollector implements AssertionErrorCollector {
   @Override
   public void collectAssertionError(AssertionError error) {
     if (delegate == null) {
-      collectedAssertionErrors.add(error);
+      retain(error);
       wasSuccess = false;
     } else {
       delegate.collectAssertionError(error);
@@ -66,10 +86,27 @@ public class DefaultAssertionErrorCollector implements AssertionErrorCollector {
     callbacks.forEach(callback -> callback.onAssertionErrorCollected(error));
   }
 
+  private void retain(AssertionError error) {
+    if (collectedErrorsCount.getAndIncrement() < maxErrorsRetained) {
+      collectedAssertionErrors.add(error);
+    } else {
+      // only keep a count of the errors beyond the budget, not their messages and stack traces
+      notRetainedErrorsCountBySite.computeIfAbsent(siteOf(error), site -> new LongAdder()).increment();
+    }
+  }
+
+  private static String siteOf(AssertionError error) {
+    StackTraceElement site = getFirstStackTraceElementFromTest(error.getStackTrace());
+    return site == null ? "unknown location" : site.toString();
+  }
+
   /**
    * Returns a list of soft assertions collected errors. If a delegate
    * has been set (see {@link #setDelegate(AssertionErrorCollector) setDelegate()},
    * then this method will return the result of the delegate's {@code assertErrorsCollected()}.
+   * <p>
+   * If more errors than {@link #setMaxErrorsRetained(int) maxErrorsRetained} were collected, the list ends with an error
+   * reporting how many similar failures were not retained for each failing assertion location.
    *
    * @return A list of soft assertions collected errors.
    */
@@ -77,10 +114,52 @@ public class DefaultAssertionErrorCollector implements AssertionErrorCollector {
   public List<AssertionError> assertionErrorsCollected() {
     List<AssertionError> errors = delegate != null
         ? delegate.assertionErrorsCollected()
-        : unmodifiableList(collectedAssertionErrors);
+        : retainedErrors();
     return decorateErrorsCollected(errors);
   }
 
+  private List<AssertionError> retainedErrors() {
+    List<AssertionError> errors = new ArrayList<>(collectedAssertionErrors);
+    if (!notRetainedErrorsCountBySite.isEmpty()) errors.add(notRetainedErrors());
+    return unmodifiableList(errors);
+  }
+
+  private AssertionError notRetainedErrors() {
+    Map<String, Long> notRetainedErrorsCountBySortedSite = new TreeMap<>();
+    notRetainedErrorsCountBySite.forEach((site, count) -> notRetainedErrorsCountBySortedSite.put(site, count.sum()));
+    long notRetainedErrorsCount = notRetainedErrorsCountBySortedSite.values().stream().mapToLong(Long::longValue).sum();
+    String sites = notRetainedErrorsCountBySortedSite.entrySet().stream()
+                                                     .map(entry -> format("- %s at %s", entry.getValue(), entry.getKey()))
+                                                     .collect(joining(format("%n")));
+    AssertionError error = new AssertionError(format("%s more similar failures were not retained (maxErrorsRetained = %s):%n%s",
+                                                     notRetainedErrorsCount, maxErrorsRetained, sites));
+    // the stack trace would only point to this collector
+    error.setStackTrace(new StackTraceElement[0]);
+    return error;
+  }
+
+  /**
+   * Sets the maximum number of collected errors to retain, the errors collected beyond that number are not kept, only
+   * the number of errors per failing assertion location is, which bounds the memory used by soft assertions collecting a
+   * lot of errors (by default all errors are retained).
+   * <p>
+   * {@link #assertionErrorsCollected()} reports the retained errors followed by the number of similar failures that were
+   * not retained, e.g.:
+   * <pre><code class='java'> 2 more similar failures were not retained (maxErrorsRetained = 1):
+   * - 2 at org.example.RecordsTest.should_validate_records(RecordsTest.java:42)</code></pre>
+   * <p>
+   * Callbacks registered with {@link #addAfterAssertionErrorCollected(AfterAssertionErrorCollected)} are still notified
+   * of all errors.
+   *
+   * @param maxErrorsRetained the maximum number of collected errors to retain, must be &gt;= 0.
+   * @throws IllegalArgumentException if {@code maxErrorsRetained} is negative.
+   * @since 4.0.0
+   */
+  public void setMaxErrorsRetained(int maxErrorsRetained) {
+    checkArgument(maxErrorsRetained >= 0, "maxErrorsRetained must be >= 0, but was %s", maxErrorsRetained);
+    this.maxErrorsRetained = maxErrorsRetained;
+  }
+
   /**
    * Same as {@link DefaultAssertionErrorCollector#addAfterAssertionErrorCollected(AfterAssertionErrorCollected)}, but
    * also removes all previously added callbacks.
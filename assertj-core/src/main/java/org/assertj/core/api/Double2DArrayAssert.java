@@ -19,6 +19,7 @@ import static org.assertj.core.error.ShouldHaveSameSizeAs.shouldHaveSameSizeAs;
 import static org.assertj.core.error.ShouldNotBeNull.shouldNotBeNull;
 import static org.assertj.core.error.SubarraysShouldHaveSameSize.subarraysShouldHaveSameSize;
 import static org.assertj.core.error.array2d.Array2dElementShouldBeDeepEqual.elementShouldBeEqual;
+import static org.assertj.core.internal.Arrays2D.toStringAround;
 
 import java.util.Comparator;
 
@@ -77,7 +78,7 @@ public class Double2DArrayAssert extends Abstract2DArrayAssert<Double2DArrayAsse
       if (actual == expected) return;
       isNotNull();
       if (expected.length != actual.length) {
-        throw failures.failure(info, shouldHaveSameSizeAs(actual, expected, actual.length, expected.length));
+        throw failures.failure(info, shouldHaveSameSizeAs(info.representation(), actual, expected));
       }
 
       for (int i = 0; i < actual.length; i++) {
@@ -87,15 +88,16 @@ public class Double2DArrayAssert extends Abstract2DArrayAssert<Double2DArrayAsse
         if (actualSubArray == expectedSubArray) continue;
         if (actualSubArray == null) throw failures.failure(info, shouldNotBeNull("actual[" + i + "]"));
         if (expectedSubArray.length != actualSubArray.length) {
-          throw failures.failure(info, subarraysShouldHaveSameSize(actual, expected, actualSubArray, actualSubArray.length,
-                                                                   expectedSubArray, expectedSubArray.length, i),
-                                 info.representation().toStringOf(actual), info.representation().toStringOf(expected));
+          throw failures.failure(info, subarraysShouldHaveSameSize(info.representation(), actual, expected, i),
+                                 toStringAround(info.representation(), actual, i, expectedSubArray.length),
+                                 toStringAround(info.representation(), expected, i, expectedSubArray.length));
 
         }
         for (int j = 0; j < actualSubArray.length; j++) {
           if (actualSubArray[j] != expectedSubArray[j]) {
             throw failures.failure(info, elementShouldBeEqual(actualSubArray[j], expectedSubArray[j], i, j),
-                                   info.representation().toStringOf(actual), info.representation().toStringOf(expected));
+                                   toStringAround(info.representation(), actual, i, j),
+                                   toStringAround(info.representation(), expected, i, j));
 
           }
         }
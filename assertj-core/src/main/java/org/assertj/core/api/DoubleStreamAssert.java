@@ -0,0 +1,84 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api;
+
+import java.util.stream.DoubleStream;
+
+/**
+ * Assertion methods for {@link DoubleStream}s.
+ * <p>
+ * The stream under test is consumed once into a {@code double[]} (without boxing its elements) so that all the
+ * {@code double} array assertions can be used on it, this is cheaper than going through a {@code List<Double>}.
+ * <p>
+ * To create an instance of this class, invoke <code>{@link Assertions#assertThatDoubleStream(DoubleStream)}</code>.
+ */
+public class DoubleStreamAssert extends AbstractDoubleArrayAssert<DoubleStreamAssert> {
+
+  private final DoubleStream stream;
+
+  /**
+   * Creates a new {@link DoubleStream} assertion, the given stream is consumed and closed.
+   *
+   * @param actual the actual stream to verify
+   */
+  public DoubleStreamAssert(DoubleStream actual) {
+    super(toArray(actual), DoubleStreamAssert.class);
+    this.stream = actual;
+  }
+
+  private static double[] toArray(DoubleStream stream) {
+    if (stream == null) return null;
+    try (stream) {
+      return stream.toArray();
+    }
+  }
+
+  /**
+   * Verifies that the actual stream is the given one or that its elements are equal to the given {@code double[]}.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertions succeed
+   * DoubleStream stream = DoubleStream.of(1.0, 2.0, 3.0);
+   * assertThatDoubleStream(stream).isEqualTo(stream);
+   * assertThatDoubleStream(DoubleStream.of(1.0, 2.0, 3.0)).isEqualTo(new double[] { 1.0, 2.0, 3.0 });
+   *
+   * // assertion fails as a stream can't be equal to another one
+   * assertThatDoubleStream(DoubleStream.of(1.0, 2.0, 3.0)).isEqualTo(DoubleStream.of(1.0, 2.0, 3.0));</code></pre>
+   *
+   * @param expected the given value to compare the actual value to.
+   * @return {@code this} assertion object.
+   */
+  @Override
+  public DoubleStreamAssert isEqualTo(Object expected) {
+    return executeAssertion(() -> {
+      if (stream != null && stream == expected) return;
+      super.isEqualTo(expected);
+    });
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public DoubleStreamAssert isSameAs(Object expected) {
+    return executeAssertion(() -> objects.assertSame(info, stream, expected));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public DoubleStreamAssert isNotSameAs(Object other) {
+    return executeAssertion(() -> objects.assertNotSame(info, stream, other));
+  }
+
+}
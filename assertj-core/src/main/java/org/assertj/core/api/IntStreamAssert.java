@@ -0,0 +1,84 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api;
+
+import java.util.stream.IntStream;
+
+/**
+ * Assertion methods for {@link IntStream}s.
+ * <p>
+ * The stream under test is consumed once into a {@code int[]} (without boxing its elements) so that all the
+ * {@code int} array assertions can be used on it, this is cheaper than going through a {@code List<Integer>}.
+ * <p>
+ * To create an instance of this class, invoke <code>{@link Assertions#assertThatIntStream(IntStream)}</code>.
+ */
+public class IntStreamAssert extends AbstractIntArrayAssert<IntStreamAssert> {
+
+  private final IntStream stream;
+
+  /**
+   * Creates a new {@link IntStream} assertion, the given stream is consumed and closed.
+   *
+   * @param actual the actual stream to verify
+   */
+  public IntStreamAssert(IntStream actual) {
+    super(toArray(actual), IntStreamAssert.class);
+    this.stream = actual;
+  }
+
+  private static int[] toArray(IntStream stream) {
+    if (stream == null) return null;
+    try (stream) {
+      return stream.toArray();
+    }
+  }
+
+  /**
+   * Verifies that the actual stream is the given one or that its elements are equal to the given {@code int[]}.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertions succeed
+   * IntStream stream = IntStream.of(1, 2, 3);
+   * assertThatIntStream(stream).isEqualTo(stream);
+   * assertThatIntStream(IntStream.of(1, 2, 3)).isEqualTo(new int[] { 1, 2, 3 });
+   *
+   * // assertion fails as a stream can't be equal to another one
+   * assertThatIntStream(IntStream.of(1, 2, 3)).isEqualTo(IntStream.of(1, 2, 3));</code></pre>
+   *
+   * @param expected the given value to compare the actual value to.
+   * @return {@code this} assertion object.
+   */
+  @Override
+  public IntStreamAssert isEqualTo(Object expected) {
+    return executeAssertion(() -> {
+      if (stream != null && stream == expected) return;
+      super.isEqualTo(expected);
+    });
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public IntStreamAssert isSameAs(Object expected) {
+    return executeAssertion(() -> objects.assertSame(info, stream, expected));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public IntStreamAssert isNotSameAs(Object other) {
+    return executeAssertion(() -> objects.assertNotSame(info, stream, other));
+  }
+
+}
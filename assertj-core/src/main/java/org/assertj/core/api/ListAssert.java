@@ -20,15 +20,21 @@ import static org.assertj.core.internal.CommonValidations.checkIsNotNull;
 import static org.assertj.core.util.Lists.newArrayList;
 
 import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.BaseStream;
 import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.assertj.core.internal.Failures;
+import org.assertj.core.internal.LazyList;
 
 /**
  * Assertion methods for {@link List}s.
@@ -309,10 +315,20 @@ public class ListAssert<ELEMENT> extends
     return (ListFromStream<ELEMENT, Stream<ELEMENT>>) actual;
   }
 
+  /**
+   * {@link List} view of a stream that pulls the stream elements lazily, only as far as needed by the assertion.
+   * <p>
+   * Prefix oriented assertions like {@code first()}, {@code element(index)}, {@code startsWith} or {@code anyMatch} only
+   * consume the elements they inspect (which allows to use them on infinite streams), the stream is fully consumed when
+   * an assertion needs its size. Consumed elements are kept so that several assertions can be chained.
+   */
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
-  static class ListFromStream<ELEMENT, STREAM extends BaseStream<ELEMENT, STREAM>> extends AbstractList<ELEMENT> {
+  static class ListFromStream<ELEMENT, STREAM extends BaseStream<ELEMENT, STREAM>> extends AbstractList<ELEMENT>
+      implements LazyList {
     private final BaseStream<ELEMENT, STREAM> stream;
-    private List<ELEMENT> list;
+    private final List<ELEMENT> consumedElements = new ArrayList<>();
+    private Iterator<ELEMENT> streamIterator;
+    private boolean exhausted;
 
     public ListFromStream(BaseStream<ELEMENT, STREAM> stream) {
       this.stream = stream;
@@ -320,27 +336,67 @@ public class ListAssert<ELEMENT> extends
 
     @Override
     public Stream<ELEMENT> stream() {
-      initList();
-      return list.stream();
+      return StreamSupport.stream(spliterator(), false);
     }
 
-    private void initList() {
-      if (list == null) {
-        list = newArrayList(stream.iterator());
-        stream.close();
-      }
+    @Override
+    public Spliterator<ELEMENT> spliterator() {
+      return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED);
+    }
+
+    @Override
+    public Iterator<ELEMENT> iterator() {
+      return new Iterator<>() {
+        private int index;
+
+        @Override
+        public boolean hasNext() {
+          return hasElementAt(index);
+        }
+
+        @Override
+        public ELEMENT next() {
+          if (!hasNext()) throw new NoSuchElementException();
+          return consumedElements.get(index++);
+        }
+      };
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return !hasElementAt(0);
     }
 
     @Override
     public int size() {
-      initList();
-      return list.size();
+      consumeUpTo(Integer.MAX_VALUE);
+      return consumedElements.size();
     }
 
     @Override
     public ELEMENT get(int index) {
-      initList();
-      return list.get(index);
+      if (index >= 0 && !hasElementAt(index))
+        throw new IndexOutOfBoundsException("Index: %d, Size: %d".formatted(index, consumedElements.size()));
+      return consumedElements.get(index);
+    }
+
+    @Override
+    public boolean hasElementAt(int index) {
+      consumeUpTo(index);
+      return index < consumedElements.size();
+    }
+
+    private void consumeUpTo(int index) {
+      if (exhausted) return;
+      if (streamIterator == null) streamIterator = stream.iterator();
+      while (consumedElements.size() <= index) {
+        if (!streamIterator.hasNext()) {
+          exhausted = true;
+          stream.close();
+          return;
+        }
+        consumedElements.add(streamIterator.next());
+      }
     }
 
   }
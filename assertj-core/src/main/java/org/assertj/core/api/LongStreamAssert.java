@@ -0,0 +1,84 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api;
+
+import java.util.stream.LongStream;
+
+/**
+ * Assertion methods for {@link LongStream}s.
+ * <p>
+ * The stream under test is consumed once into a {@code long[]} (without boxing its elements) so that all the
+ * {@code long} array assertions can be used on it, this is cheaper than going through a {@code List<Long>}.
+ * <p>
+ * To create an instance of this class, invoke <code>{@link Assertions#assertThatLongStream(LongStream)}</code>.
+ */
+public class LongStreamAssert extends AbstractLongArrayAssert<LongStreamAssert> {
+
+  private final LongStream stream;
+
+  /**
+   * Creates a new {@link LongStream} assertion, the given stream is consumed and closed.
+   *
+   * @param actual the actual stream to verify
+   */
+  public LongStreamAssert(LongStream actual) {
+    super(toArray(actual), LongStreamAssert.class);
+    this.stream = actual;
+  }
+
+  private static long[] toArray(LongStream stream) {
+    if (stream == null) return null;
+    try (stream) {
+      return stream.toArray();
+    }
+  }
+
+  /**
+   * Verifies that the actual stream is the given one or that its elements are equal to the given {@code long[]}.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertions succeed
+   * LongStream stream = LongStream.of(1L, 2L, 3L);
+   * assertThatLongStream(stream).isEqualTo(stream);
+   * assertThatLongStream(LongStream.of(1L, 2L, 3L)).isEqualTo(new long[] { 1L, 2L, 3L });
+   *
+   * // assertion fails as a stream can't be equal to another one
+   * assertThatLongStream(LongStream.of(1L, 2L, 3L)).isEqualTo(LongStream.of(1L, 2L, 3L));</code></pre>
+   *
+   * @param expected the given value to compare the actual value to.
+   * @return {@code this} assertion object.
+   */
+  @Override
+  public LongStreamAssert isEqualTo(Object expected) {
+    return executeAssertion(() -> {
+      if (stream != null && stream == expected) return;
+      super.isEqualTo(expected);
+    });
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public LongStreamAssert isSameAs(Object expected) {
+    return executeAssertion(() -> objects.assertSame(info, stream, expected));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public LongStreamAssert isNotSameAs(Object other) {
+    return executeAssertion(() -> objects.assertNotSame(info, stream, other));
+  }
+
+}
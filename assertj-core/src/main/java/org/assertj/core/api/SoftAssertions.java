@@ -178,6 +178,32 @@ public class SoftAssertions extends AbstractSoftAssertions implements StandardSo
   /** Creates a soft assertions instance. */
   public SoftAssertions() {}
 
+  /**
+   * Creates a soft assertions instance retaining at most the given number of errors, the errors collected beyond that
+   * number are only counted per failing assertion location and reported as similar failures by {@link #assertAll()}.
+   * <p>
+   * This bounds the memory used when soft assertions are run on a lot of values and many of them fail.
+   * <p>
+   * Example:
+   * <pre><code class='java'> SoftAssertions softly = SoftAssertions.withMaxErrorsRetained(100);
+   *
+   * records.parallelStream().forEach(record -&gt; softly.assertThat(record.isValid()).isTrue());
+   *
+   * // reports the first 100 failures followed by the number of other similar failures
+   * softly.assertAll();</code></pre>
+   *
+   * @param maxErrorsRetained the maximum number of collected errors to retain, must be &gt;= 0.
+   * @return a new soft assertions instance retaining at most the given number of errors.
+   * @throws IllegalArgumentException if {@code maxErrorsRetained} is negative.
+   * @see #setMaxErrorsRetained(int)
+   * @since 4.0.0
+   */
+  public static SoftAssertions withMaxErrorsRetained(int maxErrorsRetained) {
+    SoftAssertions softly = new SoftAssertions();
+    softly.setMaxErrorsRetained(maxErrorsRetained);
+    return softly;
+  }
+
   /**
    * Convenience method for calling {@link SoftAssertionsProvider#assertSoftly} for these assertion types.
    * Equivalent to {@code SoftAssertion.assertSoftly(SoftAssertions.class, softly)}.
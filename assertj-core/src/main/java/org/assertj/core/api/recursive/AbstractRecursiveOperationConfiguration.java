@@ -29,6 +29,7 @@ import java.util.stream.Stream;
 
 import org.assertj.core.api.RecursiveComparisonAssert;
 import org.assertj.core.api.recursive.comparison.FieldLocation;
+import org.assertj.core.util.Patterns;
 import org.assertj.core.util.Strings;
 
 /**
@@ -327,7 +328,7 @@ public abstract class AbstractRecursiveOperationConfiguration {
 
   private static List<Pattern> toPatterns(String[] regexes) {
     return Stream.of(regexes)
-                 .map(Pattern::compile)
+                 .map(Patterns::compile)
                  .collect(toList());
   }
 
@@ -27,6 +27,8 @@ import java.util.Objects;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
+import org.assertj.core.util.Patterns;
+
 /**
  * An internal holder of the comparators for fields described by their path without element index.
  * <p>
@@ -57,7 +59,7 @@ public class FieldComparators extends FieldHolder<Comparator<?>> {
    * @param comparator the comparator to use for the regexes
    */
   public void registerComparatorForFieldsMatchingRegexes(String[] regexes, Comparator<?> comparator) {
-    List<Pattern> patterns = Stream.of(regexes).map(Pattern::compile).collect(toList());
+    List<Pattern> patterns = Stream.of(regexes).map(Patterns::compile).collect(toList());
     comparatorByPatterns.addFirst(new ComparatorForPatterns(patterns, comparator));
   }
 
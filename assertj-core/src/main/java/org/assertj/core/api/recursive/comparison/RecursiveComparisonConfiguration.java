@@ -52,6 +52,7 @@ import org.assertj.core.internal.TypeComparators;
 import org.assertj.core.internal.TypeMessages;
 import org.assertj.core.presentation.Representation;
 import org.assertj.core.util.DualClass;
+import org.assertj.core.util.Patterns;
 
 /** Configuration controlling recursive object graph comparison. */
 public class RecursiveComparisonConfiguration extends AbstractRecursiveOperationConfiguration {
@@ -510,7 +511,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
    */
   public void ignoreOverriddenEqualsForFieldsMatchingRegexes(String... regexes) {
     ignoredOverriddenEqualsForFieldsMatchingRegexes.addAll(Stream.of(regexes)
-                                                                 .map(Pattern::compile)
+                                                                 .map(Patterns::compile)
                                                                  .toList());
   }
 
@@ -598,7 +599,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
    */
   public void ignoreCollectionOrderInFieldsMatchingRegexes(String... regexes) {
     ignoredCollectionOrderInFieldsMatchingRegexes.addAll(Stream.of(regexes)
-                                                               .map(Pattern::compile)
+                                                               .map(Patterns::compile)
                                                                .toList());
   }
 
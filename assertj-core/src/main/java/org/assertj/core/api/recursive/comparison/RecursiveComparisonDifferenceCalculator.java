@@ -999,7 +999,7 @@ public class RecursiveComparisonDifferenceCalculator {
    * between itself and just below Object in its inheritance.
    */
   @SuppressWarnings("DuplicatedCode")
-  static boolean hasOverriddenEquals(Class<?> c) {
+  public static boolean hasOverriddenEquals(Class<?> c) {
     if (customEquals.containsKey(c)) {
       return customEquals.get(c);
     }
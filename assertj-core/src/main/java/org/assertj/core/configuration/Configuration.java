@@ -18,6 +18,7 @@ package org.assertj.core.configuration;
 import static java.lang.String.format;
 import static java.util.Collections.emptyList;
 import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
+import static org.assertj.core.util.Preconditions.checkArgument;
 
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
@@ -29,7 +30,13 @@ import org.assertj.core.api.AbstractDateAssert;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.Assumptions;
 import org.assertj.core.description.Description;
+import org.assertj.core.error.ShouldBeEqual;
+import org.assertj.core.internal.Diff;
+import org.assertj.core.internal.Digests;
+import org.assertj.core.internal.FileContent;
 import org.assertj.core.presentation.Representation;
+import org.assertj.core.presentation.StandardRepresentation;
+import org.assertj.core.util.Patterns;
 
 /**
  * All configuration settings for AssertJ Core.
@@ -59,6 +66,18 @@ public class Configuration {
   public static final int MAX_STACKTRACE_ELEMENTS_DISPLAYED = 3;
   /** Default preferred assumption exception. */
   public static final PreferredAssumptionException PREFERRED_ASSUMPTION_EXCEPTION = PreferredAssumptionException.AUTO_DETECT;
+  /** Default maximum number of compiled regex patterns to cache. */
+  public static final int MAX_CACHED_PATTERNS = 256;
+  /** Default maximum number of differences computed when comparing contents. */
+  public static final int MAX_CONTENT_DIFF_DELTAS = 100;
+  /** Default maximum number of bytes of a file attached to an assertion error for IDE diffs. */
+  public static final int MAX_FILE_CONTENT_BYTES_FOR_IDE_DIFF = 1024 * 1024;
+  /** Default maximum number of file digests to cache, 0 meaning that file digests are not cached. */
+  public static final int MAX_CACHED_FILE_DIGESTS = 0;
+  /** Default maximum length of the representation of strings, iterables, arrays and maps, no limit by default. */
+  public static final int MAX_REPRESENTATION_LENGTH = Integer.MAX_VALUE;
+  /** Default maximum length of the actual and expected values shown in equality error messages. */
+  public static final int MAX_LENGTH_FOR_EQUALITY_ERROR_VALUES = 10_000;
 
   // load default configuration after default values are initialized otherwise PREFERRED_ASSUMPTION_EXCEPTION is null
   /** Shared default configuration. */
@@ -75,6 +94,12 @@ public class Configuration {
   private Consumer<Description> descriptionConsumer;
   private int maxStackTraceElementsDisplayed;
   private PreferredAssumptionException preferredAssumptionException;
+  private int maxCachedPatterns;
+  private int maxContentDiffDeltas;
+  private int maxFileContentBytesForIdeDiff;
+  private int maxCachedFileDigests;
+  private int maxRepresentationLength;
+  private int maxLengthForEqualityErrorValues;
 
   /** Creates a configuration initialized with default values. */
   public Configuration() {
@@ -96,6 +121,12 @@ public class Configuration {
     descriptionConsumer = null;
     maxStackTraceElementsDisplayed = MAX_STACKTRACE_ELEMENTS_DISPLAYED;
     preferredAssumptionException = PREFERRED_ASSUMPTION_EXCEPTION;
+    maxCachedPatterns = MAX_CACHED_PATTERNS;
+    maxContentDiffDeltas = MAX_CONTENT_DIFF_DELTAS;
+    maxFileContentBytesForIdeDiff = MAX_FILE_CONTENT_BYTES_FOR_IDE_DIFF;
+    maxCachedFileDigests = MAX_CACHED_FILE_DIGESTS;
+    maxRepresentationLength = MAX_REPRESENTATION_LENGTH;
+    maxLengthForEqualityErrorValues = MAX_LENGTH_FOR_EQUALITY_ERROR_VALUES;
   }
 
   /**
@@ -383,6 +414,177 @@ public class Configuration {
     this.preferredAssumptionException = preferredAssumptionException;
   }
 
+  /**
+   * Returns the maximum number of compiled regex patterns cached by the regex based assertions.
+   * Default is {@value #MAX_CACHED_PATTERNS}.
+   * <p>
+   * See {@link Patterns} for a detailed description.
+   *
+   * @return the maximum number of compiled regex patterns to cache.
+   * @since 4.0.0
+   */
+  public int maxCachedPatterns() {
+    return maxCachedPatterns;
+  }
+
+  /**
+   * Sets the maximum number of compiled regex patterns cached by the regex based assertions, 0 disables the cache.
+   * <p>
+   * See {@link Patterns} for a detailed description.
+   * <p>
+   * Note that this change will only be effective once {@link #apply()} or {@link #applyAndDisplay()} is called.
+   *
+   * @param maxCachedPatterns the maximum number of compiled regex patterns to cache, must be &gt;= 0.
+   * @throws IllegalArgumentException if {@code maxCachedPatterns} is negative.
+   * @since 4.0.0
+   */
+  public void setMaxCachedPatterns(int maxCachedPatterns) {
+    checkArgument(maxCachedPatterns >= 0, "maxCachedPatterns must be >= 0, but was %s", maxCachedPatterns);
+    this.maxCachedPatterns = maxCachedPatterns;
+  }
+
+  /**
+   * Returns the maximum number of differences computed and reported by the assertions comparing file, path or input stream
+   * contents like {@code hasSameTextualContentAs} or {@code hasContent}. Default is {@value #MAX_CONTENT_DIFF_DELTAS}.
+   *
+   * @return the maximum number of differences computed when comparing contents.
+   * @since 4.0.0
+   */
+  public int maxContentDiffDeltas() {
+    return maxContentDiffDeltas;
+  }
+
+  /**
+   * Sets the maximum number of differences computed and reported by the assertions comparing file, path or input stream
+   * contents, the comparison stops once that many differences have been found.
+   * <p>
+   * Note that this change will only be effective once {@link #apply()} or {@link #applyAndDisplay()} is called.
+   *
+   * @param maxContentDiffDeltas the maximum number of differences to compute, must be &gt;= 1.
+   * @throws IllegalArgumentException if {@code maxContentDiffDeltas} is less than 1.
+   * @since 4.0.0
+   */
+  public void setMaxContentDiffDeltas(int maxContentDiffDeltas) {
+    checkArgument(maxContentDiffDeltas >= 1, "maxContentDiffDeltas must be >= 1, but was %s", maxContentDiffDeltas);
+    this.maxContentDiffDeltas = maxContentDiffDeltas;
+  }
+
+  /**
+   * Returns the maximum number of bytes of each file attached to the assertion errors of the assertions comparing file or
+   * path contents, IDEs use them to show a diff of both files. Default is {@value #MAX_FILE_CONTENT_BYTES_FOR_IDE_DIFF}.
+   *
+   * @return the maximum number of bytes of each file attached to an assertion error.
+   * @since 4.0.0
+   */
+  public int maxFileContentBytesForIdeDiff() {
+    return maxFileContentBytesForIdeDiff;
+  }
+
+  /**
+   * Sets the maximum number of bytes of each file attached to the assertion errors of the assertions comparing file or path
+   * contents. Larger files are truncated to the bytes around the first mismatch between both files.
+   * <p>
+   * Note that this change will only be effective once {@link #apply()} or {@link #applyAndDisplay()} is called.
+   *
+   * @param maxFileContentBytesForIdeDiff the maximum number of bytes of each file attached to an assertion error, must be
+   *          &gt;= 0.
+   * @throws IllegalArgumentException if {@code maxFileContentBytesForIdeDiff} is negative.
+   * @since 4.0.0
+   */
+  public void setMaxFileContentBytesForIdeDiff(int maxFileContentBytesForIdeDiff) {
+    checkArgument(maxFileContentBytesForIdeDiff >= 0, "maxFileContentBytesForIdeDiff must be >= 0, but was %s",
+                  maxFileContentBytesForIdeDiff);
+    this.maxFileContentBytesForIdeDiff = maxFileContentBytesForIdeDiff;
+  }
+
+  /**
+   * Returns the maximum number of file digests cached by the {@code hasDigest} assertions on files and paths. Default is
+   * {@value #MAX_CACHED_FILE_DIGESTS}, file digests are not cached.
+   *
+   * @return the maximum number of file digests to cache.
+   * @since 4.0.0
+   */
+  public int maxCachedFileDigests() {
+    return maxCachedFileDigests;
+  }
+
+  /**
+   * Sets the maximum number of file digests cached by the {@code hasDigest} assertions on files and paths, so that
+   * assertions run many times on the same large files don't read them again.
+   * <p>
+   * A digest is cached per file path, size, last modified time and algorithm, a file changed without changing its size
+   * within the last modified time resolution of its file system would get a stale digest. Only enable the cache for files
+   * that are not modified during the tests, like test fixtures.
+   * <p>
+   * Note that this change will only be effective once {@link #apply()} or {@link #applyAndDisplay()} is called.
+   *
+   * @param maxCachedFileDigests the maximum number of file digests to cache, must be &gt;= 0, 0 disables the cache.
+   * @throws IllegalArgumentException if {@code maxCachedFileDigests} is negative.
+   * @since 4.0.0
+   */
+  public void setMaxCachedFileDigests(int maxCachedFileDigests) {
+    checkArgument(maxCachedFileDigests >= 0, "maxCachedFileDigests must be >= 0, but was %s", maxCachedFileDigests);
+    this.maxCachedFileDigests = maxCachedFileDigests;
+  }
+
+  /**
+   * Returns the maximum length of the representation of strings, char sequences, iterables, arrays and maps in error
+   * messages, their formatting stops once it is reached and the representation ends with {@code ...}.
+   * <p>
+   * Default is {@value #MAX_REPRESENTATION_LENGTH}, that is no limit.
+   *
+   * @return the maximum length of the representation of strings, iterables, arrays and maps.
+   * @since 4.0.0
+   */
+  public int maxRepresentationLength() {
+    return maxRepresentationLength;
+  }
+
+  /**
+   * Sets the maximum length of the representation of strings, char sequences, iterables, arrays and maps in error
+   * messages, this bounds the time and memory spent formatting huge values.
+   * <p>
+   * Note that this change will only be effective once {@link #apply()} or {@link #applyAndDisplay()} is called.
+   *
+   * @param maxRepresentationLength the maximum length of the representation of strings, iterables, arrays and maps,
+   *          must be &gt; 0.
+   * @throws IllegalArgumentException if {@code maxRepresentationLength} is not positive.
+   * @since 4.0.0
+   */
+  public void setMaxRepresentationLength(int maxRepresentationLength) {
+    checkArgument(maxRepresentationLength > 0, "maxRepresentationLength must be > 0, but was %s", maxRepresentationLength);
+    this.maxRepresentationLength = maxRepresentationLength;
+  }
+
+  /**
+   * Returns the maximum length of the actual and expected values shown in equality error messages, longer values are
+   * truncated to a window around their first difference, the full values are still given to IDEs for their diff view.
+   * <p>
+   * Default is {@value #MAX_LENGTH_FOR_EQUALITY_ERROR_VALUES}.
+   *
+   * @return the maximum length of the actual and expected values shown in equality error messages.
+   * @since 4.0.0
+   */
+  public int maxLengthForEqualityErrorValues() {
+    return maxLengthForEqualityErrorValues;
+  }
+
+  /**
+   * Sets the maximum length of the actual and expected values shown in equality error messages, longer values are
+   * truncated to a window around their first difference and the message mentions the index of that difference.
+   * <p>
+   * Note that this change will only be effective once {@link #apply()} or {@link #applyAndDisplay()} is called.
+   *
+   * @param maxLengthForEqualityErrorValues the maximum length of the values shown in equality error messages, must be &gt;= 1.
+   * @throws IllegalArgumentException if {@code maxLengthForEqualityErrorValues} is less than 1.
+   * @since 4.0.0
+   */
+  public void setMaxLengthForEqualityErrorValues(int maxLengthForEqualityErrorValues) {
+    checkArgument(maxLengthForEqualityErrorValues >= 1, "maxLengthForEqualityErrorValues must be >= 1, but was %s",
+                  maxLengthForEqualityErrorValues);
+    this.maxLengthForEqualityErrorValues = maxLengthForEqualityErrorValues;
+  }
+
   /**
    * Applies this configuration to AssertJ.
    */
@@ -402,6 +604,12 @@ public class Configuration {
     AbstractDateAssert.useDefaultDateFormatsOnly();
     additionalDateFormats().forEach(Assertions::registerCustomDateFormat);
     Assumptions.setPreferredAssumptionException(preferredAssumptionException());
+    Patterns.setMaxCachedPatterns(maxCachedPatterns());
+    Diff.setMaxDeltas(maxContentDiffDeltas());
+    FileContent.setMaxContentBytes(maxFileContentBytesForIdeDiff());
+    Digests.setMaxCachedFileDigests(maxCachedFileDigests());
+    StandardRepresentation.setMaxRepresentationLength(maxRepresentationLength());
+    ShouldBeEqual.setMaxValueLength(maxLengthForEqualityErrorValues());
   }
 
   /**
@@ -430,7 +638,13 @@ public class Configuration {
                   "- printAssertionsDescription ...................... = %s%n" +
                   "- descriptionConsumer ............................. = %s%n" +
                   "- removeAssertJRelatedElementsFromStackTraceEnabled = %s%n" +
-                  "- preferredAssumptionException .................... = %s%n",
+                  "- preferredAssumptionException .................... = %s%n" +
+                  "- maxCachedPatterns ............................... = %s%n" +
+                  "- maxContentDiffDeltas ............................ = %s%n" +
+                  "- maxFileContentBytesForIdeDiff ................... = %s%n" +
+                  "- maxCachedFileDigests ............................ = %s%n" +
+                  "- maxRepresentationLength ......................... = %s%n" +
+                  "- maxLengthForEqualityErrorValues ................. = %s%n",
                   getClass().getName(),
                   representation(),
                   comparingPrivateFieldsEnabled(),
@@ -443,7 +657,13 @@ public class Configuration {
                   printAssertionsDescription(),
                   descriptionConsumer(),
                   removeAssertJRelatedElementsFromStackTraceEnabled(),
-                  preferredAssumptionException());
+                  preferredAssumptionException(),
+                  maxCachedPatterns(),
+                  maxContentDiffDeltas(),
+                  maxFileContentBytesForIdeDiff(),
+                  maxCachedFileDigests(),
+                  maxRepresentationLength(),
+                  maxLengthForEqualityErrorValues());
   }
 
   private String describeAdditionalDateFormats() {
@@ -20,6 +20,7 @@ import static java.util.Objects.deepEquals;
 import static org.assertj.core.util.Arrays.array;
 import static org.assertj.core.util.Objects.HASH_CODE_PRIME;
 import static org.assertj.core.util.Objects.hashCodeFor;
+import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.introspection.ClassUtils.haveSameClassNameInDifferentPackages;
 
 import java.util.Objects;
@@ -27,6 +28,7 @@ import java.util.Objects;
 import org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy;
 import org.assertj.core.api.comparisonstrategy.ComparisonStrategy;
 import org.assertj.core.api.comparisonstrategy.StandardComparisonStrategy;
+import org.assertj.core.configuration.Configuration;
 import org.assertj.core.description.Description;
 import org.assertj.core.internal.Failures;
 import org.assertj.core.presentation.Representation;
@@ -49,6 +51,12 @@ public class ShouldBeEqual {
   private static final String EXPECTED_BUT_WAS_MESSAGE_USING_COMPARATOR = EXPECTED_BUT_WAS_MESSAGE + "%n%s";
   private static final Class<?>[] MSG_ARG_TYPES_FOR_ASSERTION_FAILED_ERROR = array(String.class, Object.class,
                                                                                    Object.class);
+  private static final String TRUNCATED_VALUES_MESSAGE = "%n(values truncated to %s characters around their first difference "
+                                                         + "at index %s)";
+  private static final String ELLIPSIS = "...";
+
+  private static int maxValueLength = Configuration.MAX_LENGTH_FOR_EQUALITY_ERROR_VALUES;
+
   /** The actual value. */
   protected final Object actual;
   /** The expected value. */
@@ -61,6 +69,10 @@ public class ShouldBeEqual {
   protected final ComparisonStrategy comparisonStrategy;
   private final Representation representation;
   private ConstructorInvoker constructorInvoker = new ConstructorInvoker();
+  // actual and expected are only represented once per representation as it is expensive for large values
+  private Representation representedWith;
+  private String actualRepresentation;
+  private String expectedRepresentation;
 
   /**
    * Creates a new <code>{@link ShouldBeEqual}</code>.
@@ -145,7 +157,15 @@ public class ShouldBeEqual {
    * @return whether both representations are equal
    */
   protected boolean actualAndExpectedHaveSameStringRepresentation() {
-    return Objects.equals(representation.toStringOf(actual), representation.toStringOf(expected));
+    represent(representation);
+    return Objects.equals(actualRepresentation, expectedRepresentation);
+  }
+
+  private void represent(Representation representation) {
+    if (representedWith == representation) return;
+    actualRepresentation = representation.toStringOf(actual);
+    expectedRepresentation = representation.toStringOf(expected);
+    representedWith = representation;
   }
 
   /**
@@ -167,8 +187,10 @@ public class ShouldBeEqual {
       // this is even more confusing as we lost the fact that 42 was a float or a double.
       return defaultDetailedErrorMessage(description, representation);
     }
-    String actualRepresentation = representation.toStringOf(actual);
-    String expectedRepresentation = representation.toStringOf(expected);
+    represent(representation);
+    if (isTooLong(actualRepresentation) || isTooLong(expectedRepresentation)) {
+      return errorMessageForTruncatedValues(description, actualRepresentation, expectedRepresentation);
+    }
     if (hasMultilineValue(actualRepresentation, expectedRepresentation)) {
       return errorMessageForMultilineValues(description, actualRepresentation, expectedRepresentation);
     }
@@ -179,6 +201,39 @@ public class ShouldBeEqual {
                                   expected, actual, comparisonStrategy);
   }
 
+  private static boolean isTooLong(String valueRepresentation) {
+    return valueRepresentation != null && valueRepresentation.length() > maxValueLength;
+  }
+
+  // only shows a window of maxValueLength characters of both values starting a bit before their first difference
+  private String errorMessageForTruncatedValues(Description description, String actualRepresentation,
+                                                String expectedRepresentation) {
+    String actualText = String.valueOf(actualRepresentation);
+    String expectedText = String.valueOf(expectedRepresentation);
+    int firstDifference = indexOfFirstDifference(actualText, expectedText);
+    int windowStart = Math.max(0, firstDifference - maxValueLength / 4);
+    String actualWindow = window(actualText, windowStart);
+    String expectedWindow = window(expectedText, windowStart);
+    String message = hasMultilineValue(actualWindow, expectedWindow)
+        ? errorMessageForMultilineValues(description, actualWindow, expectedWindow)
+        : DescriptionFormatter.instance().format(description) + messageForValues(actualWindow, expectedWindow);
+    return message + TRUNCATED_VALUES_MESSAGE.formatted(maxValueLength, firstDifference);
+  }
+
+  private static int indexOfFirstDifference(String actualText, String expectedText) {
+    int length = Math.min(actualText.length(), expectedText.length());
+    for (int i = 0; i < length; i++) {
+      if (actualText.charAt(i) != expectedText.charAt(i)) return i;
+    }
+    return length;
+  }
+
+  private static String window(String text, int windowStart) {
+    int start = Math.min(windowStart, text.length());
+    int end = Math.min(text.length(), start + maxValueLength);
+    return (start > 0 ? ELLIPSIS : "") + text.substring(start, end) + (end < text.length() ? ELLIPSIS : "");
+  }
+
   private String errorMessageForMultilineValues(Description description,
                                                 String actualRepresentation,
                                                 String expectedRepresentation) {
@@ -192,9 +247,13 @@ public class ShouldBeEqual {
   }
 
   private String messageForMultilineValues(String actualRepresentation, String expectedRepresentation) {
+    return messageForValues(indent(actualRepresentation), indent(expectedRepresentation));
+  }
+
+  private String messageForValues(String actualRepresentation, String expectedRepresentation) {
     return comparisonStrategy.isStandard()
-        ? EXPECTED_BUT_WAS_MESSAGE.formatted(indent(expectedRepresentation), indent(actualRepresentation))
-        : EXPECTED_BUT_WAS_MESSAGE_USING_COMPARATOR.formatted(indent(expectedRepresentation), indent(actualRepresentation),
+        ? EXPECTED_BUT_WAS_MESSAGE.formatted(expectedRepresentation, actualRepresentation)
+        : EXPECTED_BUT_WAS_MESSAGE_USING_COMPARATOR.formatted(expectedRepresentation, actualRepresentation,
                                                               comparisonStrategy.asText());
   }
 
@@ -232,13 +291,15 @@ public class ShouldBeEqual {
                                   actualRepresentation);
   }
 
+  // the full representations are given to AssertionFailedError for IDEs to show the whole difference
   private AssertionError assertionFailedError(String message, Representation representation) {
     try {
+      represent(representation);
       Object o = constructorInvoker.newInstance("org.opentest4j.AssertionFailedError",
                                                 MSG_ARG_TYPES_FOR_ASSERTION_FAILED_ERROR,
                                                 message,
-                                                representation.toStringOf(expected),
-                                                representation.toStringOf(actual));
+                                                expectedRepresentation,
+                                                actualRepresentation);
       if (o instanceof AssertionError assertionError) {
         Failures.instance().removeAssertJRelatedElementsFromStackTraceIfNeeded(assertionError);
         return assertionError;
@@ -267,6 +328,29 @@ public class ShouldBeEqual {
     return representation.unambiguousToStringOf(expected, haveSameClassNameInDifferentPackages);
   }
 
+  /**
+   * Returns the maximum length of the actual and expected representations in error messages, longer representations are
+   * truncated to a window around their first difference.
+   *
+   * @return the maximum length of the actual and expected representations in error messages.
+   * @since 4.0.0
+   */
+  public static int getMaxValueLength() {
+    return maxValueLength;
+  }
+
+  /**
+   * Sets the maximum length of the actual and expected representations in error messages, longer representations are
+   * truncated to a window around their first difference, see {@link Configuration#setMaxLengthForEqualityErrorValues(int)}.
+   *
+   * @param maxValueLength the maximum length of the actual and expected representations, must be &gt;= 1.
+   * @since 4.0.0
+   */
+  public static void setMaxValueLength(int maxValueLength) {
+    checkArgument(maxValueLength >= 1, "maxValueLength must be >= 1, but was %s", maxValueLength);
+    ShouldBeEqual.maxValueLength = maxValueLength;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -16,6 +16,12 @@
 package org.assertj.core.error;
 
 import static java.lang.String.format;
+import static org.assertj.core.internal.Arrays2D.toStringAround;
+
+import java.lang.reflect.Array;
+
+import org.assertj.core.internal.Arrays2D;
+import org.assertj.core.presentation.Representation;
 
 /**
  * Creates an error message indicating that an assertion that verifies that a value have certain size failed.
@@ -36,6 +42,27 @@ public class ShouldHaveSameSizeAs extends BasicErrorMessageFactory {
     return new ShouldHaveSameSizeAs(actual, expected, actualSize, expectedSize);
   }
 
+  /**
+   * Creates a new <code>{@link ShouldHaveSameSizeAs}</code> for two-dimensional arrays with a different number of rows, only
+   * representing the rows around the first missing or extra one when the arrays are larger than the window used by
+   * {@link Arrays2D#toStringAround(Representation, Object, int, int)}.
+   *
+   * @param representation the representation used to format the arrays elements
+   * @param actual the actual 2D array in the failed assertion.
+   * @param expected the expected 2D array in the failed assertion.
+   * @return the created {@code ErrorMessageFactory}.
+   * @since 4.0.0
+   */
+  public static ErrorMessageFactory shouldHaveSameSizeAs(Representation representation, Object actual, Object expected) {
+    int actualSize = Array.getLength(actual);
+    int expectedSize = Array.getLength(expected);
+    // rows differ from the end of the shortest array
+    int rowIndex = Math.min(actualSize, expectedSize);
+    return new ShouldHaveSameSizeAs(unquotedString(toStringAround(representation, actual, rowIndex, 0)),
+                                    unquotedString(toStringAround(representation, expected, rowIndex, 0)),
+                                    actualSize, expectedSize);
+  }
+
   private ShouldHaveSameSizeAs(Object actual, Object expected, Object actualSize, Object expectedSize) {
     // format the sizes in a standard way, otherwise if we use (for ex) an Hexadecimal representation
     // it will format sizes in hexadecimal while we only want actual to be formatted in hexadecimal
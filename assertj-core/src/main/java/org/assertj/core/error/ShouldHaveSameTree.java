@@ -0,0 +1,58 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.error;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that two directory trees are identical failed.
+ *
+ * @since 4.0.0
+ */
+public class ShouldHaveSameTree extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldHaveSameTree}</code>.
+   *
+   * @param actual the actual directory in the failed assertion.
+   * @param expected the expected directory in the failed assertion.
+   * @param missingEntries the entries of {@code expected} not in {@code actual}, relative to the directories.
+   * @param unexpectedEntries the entries of {@code actual} not in {@code expected}, relative to the directories.
+   * @param differingEntries the entries in both directories that differ, relative to the directories.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveSameTree(Path actual, Path expected, List<Path> missingEntries,
+                                                       List<Path> unexpectedEntries, List<Path> differingEntries) {
+    List<Object> arguments = new ArrayList<>(List.of(actual, expected));
+    StringBuilder format = new StringBuilder("%nExpecting directory:%n  %s%nto have the same tree as:%n  %s%nbut:");
+    append(format, arguments, "%n- these entries were missing:%n  %s", missingEntries);
+    append(format, arguments, "%n- these entries were unexpected:%n  %s", unexpectedEntries);
+    append(format, arguments, "%n- these entries differed (type, size or content):%n  %s", differingEntries);
+    return new ShouldHaveSameTree(format.toString(), arguments.toArray());
+  }
+
+  private static void append(StringBuilder format, List<Object> arguments, String section, List<Path> entries) {
+    if (entries.isEmpty()) return;
+    format.append(section);
+    arguments.add(entries);
+  }
+
+  private ShouldHaveSameTree(String format, Object... arguments) {
+    super(format, arguments);
+  }
+}
@@ -16,6 +16,7 @@
 package org.assertj.core.error;
 
 import static java.util.stream.Collectors.toList;
+import static org.assertj.core.util.Strings.escapePercent;
 
 import java.io.File;
 import java.nio.file.Path;
@@ -23,6 +24,7 @@ import java.util.List;
 
 import org.assertj.core.api.comparisonstrategy.ComparisonStrategy;
 import org.assertj.core.api.comparisonstrategy.StandardComparisonStrategy;
+import org.assertj.core.presentation.StandardRepresentation;
 
 /**
  * Creates an error message indicating that an assertion that verifies a group of elements does not contain a given set of values
@@ -102,7 +104,14 @@ public class ShouldNotContain extends BasicErrorMessageFactory {
     super("%nExpecting directory:%n" +
           "  %s%n" +
           "not to contain any files matching " + filterDescription + " but found some:%n" +
-          "  " + matchingContent,
+          "  " + escapePercent(describe(matchingContent)),
           actual);
   }
+
+  // the directory assertions only collect a sample of the matching files, one more than printed to show there are more
+  private static String describe(List<String> matchingContent) {
+    int maxElementsForPrinting = StandardRepresentation.getMaxElementsForPrinting();
+    if (matchingContent.size() <= maxElementsForPrinting) return matchingContent.toString();
+    return "[" + String.join(", ", matchingContent.subList(0, maxElementsForPrinting)) + ", ...]";
+  }
 }
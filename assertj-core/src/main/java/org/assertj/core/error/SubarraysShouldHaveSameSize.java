@@ -15,6 +15,14 @@
  */
 package org.assertj.core.error;
 
+import static org.assertj.core.internal.Arrays2D.rowToStringAround;
+import static org.assertj.core.internal.Arrays2D.toStringAround;
+
+import java.lang.reflect.Array;
+
+import org.assertj.core.internal.Arrays2D;
+import org.assertj.core.presentation.Representation;
+
 /**
  * Creates an error message indicating that an assertion that verifies that some subarray (in multidimensional arrays)
  * has certain size failed.
@@ -53,6 +61,32 @@ public class SubarraysShouldHaveSameSize extends BasicErrorMessageFactory {
                                            expectedSubArrayLength, index);
   }
 
+  /**
+   * Creates a new <code>{@link SubarraysShouldHaveSameSize}</code> only representing the elements around the end of the
+   * expected row, and the rows around it, when the arrays are larger than the window used by
+   * {@link Arrays2D#toStringAround(Representation, Object, int, int)}.
+   *
+   * @param representation the representation used to format the arrays elements
+   * @param actual the actual 2D array in the failed assertion.
+   * @param expected the actual 2D array to compare actual with.
+   * @param index index of the rows of different sizes
+   * @return the created {@code ErrorMessageFactory}
+   * @since 4.0.0
+   */
+  public static ErrorMessageFactory subarraysShouldHaveSameSize(Representation representation, Object actual, Object expected,
+                                                                int index) {
+    Object actualSubArray = Array.get(actual, index);
+    Object expectedSubArray = Array.get(expected, index);
+    // rows differ from the end of the expected one
+    int columnIndex = Array.getLength(expectedSubArray);
+    return new SubarraysShouldHaveSameSize(unquotedString(toStringAround(representation, actual, index, columnIndex)),
+                                           unquotedString(toStringAround(representation, expected, index, columnIndex)),
+                                           unquotedString(rowToStringAround(representation, actualSubArray, columnIndex)),
+                                           Array.getLength(actualSubArray),
+                                           unquotedString(rowToStringAround(representation, expectedSubArray, columnIndex)),
+                                           columnIndex, index);
+  }
+
   private SubarraysShouldHaveSameSize(Object actual, Object expected, Object actualSubArray, int actualSubArrayLength,
                                       Object expectedSubArray, int expectedSubArrayLength, int index) {
     // reuse %s to let representation format the arrays but don't do it for integers as we want to keep the default toString of
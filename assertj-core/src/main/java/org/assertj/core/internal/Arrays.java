@@ -73,6 +73,7 @@ import static org.assertj.core.internal.CommonValidations.checkSizeLessThanOrEqu
 import static org.assertj.core.internal.CommonValidations.checkSizes;
 import static org.assertj.core.internal.CommonValidations.hasSameSizeAsCheck;
 import static org.assertj.core.internal.IterableDiff.diff;
+import static org.assertj.core.internal.ToleranceMatching.toleranceMatching;
 import static org.assertj.core.util.ArrayWrapperList.wrap;
 import static org.assertj.core.util.Arrays.isArray;
 import static org.assertj.core.util.Arrays.isArrayEmpty;
@@ -90,6 +91,8 @@ import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
 
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.api.Condition;
@@ -97,6 +100,7 @@ import org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy
 import org.assertj.core.api.comparisonstrategy.ComparisonStrategy;
 import org.assertj.core.api.comparisonstrategy.StandardComparisonStrategy;
 import org.assertj.core.data.Index;
+import org.assertj.core.internal.PrimitiveArrayKeys.Keys;
 import org.assertj.core.util.ArrayWrapperList;
 
 /**
@@ -241,6 +245,9 @@ public class Arrays {
    */
   public void assertContains(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, failures, actual, values)) return;
+    if (primitiveKeysMatch(actual, values, PrimitiveArrayKeys::containsAll)) return;
+    ToleranceMatching toleranceMatching = toleranceMatching(comparisonStrategy, actual, values);
+    if (toleranceMatching != null && toleranceMatching.containsAll(actual, values)) return;
     Set<Object> notFound = new LinkedHashSet<>();
     int valueCount = sizeOf(values);
     for (int i = 0; i < valueCount; i++) {
@@ -288,6 +295,9 @@ public class Arrays {
 
   void assertContainsOnly(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, failures, actual, values)) return;
+    if (primitiveKeysMatch(actual, values, PrimitiveArrayKeys::containsOnly)) return;
+    ToleranceMatching toleranceMatching = toleranceMatching(comparisonStrategy, actual, values);
+    if (toleranceMatching != null && toleranceMatching.containsOnly(actual, values)) return;
     List<Object> notExpected = asList(actual);
     List<Object> notFound = asList(values);
 
@@ -321,6 +331,17 @@ public class Arrays {
     if (commonChecks(info, failures, actual, values)) return;
     assertIsArray(info, actual);
     assertIsArray(info, values);
+    if (arePrimitiveArraysOfTheSameType(actual, values)) {
+      if (PrimitiveArrayKeys.containsExactly(actual, values)) return;
+      int arrayLength = sizeOf(actual);
+      if (arrayLength == sizeOf(values) && primitiveKeysMatch(actual, values, PrimitiveArrayKeys::containsExactlyInAnyOrder)) {
+        // same elements in a different order, the first mismatch is the first element differing
+        int index = PrimitiveArrayKeys.mismatch(actual, 0, values, 0, arrayLength);
+        throw failures.failure(info, elementsDifferAtIndex(Array.get(actual, index), Array.get(values, index), index,
+                                                           comparisonStrategy),
+                               asList(actual), asList(values));
+      }
+    }
 
     List<Object> actualAsList = asList(actual);
     IterableDiff<?> diff = diff(actualAsList, asList(values), comparisonStrategy);
@@ -342,6 +363,9 @@ public class Arrays {
 
   void assertContainsExactlyInAnyOrder(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, failures, actual, values)) return;
+    if (primitiveKeysMatch(actual, values, PrimitiveArrayKeys::containsExactlyInAnyOrder)) return;
+    ToleranceMatching toleranceMatching = toleranceMatching(comparisonStrategy, actual, values);
+    if (toleranceMatching != null && toleranceMatching.containsExactlyInAnyOrder(actual, values)) return;
     List<Object> notExpected = asList(actual);
     List<Object> notFound = asList(values);
 
@@ -360,6 +384,7 @@ public class Arrays {
   void assertContainsOnlyOnce(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, failures, actual, values))
       return;
+    if (primitiveKeysMatch(actual, values, PrimitiveArrayKeys::containsOnlyOnce)) return;
     Iterable<?> actualDuplicates = comparisonStrategy.duplicatesFrom(asList(actual));
     Set<Object> notFound = new LinkedHashSet<>();
     Set<Object> notOnlyOnce = new LinkedHashSet<>();
@@ -389,6 +414,7 @@ public class Arrays {
 
   void assertContainsSequence(AssertionInfo info, Failures failures, Object actual, Object sequence) {
     if (commonChecks(info, failures, actual, sequence)) return;
+    if (primitiveArraysMatch(actual, sequence, PrimitiveArrayKeys::containsSequence)) return;
     // look for given sequence, stop check when there are not enough elements remaining in actual to contain sequence
     int lastIndexWhereSequenceCanBeFound = sizeOf(actual) - sizeOf(sequence);
     for (int actualIndex = 0; actualIndex <= lastIndexWhereSequenceCanBeFound; actualIndex++) {
@@ -399,6 +425,7 @@ public class Arrays {
 
   void assertDoesNotContainSequence(AssertionInfo info, Failures failures, Object actual, Object sequence) {
     if (commonChecks(info, failures, actual, sequence)) return;
+    if (primitiveArraysMatch(actual, sequence, PrimitiveArrayKeys::doesNotContainSequence)) return;
 
     // look for given sequence, stop check when there are not enough elements remaining in actual to contain sequence
     int lastIndexWhereSequenceCanBeFound = sizeOf(actual) - sizeOf(sequence);
@@ -428,6 +455,7 @@ public class Arrays {
 
   void assertContainsSubsequence(AssertionInfo info, Failures failures, Object actual, Object subsequence) {
     if (commonChecks(info, failures, actual, subsequence)) return;
+    if (primitiveKeysMatch(actual, subsequence, PrimitiveArrayKeys::containsSubsequence)) return;
 
     int sizeOfActual = sizeOf(actual);
     int sizeOfSubsequence = sizeOf(subsequence);
@@ -467,6 +495,7 @@ public class Arrays {
 
   void assertDoesNotContainSubsequence(AssertionInfo info, Failures failures, Object actual, Object subsequence) {
     if (commonChecks(info, failures, actual, subsequence)) return;
+    if (primitiveKeysMatch(actual, subsequence, PrimitiveArrayKeys::doesNotContainSubsequence)) return;
 
     int sizeOfActual = sizeOf(actual);
     int sizeOfSubsequence = sizeOf(subsequence);
@@ -499,9 +528,39 @@ public class Arrays {
     return comparisonStrategy.areEqual(actual, other);
   }
 
+  /**
+   * Evaluates the given kernel on the keys of the given arrays if they are primitive arrays of the same type compared with
+   * the standard comparison strategy, this avoids boxing their elements.
+   * <p>
+   * Returns false when the kernel can't be used or when it does not match, in which case the caller must perform the regular
+   * (boxing) check to know whether the assertion fails and build the error message.
+   */
+  private boolean primitiveKeysMatch(Object actual, Object values, BiPredicate<Keys, Keys> kernel) {
+    return arePrimitiveArraysOfTheSameType(actual, values)
+           && kernel.test(PrimitiveArrayKeys.keysOf(actual), PrimitiveArrayKeys.keysOf(values));
+  }
+
+  // same as primitiveKeysMatch for kernels working on the arrays directly
+  private boolean primitiveArraysMatch(Object actual, Object values, BiPredicate<Object, Object> kernel) {
+    return arePrimitiveArraysOfTheSameType(actual, values) && kernel.test(actual, values);
+  }
+
+  private boolean arePrimitiveArraysOfTheSameType(Object actual, Object values) {
+    if (comparisonStrategy.getClass() != StandardComparisonStrategy.class) return false;
+    Class<?> componentType = actual.getClass().getComponentType();
+    return componentType != null && componentType.isPrimitive() && actual.getClass() == values.getClass();
+  }
+
+  private boolean primitiveKeysMatch(Object array, Predicate<Keys> kernel) {
+    if (comparisonStrategy.getClass() != StandardComparisonStrategy.class) return false;
+    Keys keys = PrimitiveArrayKeys.keysOf(array);
+    return keys != null && kernel.test(keys);
+  }
+
   void assertDoesNotContain(AssertionInfo info, Failures failures, Object array, Object values) {
     checkIsNotNullAndNotEmpty(values);
     assertNotNull(info, array);
+    if (primitiveKeysMatch(array, values, PrimitiveArrayKeys::containsNone)) return;
     Set<Object> found = new LinkedHashSet<>();
     int valuesSize = sizeOf(values);
     for (int i = 0; i < valuesSize; i++) {
@@ -517,6 +576,7 @@ public class Arrays {
 
   void assertDoesNotHaveDuplicates(AssertionInfo info, Failures failures, Object array) {
     assertNotNull(info, array);
+    if (primitiveKeysMatch(array, PrimitiveArrayKeys::doesNotHaveDuplicates)) return;
     ArrayWrapperList wrapped = wrap(array);
     Iterable<?> duplicates = comparisonStrategy.duplicatesFrom(wrapped);
     if (!isNullOrEmpty(duplicates))
@@ -526,6 +586,7 @@ public class Arrays {
   void assertStartsWith(AssertionInfo info, Failures failures, Object actual, Object sequence) {
     if (commonChecks(info, failures, actual, sequence))
       return;
+    if (primitiveArraysMatch(actual, sequence, PrimitiveArrayKeys::startsWith)) return;
     int sequenceSize = sizeOf(sequence);
     int arraySize = sizeOf(actual);
     if (arraySize < sequenceSize) throw arrayDoesNotStartWithSequence(info, failures, actual, sequence);
@@ -561,6 +622,7 @@ public class Arrays {
 
   void assertEndsWith(AssertionInfo info, Failures failures, Object actual, Object sequence) {
     checkNulls(info, actual, sequence);
+    if (primitiveArraysMatch(actual, sequence, PrimitiveArrayKeys::endsWith)) return;
     int sequenceSize = sizeOf(sequence);
     int arraySize = sizeOf(actual);
     if (arraySize < sequenceSize) throw arrayDoesNotEndWithSequence(info, failures, actual, sequence);
@@ -795,6 +857,7 @@ public class Arrays {
     if (commonChecks(info, failures, actual, values)) return;
     assertIsArray(info, actual);
     assertIsArray(info, values);
+    if (primitiveKeysMatch(actual, values, PrimitiveArrayKeys::containsAny)) return;
 
     List<Object> valuesToSearchFor = asList(values);
     for (Object element : asList(actual)) {
@@ -842,6 +905,7 @@ public class Arrays {
     }
     // empty arrays are considered sorted even if component type is not sortable.
     if (sizeOf(array) == 0) return;
+    if (primitiveKeysMatch(array, PrimitiveArrayKeys::isSorted)) return;
     assertThatArrayComponentTypeIsSortable(info, failures, array);
     try {
       // sorted assertion is only relevant if array elements are Comparable
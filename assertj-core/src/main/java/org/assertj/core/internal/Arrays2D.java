@@ -30,11 +30,13 @@ import static org.assertj.core.internal.CommonValidations.checkIndexValueIsValid
 import static org.assertj.core.util.Arrays.sizeOf;
 
 import java.lang.reflect.Array;
+import java.util.StringJoiner;
 
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.api.comparisonstrategy.StandardComparisonStrategy;
 import org.assertj.core.data.Index;
 import org.assertj.core.error.ShouldHaveDimensions;
+import org.assertj.core.presentation.Representation;
 
 /**
  * Assertions for object and primitive two-dimensional arrays. It trades off performance for DRY.
@@ -46,6 +48,10 @@ public class Arrays2D {
 
   private static final Arrays2D INSTANCE = new Arrays2D();
 
+  // number of rows and columns displayed on each side of a difference when representing large arrays
+  private static final int ELEMENTS_AROUND_DIFFERENCE = 5;
+  private static final int WINDOW_SIZE = 2 * ELEMENTS_AROUND_DIFFERENCE + 1;
+
   /** Creates two-dimensional array assertions. */
   public Arrays2D() {}
 
@@ -238,4 +244,71 @@ public class Arrays2D {
     }
   }
 
+  /**
+   * Returns the representation of the given two-dimensional array, limited to the elements around the given cell when the
+   * array is larger than the displayed window.
+   * <p>
+   * Only the represented elements are read, this keeps the error messages of large arrays small and cheap to build while
+   * still showing the same window of actual and expected arrays around their first difference.
+   *
+   * @param representation the representation to use for the array elements
+   * @param array2d the two-dimensional array to represent
+   * @param rowIndex the row index of the element to show
+   * @param columnIndex the column index of the element to show
+   * @return the representation of the elements around the given cell
+   * @since 4.0.0
+   */
+  public static String toStringAround(Representation representation, Object array2d, int rowIndex, int columnIndex) {
+    if (fitsInWindow(array2d)) return representation.toStringOf(array2d);
+    int numberOfRows = sizeOf(array2d);
+    int firstRow = windowStart(rowIndex, numberOfRows);
+    int lastRow = Math.min(firstRow + WINDOW_SIZE, numberOfRows);
+    StringJoiner rows = new StringJoiner(",%n    ".formatted(), "[", "]");
+    if (firstRow > 0) rows.add("...");
+    for (int i = firstRow; i < lastRow; i++) {
+      rows.add(rowToStringAround(representation, Array.get(array2d, i), columnIndex));
+    }
+    if (lastRow < numberOfRows) rows.add("...");
+    return rows.toString();
+  }
+
+  private static boolean fitsInWindow(Object array2d) {
+    int numberOfRows = sizeOf(array2d);
+    if (numberOfRows > WINDOW_SIZE) return false;
+    for (int i = 0; i < numberOfRows; i++) {
+      Object row = Array.get(array2d, i);
+      if (row != null && sizeOf(row) > WINDOW_SIZE) return false;
+    }
+    return true;
+  }
+
+  // centers the window on index unless it would go past the end of the array
+  private static int windowStart(int index, int size) {
+    return Math.max(Math.min(index - ELEMENTS_AROUND_DIFFERENCE, size - WINDOW_SIZE), 0);
+  }
+
+  /**
+   * Returns the representation of the given row of a two-dimensional array, limited to the elements around the given column
+   * when the row is larger than the displayed window.
+   *
+   * @param representation the representation to use for the row elements
+   * @param row the row to represent
+   * @param columnIndex the column index of the element to show
+   * @return the representation of the elements around the given column
+   * @since 4.0.0
+   */
+  public static String rowToStringAround(Representation representation, Object row, int columnIndex) {
+    if (row == null || sizeOf(row) <= WINDOW_SIZE) return representation.toStringOf(row);
+    int rowSize = sizeOf(row);
+    int firstColumn = windowStart(columnIndex, rowSize);
+    int lastColumn = Math.min(firstColumn + WINDOW_SIZE, rowSize);
+    StringJoiner elements = new StringJoiner(", ", "[", "]");
+    if (firstColumn > 0) elements.add("...");
+    for (int j = firstColumn; j < lastColumn; j++) {
+      elements.add(representation.toStringOf(Array.get(row, j)));
+    }
+    if (lastColumn < rowSize) elements.add("...");
+    return elements.toString();
+  }
+
 }
@@ -15,22 +15,30 @@
  */
 package org.assertj.core.internal;
 
-import java.io.BufferedInputStream;
-import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.file.Files;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Path;
 
 /**
  * Compares the binary content of two inputStreams/paths.
+ * <p>
+ * Contents are compared chunk by chunk with {@link ByteBuffer#mismatch(ByteBuffer)}, files are read through a byte channel
+ * so that neither of them is ever fully loaded in memory.
  * 
  * @author Olivier Michallat
  */
 // TODO reduce the visibility of the fields annotated with @VisibleForTesting
 public class BinaryDiff {
 
+  private static final int EOF = -1;
+  private static final int CHUNK_SIZE = 64 * 1024;
+
+  // TODO reduce the visibility of the fields annotated with @VisibleForTesting
+  NioFilesWrapper nioFilesWrapper = NioFilesWrapper.instance();
+
   /** Creates a new binary content comparator. */
   public BinaryDiff() {}
 
@@ -57,8 +65,25 @@ public class BinaryDiff {
    * @throws IOException if the path cannot be read
    */
   public BinaryDiffResult diff(Path actual, byte[] expected) throws IOException {
-    try (InputStream actualStream = new BufferedInputStream(Files.newInputStream(actual))) {
-      return diff(actualStream, expected);
+    try (ReadableByteChannel actualChannel = nioFilesWrapper.newByteChannel(actual)) {
+      return diff(chunksOf(actualChannel), chunksOf(expected));
+    }
+  }
+
+  // TODO reduce the visibility of the fields annotated with @VisibleForTesting
+  /**
+   * Compares the content of two paths.
+   *
+   * @param actual the actual path
+   * @param expected the expected path
+   * @return the comparison result
+   * @throws IOException if a path cannot be read
+   * @since 4.0.0
+   */
+  public BinaryDiffResult diff(Path actual, Path expected) throws IOException {
+    try (ReadableByteChannel actualChannel = nioFilesWrapper.newByteChannel(actual);
+        ReadableByteChannel expectedChannel = nioFilesWrapper.newByteChannel(expected)) {
+      return diff(chunksOf(actualChannel), chunksOf(expectedChannel));
     }
   }
 
@@ -72,7 +97,7 @@ public class BinaryDiff {
    * @throws IOException if a stream cannot be read
    */
   public BinaryDiffResult diff(InputStream actualStream, byte[] expected) throws IOException {
-    return diff(actualStream, new ByteArrayInputStream(expected));
+    return diff(chunksOf(actualStream), chunksOf(expected));
   }
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
@@ -85,13 +110,59 @@ public class BinaryDiff {
    * @throws IOException if a stream cannot be read
    */
   public BinaryDiffResult diff(InputStream actualStream, InputStream expectedStream) throws IOException {
-    int index = 0;
+    return diff(chunksOf(actualStream), chunksOf(expectedStream));
+  }
+
+  private static BinaryDiffResult diff(Chunks actual, Chunks expected) throws IOException {
+    long offset = 0;
     while (true) {
-      int actual = actualStream.read();
-      int expected = expectedStream.read();
-      if (actual == -1 && expected == -1) return BinaryDiffResult.noDiff(); // reached end of both streams
-      if (actual != expected) return new BinaryDiffResult(index, expected, actual);
-      index += 1;
+      ByteBuffer actualChunk = actual.next();
+      ByteBuffer expectedChunk = expected.next();
+      int mismatch = actualChunk.mismatch(expectedChunk);
+      if (mismatch != -1)
+        return new BinaryDiffResult(offset + mismatch, byteAt(expectedChunk, mismatch), byteAt(actualChunk, mismatch));
+      // chunks are only shorter than CHUNK_SIZE at the end of the content
+      if (actualChunk.remaining() < CHUNK_SIZE) return BinaryDiffResult.noDiff();
+      offset += CHUNK_SIZE;
     }
   }
+
+  private static int byteAt(ByteBuffer chunk, int index) {
+    return index < chunk.remaining() ? chunk.get(chunk.position() + index) & 0xFF : EOF;
+  }
+
+  private static Chunks chunksOf(ReadableByteChannel channel) {
+    ByteBuffer chunk = ByteBuffer.allocateDirect(CHUNK_SIZE);
+    return () -> {
+      chunk.clear();
+      while (chunk.hasRemaining() && channel.read(chunk) != EOF) {
+        // a channel can read fewer bytes than requested before the end of the file
+      }
+      return chunk.flip();
+    };
+  }
+
+  private static Chunks chunksOf(InputStream stream) {
+    byte[] chunk = new byte[CHUNK_SIZE];
+    return () -> ByteBuffer.wrap(chunk, 0, stream.readNBytes(chunk, 0, CHUNK_SIZE));
+  }
+
+  private static Chunks chunksOf(byte[] content) {
+    return new Chunks() {
+      private int offset = 0;
+
+      @Override
+      public ByteBuffer next() {
+        int length = Math.min(CHUNK_SIZE, content.length - offset);
+        ByteBuffer chunk = ByteBuffer.wrap(content, offset, length);
+        offset += length;
+        return chunk;
+      }
+    };
+  }
+
+  // successive chunks of a content, a chunk is shorter than CHUNK_SIZE only at the end of the content
+  private interface Chunks {
+    ByteBuffer next() throws IOException;
+  }
 }
@@ -23,8 +23,9 @@ package org.assertj.core.internal;
 public class BinaryDiffResult {
   private static final int EOF = -1;
 
-  /** The offset of the first difference. */
+  /** The offset of the first difference, {@link Integer#MAX_VALUE} if it does not fit in an int, see {@link #longOffset()}. */
   public final int offset;
+  private final long longOffset;
   /** The expected byte description. */
   public final String expected;
   /** The actual byte description. */
@@ -38,7 +39,20 @@ public class BinaryDiffResult {
    * @param actual the actual byte in the same format.
    */
   public BinaryDiffResult(int offset, int expected, int actual) {
-    this.offset = offset;
+    this((long) offset, expected, actual);
+  }
+
+  /**
+   * Builds a new instance for contents larger than 2GB.
+   *
+   * @param offset the offset at which the difference occurred.
+   * @param expected the expected byte as an int in the range 0 to 255, or -1 for EOF.
+   * @param actual the actual byte in the same format.
+   * @since 4.0.0
+   */
+  public BinaryDiffResult(long offset, int expected, int actual) {
+    this.offset = (int) Math.min(offset, Integer.MAX_VALUE);
+    this.longOffset = offset;
     this.expected = describe(expected);
     this.actual = describe(actual);
   }
@@ -49,7 +63,17 @@ public class BinaryDiffResult {
    * @return whether no difference was found
    */
   public boolean hasNoDiff() {
-    return offset == EOF;
+    return longOffset == EOF;
+  }
+
+  /**
+   * Returns the offset of the first difference, contrary to {@link #offset} it is exact for contents larger than 2GB.
+   *
+   * @return the offset of the first difference
+   * @since 4.0.0
+   */
+  public long longOffset() {
+    return longOffset;
   }
 
   /**
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.ORDERED;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * Unmodifiable list of the lines of a {@link CharSequence}, lines are located in the text only when they are accessed and each
+ * line is only copied into a {@code String} when it is returned.
+ * <p>
+ * Lines are split like {@link java.io.BufferedReader#readLine()} or {@link String#lines()} do: a line is terminated by
+ * {@code \n}, {@code \r} or {@code \r\n}, and the last line is only counted if it is not empty.
+ */
+final class CharSequenceLines extends AbstractList<String> implements LazyList {
+
+  private final CharSequence text;
+  // start indices of the lines located so far by get(int)
+  private int[] lineStarts = new int[16];
+  private int locatedLines;
+  private int size = -1;
+
+  CharSequenceLines(CharSequence text) {
+    this.text = text;
+  }
+
+  /**
+   * Returns the number of lines of the given text without copying it.
+   */
+  static int countLines(CharSequence text) {
+    int lines = 0;
+    for (int start = 0; start < text.length(); start = nextLineStart(text, start)) {
+      lines++;
+    }
+    return lines;
+  }
+
+  @Override
+  public String get(int index) {
+    if (index < 0 || !locateLine(index)) throw new IndexOutOfBoundsException("Index: %s, Size: %s".formatted(index, size()));
+    return line(lineStarts[index]);
+  }
+
+  @Override
+  public boolean hasElementAt(int index) {
+    return locateLine(index);
+  }
+
+  @Override
+  public int size() {
+    if (size == -1) size = countLines(text);
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return text.length() == 0;
+  }
+
+  @Override
+  public Iterator<String> iterator() {
+    return new Iterator<>() {
+      private int nextLineStart = 0;
+
+      @Override
+      public boolean hasNext() {
+        return nextLineStart < text.length();
+      }
+
+      @Override
+      public String next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        String line = line(nextLineStart);
+        nextLineStart = nextLineStart(text, nextLineStart);
+        return line;
+      }
+    };
+  }
+
+  @Override
+  public Spliterator<String> spliterator() {
+    // the default list spliterator needs the size which means scanning the whole text
+    return Spliterators.spliteratorUnknownSize(iterator(), ORDERED | NONNULL);
+  }
+
+  private boolean locateLine(int index) {
+    while (locatedLines <= index) {
+      int start = locatedLines == 0 ? 0 : nextLineStart(text, lineStarts[locatedLines - 1]);
+      if (start >= text.length()) return false;
+      if (locatedLines == lineStarts.length) lineStarts = Arrays.copyOf(lineStarts, lineStarts.length * 2);
+      lineStarts[locatedLines++] = start;
+    }
+    return true;
+  }
+
+  private String line(int start) {
+    return text.subSequence(start, lineEnd(text, start)).toString();
+  }
+
+  private static int lineEnd(CharSequence text, int start) {
+    int end = start;
+    while (end < text.length() && text.charAt(end) != '\n' && text.charAt(end) != '\r') end++;
+    return end;
+  }
+
+  private static int nextLineStart(CharSequence text, int start) {
+    int end = lineEnd(text, start);
+    if (end == text.length()) return end;
+    boolean crlf = text.charAt(end) == '\r' && end + 1 < text.length() && text.charAt(end + 1) == '\n';
+    return crlf ? end + 2 : end + 1;
+  }
+
+}
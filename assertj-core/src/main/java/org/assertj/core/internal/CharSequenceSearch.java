@@ -0,0 +1,264 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static java.util.Locale.ROOT;
+
+/**
+ * Index based searches in {@link CharSequence}s, the searched text is read in place with {@link CharSequence#charAt(int)}
+ * instead of being copied with {@code toString()}, this matters for large {@code StringBuilder} or custom char sequences.
+ * <p>
+ * Case-insensitive searches give the same results as searching in the texts lower-cased with {@link String#toLowerCase}
+ * using {@link java.util.Locale#ROOT}.
+ */
+final class CharSequenceSearch {
+
+  private CharSequenceSearch() {}
+
+  /**
+   * Returns the index of the first occurrence of sequence in text starting at fromIndex, -1 if there is none.
+   * <p>
+   * Unlike {@link String#indexOf(String, int)}, an empty sequence is not found after the end of the text.
+   */
+  static int indexOf(CharSequence text, CharSequence sequence, int fromIndex) {
+    if (fromIndex > text.length() - sequence.length()) return -1;
+    if (text instanceof String string) return string.indexOf(sequence.toString(), fromIndex);
+    return indexOf(text, sequence, fromIndex, false);
+  }
+
+  static boolean contains(CharSequence text, CharSequence sequence) {
+    return indexOf(text, sequence, 0) != -1;
+  }
+
+  static boolean startsWith(CharSequence text, CharSequence prefix) {
+    return text.length() >= prefix.length() && regionMatches(text, 0, prefix, false);
+  }
+
+  static boolean endsWith(CharSequence text, CharSequence suffix) {
+    int offset = text.length() - suffix.length();
+    return offset >= 0 && regionMatches(text, offset, suffix, false);
+  }
+
+  static boolean containsIgnoringCase(CharSequence text, CharSequence sequence) {
+    if (!isLowerCasedCharByChar(text) || !isLowerCasedCharByChar(sequence))
+      return text.toString().toLowerCase(ROOT).contains(sequence.toString().toLowerCase(ROOT));
+    return indexOf(text, sequence, 0, true) != -1;
+  }
+
+  static boolean startsWithIgnoringCase(CharSequence text, CharSequence prefix) {
+    if (!isLowerCasedCharByChar(text) || !isLowerCasedCharByChar(prefix))
+      return text.toString().toLowerCase(ROOT).startsWith(prefix.toString().toLowerCase(ROOT));
+    return text.length() >= prefix.length() && regionMatches(text, 0, prefix, true);
+  }
+
+  static boolean endsWithIgnoringCase(CharSequence text, CharSequence suffix) {
+    if (!isLowerCasedCharByChar(text) || !isLowerCasedCharByChar(suffix))
+      return text.toString().toLowerCase(ROOT).endsWith(suffix.toString().toLowerCase(ROOT));
+    int offset = text.length() - suffix.length();
+    return offset >= 0 && regionMatches(text, offset, suffix, true);
+  }
+
+  /**
+   * Returns the number of possibly overlapping occurrences of sequence in text.
+   */
+  static int countOccurrences(CharSequence text, CharSequence sequence) {
+    int occurrences = 0;
+    for (int index = indexOf(text, sequence, 0); index != -1; index = indexOf(text, sequence, index + 1)) {
+      occurrences++;
+    }
+    return occurrences;
+  }
+
+  /**
+   * Returns whether text contains value once newlines are removed from text, value must not contain newlines.
+   * <p>
+   * Like {@code Strings.removeNewlines}, {@code \n} and {@code \r\n} are removed but not single {@code \r}.
+   */
+  static boolean containsIgnoringNewlines(CharSequence text, CharSequence valueWithoutNewlines) {
+    if (valueWithoutNewlines.length() == 0) return true;
+    for (int start = 0; start < text.length(); start++) {
+      if (isRemovedNewline(text, start)) continue;
+      if (matchesIgnoringNewlines(text, start, valueWithoutNewlines)) return true;
+    }
+    return false;
+  }
+
+  /**
+   * Returns whether both texts are equal once their newlines are removed, see
+   * {@link #containsIgnoringNewlines(CharSequence, CharSequence)}.
+   */
+  static boolean equalsIgnoringNewlines(CharSequence text, CharSequence other) {
+    int textIndex = 0;
+    int otherIndex = 0;
+    while (true) {
+      textIndex = skipRemovedNewlines(text, textIndex);
+      otherIndex = skipRemovedNewlines(other, otherIndex);
+      if (textIndex == text.length() || otherIndex == other.length())
+        return textIndex == text.length() && otherIndex == other.length();
+      if (text.charAt(textIndex++) != other.charAt(otherIndex++)) return false;
+    }
+  }
+
+  /**
+   * Returns whether both texts are equal once their {@code \r\n} newlines are replaced by {@code \n}.
+   */
+  static boolean equalsNormalizingNewlines(CharSequence text, CharSequence other) {
+    int textIndex = 0;
+    int otherIndex = 0;
+    while (true) {
+      if (isCarriageReturnBeforeNewline(text, textIndex)) textIndex++;
+      if (isCarriageReturnBeforeNewline(other, otherIndex)) otherIndex++;
+      if (textIndex == text.length() || otherIndex == other.length())
+        return textIndex == text.length() && otherIndex == other.length();
+      if (text.charAt(textIndex++) != other.charAt(otherIndex++)) return false;
+    }
+  }
+
+  /**
+   * Returns whether both texts are equal once their {@link Character#isWhitespace(char) whitespace} chars are removed.
+   */
+  static boolean equalsIgnoringWhitespace(CharSequence text, CharSequence other) {
+    int textIndex = 0;
+    int otherIndex = 0;
+    while (true) {
+      while (textIndex < text.length() && Character.isWhitespace(text.charAt(textIndex))) textIndex++;
+      while (otherIndex < other.length() && Character.isWhitespace(other.charAt(otherIndex))) otherIndex++;
+      if (textIndex == text.length() || otherIndex == other.length())
+        return textIndex == text.length() && otherIndex == other.length();
+      if (text.charAt(textIndex++) != other.charAt(otherIndex++)) return false;
+    }
+  }
+
+  /**
+   * Returns whether both texts are equal once normalized like {@code Strings.normalizeWhitespace}: punctuation is optionally
+   * removed, whitespace runs are replaced by a single space and the result is {@link String#trim() trimmed}.
+   * <p>
+   * Punctuation is what the {@code \p{Punct}} regex matches, i.e. ASCII punctuation only.
+   */
+  static boolean equalsNormalizingWhitespace(CharSequence text, CharSequence other, boolean removePunctuation) {
+    int textIndex = trimmedStart(text, removePunctuation);
+    int textEnd = trimmedEnd(text, textIndex, removePunctuation);
+    int otherIndex = trimmedStart(other, removePunctuation);
+    int otherEnd = trimmedEnd(other, otherIndex, removePunctuation);
+    while (true) {
+      if (removePunctuation) {
+        while (textIndex < textEnd && isPunctuation(text.charAt(textIndex))) textIndex++;
+        while (otherIndex < otherEnd && isPunctuation(other.charAt(otherIndex))) otherIndex++;
+      }
+      if (textIndex == textEnd || otherIndex == otherEnd) return textIndex == textEnd && otherIndex == otherEnd;
+      boolean whitespace = isNormalizedWhitespace(text.charAt(textIndex));
+      if (whitespace != isNormalizedWhitespace(other.charAt(otherIndex))) return false;
+      if (whitespace) {
+        textIndex = skipWhitespaceRun(text, textIndex, textEnd, removePunctuation);
+        otherIndex = skipWhitespaceRun(other, otherIndex, otherEnd, removePunctuation);
+      } else if (text.charAt(textIndex++) != other.charAt(otherIndex++)) return false;
+    }
+  }
+
+  /**
+   * Returns whether the given char is replaced by a space when normalizing whitespace, non-breaking spaces included.
+   */
+  static boolean isNormalizedWhitespace(char character) {
+    return Character.isWhitespace(character) || character == '\u00A0' || character == '\u2007' || character == '\u202F';
+  }
+
+  /**
+   * Returns whether the given char is matched by the {@code \p{Punct}} regex.
+   */
+  static boolean isPunctuation(char character) {
+    return character >= '!' && character <= '/' || character >= ':' && character <= '@' || character >= '[' && character <= '`'
+           || character >= '{' && character <= '~';
+  }
+
+  // String.trim() removes any char <= ' ', including control chars that are not whitespace
+  private static boolean isTrimmed(char character, boolean removePunctuation) {
+    return character <= ' ' || isNormalizedWhitespace(character) || removePunctuation && isPunctuation(character);
+  }
+
+  private static int trimmedStart(CharSequence text, boolean removePunctuation) {
+    int start = 0;
+    while (start < text.length() && isTrimmed(text.charAt(start), removePunctuation)) start++;
+    return start;
+  }
+
+  private static int trimmedEnd(CharSequence text, int start, boolean removePunctuation) {
+    int end = text.length();
+    while (end > start && isTrimmed(text.charAt(end - 1), removePunctuation)) end--;
+    return end;
+  }
+
+  private static int skipWhitespaceRun(CharSequence text, int index, int end, boolean removePunctuation) {
+    while (index < end && (isNormalizedWhitespace(text.charAt(index)) || removePunctuation && isPunctuation(text.charAt(index))))
+      index++;
+    return index;
+  }
+
+  private static boolean isCarriageReturnBeforeNewline(CharSequence text, int index) {
+    return index + 1 < text.length() && text.charAt(index) == '\r' && text.charAt(index + 1) == '\n';
+  }
+
+  private static boolean matchesIgnoringNewlines(CharSequence text, int start, CharSequence valueWithoutNewlines) {
+    int textIndex = start;
+    for (int i = 0; i < valueWithoutNewlines.length(); i++) {
+      textIndex = skipRemovedNewlines(text, textIndex);
+      if (textIndex == text.length() || text.charAt(textIndex) != valueWithoutNewlines.charAt(i)) return false;
+      textIndex++;
+    }
+    return true;
+  }
+
+  private static int skipRemovedNewlines(CharSequence text, int index) {
+    while (index < text.length() && isRemovedNewline(text, index)) index++;
+    return index;
+  }
+
+  private static boolean isRemovedNewline(CharSequence text, int index) {
+    char character = text.charAt(index);
+    return character == '\n' || character == '\r' && index + 1 < text.length() && text.charAt(index + 1) == '\n';
+  }
+
+  private static int indexOf(CharSequence text, CharSequence sequence, int fromIndex, boolean ignoreCase) {
+    int lastIndex = text.length() - sequence.length();
+    for (int i = Math.max(fromIndex, 0); i <= lastIndex; i++) {
+      if (regionMatches(text, i, sequence, ignoreCase)) return i;
+    }
+    return -1;
+  }
+
+  private static boolean regionMatches(CharSequence text, int offset, CharSequence sequence, boolean ignoreCase) {
+    for (int i = 0; i < sequence.length(); i++) {
+      char textCharacter = text.charAt(offset + i);
+      char sequenceCharacter = sequence.charAt(i);
+      if (textCharacter == sequenceCharacter) continue;
+      if (!ignoreCase || Character.toLowerCase(textCharacter) != Character.toLowerCase(sequenceCharacter)) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Returns whether {@code String.toLowerCase} lower-cases the given text char by char, which is the case unless it contains
+   * a capital I with dot above (becoming two chars), a capital sigma (depending on the following chars) or surrogate pairs
+   * (lower-cased as one code point).
+   */
+  static boolean isLowerCasedCharByChar(CharSequence text) {
+    for (int i = 0; i < text.length(); i++) {
+      char character = text.charAt(i);
+      if (character == '\u0130' || character == '\u03A3' || Character.isSurrogate(character)) return false;
+    }
+    return true;
+  }
+
+}
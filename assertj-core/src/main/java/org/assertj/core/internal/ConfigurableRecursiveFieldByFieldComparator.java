@@ -17,12 +17,28 @@ package org.assertj.core.internal;
 
 import static java.util.Objects.requireNonNull;
 import static org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy.NOT_EQUAL;
+import static org.assertj.core.api.recursive.comparison.FieldLocation.rootFieldLocation;
+import static org.assertj.core.api.recursive.comparison.RecursiveComparisonDifferenceCalculator.hasOverriddenEquals;
+import static org.assertj.core.internal.RecursiveHelper.isContainer;
+import static org.assertj.core.util.Lists.newArrayList;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
 
+import org.assertj.core.api.recursive.comparison.DualValue;
 import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
 import org.assertj.core.api.recursive.comparison.RecursiveComparisonDifferenceCalculator;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonIntrospectionStrategy;
+import org.assertj.core.util.DualClass;
 import org.assertj.core.util.introspection.IntrospectionError;
 
 /**
@@ -72,6 +88,155 @@ public class ConfigurableRecursiveFieldByFieldComparator implements Comparator<O
     }
   }
 
+  /**
+   * Returns a hash function consistent with this comparator for the given values: any two of them considered equal by
+   * {@link #compare(Object, Object)}, whatever the order they are compared in, have the same hash. Values with different
+   * hashes are thus different and don't need to be compared.
+   * <p>
+   * The hash is computed from the top-level fields compared with {@code equals} (strings, booleans, characters, integral
+   * numbers and enums by name) that all values have and that are neither ignored nor compared with a custom comparator.
+   * Values that are such types themselves are hashed directly.
+   * <p>
+   * An empty {@link Optional} is returned when no hash can be computed safely, for example when null fields are ignored,
+   * when only some fields or types are compared, when the values are containers or when the values or their fields could
+   * be compared with their overridden {@code equals}.
+   *
+   * @param values the values the hash function is going to be applied to
+   * @return a hash function consistent with this comparator for the given values or an empty {@link Optional}
+   */
+  public Optional<ToIntFunction<Object>> structuralHashFor(Iterable<?> values) {
+    // a subclass or a different calculator could consider equal values with different fields
+    if (getClass() != ConfigurableRecursiveFieldByFieldComparator.class
+        || recursiveComparisonDifferenceCalculator.getClass() != RecursiveComparisonDifferenceCalculator.class
+        || !fieldsCanBeHashed()) {
+      return Optional.empty();
+    }
+    List<Object> nonNullValues = new ArrayList<>();
+    values.forEach(value -> {
+      if (value != null) nonNullValues.add(value);
+    });
+    if (nonNullValues.isEmpty()) return Optional.empty();
+    try {
+      if (haveTheSameHashableType(nonNullValues)) return Optional.of(ConfigurableRecursiveFieldByFieldComparator::hashOf);
+      if (!nonNullValues.stream().allMatch(this::isComparedFieldByField)) return Optional.empty();
+      if (reachAnOverriddenEquals(nonNullValues)) return Optional.empty();
+      return fieldByFieldHashFor(nonNullValues);
+    } catch (@SuppressWarnings("unused") RuntimeException e) {
+      // introspection failed, the comparison will report it if relevant
+      return Optional.empty();
+    }
+  }
+
+  private boolean fieldsCanBeHashed() {
+    // options that make the comparison consider equal values with different fields
+    return !configuration.getIgnoreAllActualNullFields()
+           && !configuration.getIgnoreAllExpectedNullFields()
+           && !configuration.getIgnoreAllActualEmptyOptionalFields()
+           && configuration.getIgnoredTypes().isEmpty()
+           && configuration.getIgnoredTypesRegexes().isEmpty()
+           && configuration.getComparedFields().isEmpty()
+           && configuration.getComparedTypes().isEmpty();
+  }
+
+  // an overridden equals can consider equal values with different fields
+  private boolean reachAnOverriddenEquals(List<Object> values) {
+    if (configuration.getIgnoreAllOverriddenEquals()) return false;
+    return values.stream().anyMatch(value -> mayUseOverriddenEquals(value)
+                                             || fieldValuesOf(value).anyMatch(this::mayUseOverriddenEquals));
+  }
+
+  private Stream<Object> fieldValuesOf(Object value) {
+    RecursiveComparisonIntrospectionStrategy introspectionStrategy = configuration.getIntrospectionStrategy();
+    return introspectionStrategy.getChildrenNodeNamesOf(value).stream()
+                                .map(fieldName -> introspectionStrategy.getChildNodeValue(fieldName, value));
+  }
+
+  private boolean mayUseOverriddenEquals(Object value) {
+    return value != null
+           && !new DualValue(rootFieldLocation(), value, value, null).isActualJavaType()
+           && !configuration.shouldIgnoreOverriddenEqualsOf(value.getClass())
+           && hasOverriddenEquals(value.getClass());
+  }
+
+  private Optional<ToIntFunction<Object>> fieldByFieldHashFor(List<Object> values) {
+    RecursiveComparisonIntrospectionStrategy introspectionStrategy = configuration.getIntrospectionStrategy();
+    // only fields present in all values are compared for every pair of values
+    Set<String> commonFieldNames = new LinkedHashSet<>(introspectionStrategy.getChildrenNodeNamesOf(values.get(0)));
+    values.forEach(value -> commonFieldNames.retainAll(introspectionStrategy.getChildrenNodeNamesOf(value)));
+    List<String> hashedFieldNames = new ArrayList<>();
+    List<List<Object>> hashedFieldValues = new ArrayList<>();
+    for (String fieldName : commonFieldNames) {
+      if (configuration.hasComparatorForField(fieldName)
+          || configuration.shouldIgnore(new DualValue(rootFieldLocation().field(fieldName), null, null, null))) {
+        continue;
+      }
+      List<Object> fieldValues = newArrayList();
+      values.forEach(value -> fieldValues.add(introspectionStrategy.getChildNodeValue(fieldName, value)));
+      List<Object> nonNullFieldValues = fieldValues.stream().filter(Objects::nonNull).toList();
+      // null fields are only equal to null fields
+      if (nonNullFieldValues.isEmpty() || haveTheSameHashableType(nonNullFieldValues)) {
+        hashedFieldNames.add(fieldName);
+        hashedFieldValues.add(fieldValues);
+      }
+    }
+    if (hashedFieldNames.isEmpty()) return Optional.empty();
+    Map<Object, Integer> hashes = new IdentityHashMap<>();
+    for (int i = 0; i < values.size(); i++) {
+      int hash = 1;
+      for (List<Object> fieldValues : hashedFieldValues) {
+        hash = 31 * hash + hashOf(fieldValues.get(i));
+      }
+      hashes.put(values.get(i), hash);
+    }
+    return Optional.of(value -> value == null ? 0 : hashes.computeIfAbsent(value, otherValue -> {
+      int hash = 1;
+      for (String fieldName : hashedFieldNames) {
+        hash = 31 * hash + hashOf(introspectionStrategy.getChildNodeValue(fieldName, otherValue));
+      }
+      return hash;
+    }));
+  }
+
+  private boolean haveTheSameHashableType(List<Object> values) {
+    Class<?> type = hashableTypeOf(values.get(0));
+    return type != null
+           && values.stream().allMatch(value -> hashableTypeOf(value) == type && !hasTypeComparatorFor(value.getClass()));
+  }
+
+  // types compared with equals by the recursive comparison, enums being compared by name whatever their type
+  private static Class<?> hashableTypeOf(Object value) {
+    if (value instanceof Enum) return Enum.class;
+    Class<?> type = value.getClass();
+    return type == String.class || type == Boolean.class || type == Character.class || type == Byte.class
+           || type == Short.class || type == Integer.class || type == Long.class ? type : null;
+  }
+
+  private static int hashOf(Object value) {
+    if (value instanceof Enum<?> enumValue) return enumValue.name().hashCode();
+    return Objects.hashCode(value);
+  }
+
+  private boolean isComparedFieldByField(Object value) {
+    DualValue dualValue = new DualValue(rootFieldLocation(), value, value, null);
+    return !dualValue.isActualJavaType()
+           && !dualValue.isActualAnEnum()
+           && !dualValue.isExpectedAnArray()
+           && !dualValue.isExpectedAThrowable()
+           && !isContainer(value)
+           && !hasTypeComparatorFor(value.getClass());
+  }
+
+  private boolean hasTypeComparatorFor(Class<?> type) {
+    return configuration.comparatorByTypes()
+                        .map(Map.Entry::getKey)
+                        .anyMatch(dualClass -> isAssignableFrom(dualClass, type));
+  }
+
+  private static boolean isAssignableFrom(DualClass<?, ?> dualClass, Class<?> type) {
+    return dualClass.actual().isAssignableFrom(type)
+           || (!dualClass.hasNoExpected() && dualClass.expected().isAssignableFrom(type));
+  }
+
   @Override
   public String toString() {
     return "recursive field/property by field/property comparator on all fields/properties using the following configuration:%n%s".formatted(configuration);
@@ -15,27 +15,42 @@
  */
 package org.assertj.core.internal;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.nio.file.Files.newBufferedReader;
-import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.emptyList;
 import static org.assertj.core.util.Closeables.closeQuietly;
+import static org.assertj.core.util.Preconditions.checkArgument;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
 import java.io.StringReader;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
+import org.assertj.core.configuration.Configuration;
+import org.assertj.core.util.diff.Chunk;
 import org.assertj.core.util.diff.Delta;
-import org.assertj.core.util.diff.DiffUtils;
-import org.assertj.core.util.diff.Patch;
 
 /**
  * Compares the contents of two files, inputStreams or paths.
+ * <p>
+ * Only the first {@link #getMaxDeltas()} differences are computed as only these are reported, see
+ * {@link Configuration#setMaxContentDiffDeltas(int)} to change that limit.
+ * <p>
+ * Input streams are compared in bounded memory: their lines are read one at a time until the first differing ones, only then
+ * are the next lines of both streams diffed, up to {@value #WINDOW_SIZE} lines. Two streams are first compared byte by byte
+ * to skip decoding their common content, they are decoded from the beginning of the line containing the first differing
+ * byte since the bytes may differ while the lines don't, e.g. with different line separators.
  * 
  * @author David DIDIER
  * @author Alex Ruiz
@@ -48,6 +63,11 @@ import org.assertj.core.util.diff.Patch;
 // TODO reduce the visibility of the fields annotated with @VisibleForTesting
 public class Diff {
 
+  private static final int CHUNK_SIZE = 64 * 1024;
+  private static final int WINDOW_SIZE = 10_000;
+
+  private static int maxDeltas = Configuration.MAX_CONTENT_DIFF_DELTAS;
+
   /** Creates a new text difference calculator. */
   public Diff() {}
 
@@ -61,7 +81,27 @@ public class Diff {
    * @throws IOException if a stream cannot be read
    */
   public List<Delta<String>> diff(InputStream actual, InputStream expected) throws IOException {
-    return diff(readerFor(actual), readerFor(expected));
+    if (!hasAsciiLineSeparators(Charset.defaultCharset())) return diffLineByLine(readerFor(actual), readerFor(expected), 0);
+    try {
+      CommonLines commonLines = new CommonLines();
+      byte[] actualChunk = new byte[CHUNK_SIZE];
+      byte[] expectedChunk = new byte[CHUNK_SIZE];
+      while (true) {
+        int actualLength = actual.readNBytes(actualChunk, 0, CHUNK_SIZE);
+        int expectedLength = expected.readNBytes(expectedChunk, 0, CHUNK_SIZE);
+        int mismatch = Arrays.mismatch(actualChunk, 0, actualLength, expectedChunk, 0, expectedLength);
+        // chunks are only shorter than CHUNK_SIZE at the end of the streams
+        if (mismatch == -1 && actualLength < CHUNK_SIZE) return emptyList();
+        commonLines.add(actualChunk, mismatch == -1 ? CHUNK_SIZE : mismatch);
+        if (mismatch != -1) {
+          InputStream actualRest = commonLines.lastLineFollowedBy(actualChunk, mismatch, actualLength, actual);
+          InputStream expectedRest = commonLines.lastLineFollowedBy(expectedChunk, mismatch, expectedLength, expected);
+          return diffLineByLine(readerFor(actualRest), readerFor(expectedRest), commonLines.count);
+        }
+      }
+    } finally {
+      closeQuietly(actual, expected);
+    }
   }
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
@@ -74,7 +114,7 @@ public class Diff {
    * @throws IOException if the stream cannot be read
    */
   public List<Delta<String>> diff(InputStream actual, String expected) throws IOException {
-    return diff(readerFor(actual), readerFor(expected));
+    return diffLineByLine(readerFor(actual), readerFor(expected), 0);
   }
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
@@ -135,6 +175,27 @@ public class Diff {
     return diff(newBufferedReader(actual, charset), readerFor(expected));
   }
 
+  /**
+   * Returns the maximum number of differences computed when comparing contents.
+   *
+   * @return the maximum number of differences computed when comparing contents.
+   * @since 4.0.0
+   */
+  public static int getMaxDeltas() {
+    return maxDeltas;
+  }
+
+  /**
+   * Sets the maximum number of differences computed when comparing contents.
+   *
+   * @param maxDeltas the maximum number of differences to compute, must be &gt;= 1.
+   * @since 4.0.0
+   */
+  public static void setMaxDeltas(int maxDeltas) {
+    checkArgument(maxDeltas >= 1, "maxDeltas must be >= 1, but was %s", maxDeltas);
+    Diff.maxDeltas = maxDeltas;
+  }
+
   private BufferedReader readerFor(InputStream stream) {
     return new BufferedReader(new InputStreamReader(stream, Charset.defaultCharset()));
   }
@@ -148,13 +209,117 @@ public class Diff {
       List<String> actualLines = linesFromBufferedReader(actual);
       List<String> expectedLines = linesFromBufferedReader(expected);
 
-      Patch<String> patch = DiffUtils.diff(expectedLines, actualLines);
-      return unmodifiableList(patch.getDeltas());
+      return LineDiff.diff(expectedLines, actualLines, maxDeltas);
     } finally {
       closeQuietly(actual, expected);
     }
   }
 
+  // compares the lines one by one, diffing a window of lines from the first differing ones on
+  private List<Delta<String>> diffLineByLine(BufferedReader actual, BufferedReader expected, int position) throws IOException {
+    try {
+      while (true) {
+        String actualLine = actual.readLine();
+        String expectedLine = expected.readLine();
+        if (actualLine == null && expectedLine == null) return emptyList();
+        if (!Objects.equals(actualLine, expectedLine)) {
+          List<String> actualLines = window(actualLine, actual);
+          List<String> expectedLines = window(expectedLine, expected);
+          List<Delta<String>> deltas = LineDiff.diff(expectedLines, actualLines, position, maxDeltas);
+          boolean moreLines = actualLines.size() == WINDOW_SIZE && actual.readLine() != null
+                              || expectedLines.size() == WINDOW_SIZE && expected.readLine() != null;
+          if (!moreLines || deltas.size() == 1) return deltas;
+          // the last delta is only due to the end of the windows if it reaches it, the next lines might match
+          Delta<String> lastDelta = deltas.get(deltas.size() - 1);
+          boolean reachesWindowEnd = end(lastDelta.getOriginal()) == position + expectedLines.size()
+                                     || end(lastDelta.getRevised()) == position + actualLines.size();
+          return reachesWindowEnd ? deltas.subList(0, deltas.size() - 1) : deltas;
+        }
+        position++;
+      }
+    } finally {
+      closeQuietly(actual, expected);
+    }
+  }
+
+  private static int end(Chunk<String> chunk) {
+    return chunk.getPosition() + chunk.size();
+  }
+
+  private static List<String> window(String firstLine, BufferedReader reader) throws IOException {
+    List<String> lines = new ArrayList<>();
+    if (firstLine == null) return lines;
+    lines.add(firstLine);
+    for (String line; lines.size() < WINDOW_SIZE && (line = reader.readLine()) != null;) {
+      lines.add(line);
+    }
+    return lines;
+  }
+
+  // whether line separators are encoded as in ASCII and can't be part of other chars, so that the content following them
+  // can be decoded on its own
+  private static boolean hasAsciiLineSeparators(Charset charset) {
+    boolean selfSynchronizing = charset.equals(UTF_8) || charset.newEncoder().maxBytesPerChar() == 1;
+    return selfSynchronizing && Arrays.equals("\r\n".getBytes(charset), new byte[] { '\r', '\n' });
+  }
+
+  /**
+   * Counts the lines of the common bytes of two streams and keeps the bytes of the last common line, these being needed to
+   * decode that line if it differs in both streams.
+   * <p>
+   * Line separators are the ones of {@link BufferedReader#readLine()}, a {@code \r} is only counted once the next byte is
+   * known. All the bytes of the last line are kept, as reading it would, so that it is decoded whole and never from the middle
+   * of a char.
+   */
+  private static final class CommonLines {
+
+    private int count;
+    private byte[] lastLine = new byte[CHUNK_SIZE];
+    private int lastLineLength;
+    private boolean pendingCarriageReturn;
+
+    private void add(byte[] bytes, int length) {
+      int lastLineStart = -1;
+      for (int i = 0; i < length; i++) {
+        if (pendingCarriageReturn) {
+          pendingCarriageReturn = false;
+          count++;
+          lastLineStart = bytes[i] == '\n' ? i + 1 : i;
+          if (bytes[i] == '\n') continue;
+        }
+        if (bytes[i] == '\n') {
+          count++;
+          lastLineStart = i + 1;
+        } else if (bytes[i] == '\r') {
+          pendingCarriageReturn = true;
+        }
+      }
+      if (lastLineStart != -1) startLastLine();
+      appendToLastLine(bytes, Math.max(lastLineStart, 0), length);
+    }
+
+    private void startLastLine() {
+      // a long line should not hold on to its memory once the next line starts
+      if (lastLine.length > CHUNK_SIZE) lastLine = new byte[CHUNK_SIZE];
+      lastLineLength = 0;
+    }
+
+    private void appendToLastLine(byte[] bytes, int from, int to) {
+      int length = to - from;
+      if (lastLineLength + length > lastLine.length) {
+        lastLine = Arrays.copyOf(lastLine, Math.max(lastLineLength + length, 2 * lastLine.length));
+      }
+      System.arraycopy(bytes, from, lastLine, lastLineLength, length);
+      lastLineLength += length;
+    }
+
+    private InputStream lastLineFollowedBy(byte[] chunk, int from, int to, InputStream rest) {
+      List<InputStream> streams = List.of(new ByteArrayInputStream(lastLine, 0, lastLineLength),
+                                          new ByteArrayInputStream(chunk, from, to - from), rest);
+      return new SequenceInputStream(Collections.enumeration(streams));
+    }
+  }
+
   private List<String> linesFromBufferedReader(BufferedReader reader) throws IOException {
     String line;
     List<String> lines = new ArrayList<>();
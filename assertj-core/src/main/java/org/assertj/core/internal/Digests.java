@@ -17,20 +17,52 @@ package org.assertj.core.internal;
 
 import static java.util.Objects.requireNonNull;
 import static org.assertj.core.error.ShouldNotBeNull.shouldNotBeNull;
-import static org.assertj.core.util.Hexadecimals.byteToHexString;
+import static org.assertj.core.util.Hexadecimals.toHexString;
+import static org.assertj.core.util.Preconditions.checkArgument;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.security.MessageDigest;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.assertj.core.configuration.Configuration;
 
 /**
  * Reusable utils for digest processing
+ * <p>
+ * The digests of files can be cached so that assertions run many times on the same files don't read them again, the cache
+ * is disabled by default, see {@link Configuration#setMaxCachedFileDigests(int)}. A cached digest is only used if the file
+ * size and last modified time have not changed since it was computed.
  *
  * @author Valeriy Vyrva
  */
 public final class Digests {
 
   private static final int BUFFER_SIZE = 1024 * 8;
+  private static final int CHANNEL_BUFFER_SIZE = 1024 * 64;
+  // the values of the ASCII hexadecimal digits, -1 for the other chars
+  private static final byte[] HEX_VALUES = new byte[128];
+
+  static {
+    for (char c = 0; c < HEX_VALUES.length; c++) {
+      HEX_VALUES[c] = (byte) Character.digit(c, 16);
+    }
+  }
+
+  private static final Map<FileDigestKey, String> FILE_DIGESTS = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<FileDigestKey, String> eldest) {
+      return size() > maxCachedFileDigests;
+    }
+  };
+
+  private static int maxCachedFileDigests = Configuration.MAX_CACHED_FILE_DIGESTS;
 
   private Digests() {}
 
@@ -42,11 +74,7 @@ public final class Digests {
    */
   public static String toHex(byte[] digest) {
     requireNonNull(digest, shouldNotBeNull("digest")::create);
-    StringBuilder hex = new StringBuilder(digest.length * 2);
-    for (byte b : digest) {
-      hex.append(byteToHexString(b));
-    }
-    return hex.toString();
+    return toHexString(digest);
   }
 
   /**
@@ -54,16 +82,24 @@ public final class Digests {
    *
    * @param digest the hexadecimal digest
    * @return the digest bytes
+   * @throws NumberFormatException if the digest contains a character that is not a hexadecimal digit
    */
   public static byte[] fromHex(String digest) {
     requireNonNull(digest, shouldNotBeNull("digest")::create);
     byte[] bytes = new byte[digest.length() / 2];
     for (int i = 0; i < bytes.length; i++) {
-      bytes[i] = Integer.valueOf(digest.substring(i * 2, (i + 1) * 2), 16).byteValue();
+      bytes[i] = (byte) (hexValue(digest, i * 2) << 4 | hexValue(digest, i * 2 + 1));
     }
     return bytes;
   }
 
+  private static int hexValue(String digest, int index) {
+    char c = digest.charAt(index);
+    int value = c < HEX_VALUES.length ? HEX_VALUES[c] : -1;
+    if (value == -1) throw new NumberFormatException("Invalid hexadecimal digit '%s' in digest: %s".formatted(c, digest));
+    return value;
+  }
+
   /**
    * Computes and compares a stream digest.
    *
@@ -88,4 +124,75 @@ public final class Digests {
     String actualHex = toHex(actualDigest);
     return new DigestDiff(actualHex, expectedHex, messageDigest);
   }
+
+  // computes the digest of a file reading it through a channel, or gets it from the cache if enabled
+  static DigestDiff digestDiff(Path path, MessageDigest messageDigest, byte[] expected,
+                               NioFilesWrapper nioFilesWrapper) throws IOException {
+    String expectedHex = toHex(expected);
+    if (maxCachedFileDigests == 0) {
+      return new DigestDiff(digest(path, messageDigest, nioFilesWrapper), expectedHex, messageDigest);
+    }
+    BasicFileAttributes attributes = nioFilesWrapper.readAttributes(path, BasicFileAttributes.class);
+    FileDigestKey key = new FileDigestKey(path.toAbsolutePath().normalize(), attributes.size(), attributes.lastModifiedTime(),
+                                          messageDigest.getAlgorithm());
+    String actualHex;
+    synchronized (FILE_DIGESTS) {
+      actualHex = FILE_DIGESTS.get(key);
+    }
+    if (actualHex == null) {
+      // compute outside the lock, two threads computing the same digest at the same time is harmless
+      actualHex = digest(path, messageDigest, nioFilesWrapper);
+      synchronized (FILE_DIGESTS) {
+        if (maxCachedFileDigests > 0) FILE_DIGESTS.putIfAbsent(key, actualHex);
+      }
+    }
+    return new DigestDiff(actualHex, expectedHex, messageDigest);
+  }
+
+  private static String digest(Path path, MessageDigest messageDigest, NioFilesWrapper nioFilesWrapper) throws IOException {
+    messageDigest.reset();
+    try (ReadableByteChannel channel = nioFilesWrapper.newByteChannel(path)) {
+      // a direct buffer spares the copy from the native buffer the channel reads into to a heap one
+      ByteBuffer buffer = ByteBuffer.allocateDirect(CHANNEL_BUFFER_SIZE);
+      while (channel.read(buffer) != -1) {
+        buffer.flip();
+        messageDigest.update(buffer);
+        buffer.clear();
+      }
+    }
+    return toHex(messageDigest.digest());
+  }
+
+  /**
+   * Returns the maximum number of file digests kept in the cache.
+   *
+   * @return the maximum number of file digests kept in the cache.
+   * @since 4.0.0
+   */
+  public static int getMaxCachedFileDigests() {
+    return maxCachedFileDigests;
+  }
+
+  /**
+   * Sets the maximum number of file digests kept in the cache, 0 disables the cache.
+   * <p>
+   * The least recently used digests are evicted if the cache holds more digests than the new limit.
+   *
+   * @param maxCachedFileDigests the maximum number of file digests to keep, must be &gt;= 0.
+   * @since 4.0.0
+   */
+  public static void setMaxCachedFileDigests(int maxCachedFileDigests) {
+    checkArgument(maxCachedFileDigests >= 0, "maxCachedFileDigests must be >= 0, but was %s", maxCachedFileDigests);
+    synchronized (FILE_DIGESTS) {
+      Digests.maxCachedFileDigests = maxCachedFileDigests;
+      var eldestFirst = FILE_DIGESTS.keySet().iterator();
+      while (FILE_DIGESTS.size() > maxCachedFileDigests) {
+        eldestFirst.next();
+        eldestFirst.remove();
+      }
+    }
+  }
+
+  private record FileDigestKey(Path path, long size, FileTime lastModified, String algorithm) {
+  }
 }
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static java.nio.file.FileVisitResult.CONTINUE;
+import static java.nio.file.FileVisitResult.TERMINATE;
+import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+/**
+ * Looks for a path matching a filter in a directory tree, stopping as soon as one is found.
+ * <p>
+ * The tree is walked sequentially with {@link Files#walkFileTree(Path, java.nio.file.FileVisitor)}, or in parallel in a
+ * {@link ForkJoinPool} where each subdirectory is scanned by its own task. Symbolic links are not followed, as with
+ * {@link Files#walk(Path, java.nio.file.FileVisitOption...)}.
+ */
+final class DirectoryScanner {
+
+  /**
+   * Returns whether the given directory tree contains a path matching the given filter, the filter is given the paths
+   * relative to the directory.
+   *
+   * @param directory the directory to scan
+   * @param filter the filter of paths relative to {@code directory}, must be thread-safe if {@code pool} is not null
+   * @param pool the pool scanning the directory tree in parallel, {@code null} to scan it sequentially
+   * @return whether the given directory tree contains a path matching the given filter
+   * @throws IOException if a directory can't be read
+   */
+  static boolean anyMatch(Path directory, Predicate<Path> filter, ForkJoinPool pool) throws IOException {
+    return pool == null ? anyMatchSequentially(directory, filter) : anyMatchInParallel(directory, filter, pool);
+  }
+
+  private static boolean anyMatchSequentially(Path directory, Predicate<Path> filter) throws IOException {
+    AtomicBoolean found = new AtomicBoolean();
+    Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+      @Override
+      public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+        return dir.equals(directory) ? CONTINUE : visit(dir);
+      }
+
+      @Override
+      public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+        return visit(file);
+      }
+
+      private FileVisitResult visit(Path path) {
+        found.set(filter.test(directory.relativize(path)));
+        return found.get() ? TERMINATE : CONTINUE;
+      }
+    });
+    return found.get();
+  }
+
+  private static boolean anyMatchInParallel(Path directory, Predicate<Path> filter, ForkJoinPool pool) throws IOException {
+    AtomicBoolean found = new AtomicBoolean();
+    try {
+      pool.invoke(new ScanTask(directory, directory, filter, found));
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    return found.get();
+  }
+
+  private static final class ScanTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Path root;
+    private final Path directory;
+    private final transient Predicate<Path> filter;
+    private final AtomicBoolean found;
+
+    private ScanTask(Path root, Path directory, Predicate<Path> filter, AtomicBoolean found) {
+      this.root = root;
+      this.directory = directory;
+      this.filter = filter;
+      this.found = found;
+    }
+
+    @Override
+    protected void compute() {
+      List<ScanTask> subdirectories = new ArrayList<>();
+      try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+        for (Path entry : entries) {
+          if (found.get()) return;
+          if (filter.test(root.relativize(entry))) {
+            found.set(true);
+            return;
+          }
+          if (Files.isDirectory(entry, NOFOLLOW_LINKS)) subdirectories.add(new ScanTask(root, entry, filter, found));
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      invokeAll(subdirectories);
+    }
+  }
+
+  private DirectoryScanner() {}
+}
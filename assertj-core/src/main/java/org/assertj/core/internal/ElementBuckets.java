@@ -0,0 +1,156 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy;
+import org.assertj.core.api.comparisonstrategy.ComparisonStrategy;
+
+/**
+ * Elements grouped in buckets by a hash consistent with the element comparison: elements considered equal to a value have
+ * the same hash as the value, finding them only requires looking at the value bucket instead of all the elements.
+ * <p>
+ * The lookup and removal methods give the same results as their {@link ComparatorBasedComparisonStrategy} counterparts,
+ * removed elements are skipped and the remaining ones keep their original order.
+ *
+ * @param <T> the type of elements.
+ */
+class ElementBuckets<T> {
+
+  private final List<T> elements;
+  private final boolean[] removed;
+  private final Map<Integer, List<Integer>> elementIndexesByHash;
+  private final ToIntFunction<Object> hash;
+  private final ComparisonStrategy comparisonStrategy;
+
+  ElementBuckets(Iterable<? extends T> elements, ToIntFunction<Object> hash, ComparisonStrategy comparisonStrategy) {
+    this.elements = newArrayList(elements);
+    this.removed = new boolean[this.elements.size()];
+    this.elementIndexesByHash = new HashMap<>();
+    this.hash = hash;
+    this.comparisonStrategy = comparisonStrategy;
+    for (int i = 0; i < this.elements.size(); i++) {
+      elementIndexesByHash.computeIfAbsent(hash.applyAsInt(this.elements.get(i)), key -> new ArrayList<>()).add(i);
+    }
+  }
+
+  private ElementBuckets(ElementBuckets<T> elementBuckets) {
+    this.elements = elementBuckets.elements;
+    this.removed = elementBuckets.removed.clone();
+    this.elementIndexesByHash = elementBuckets.elementIndexesByHash;
+    this.hash = elementBuckets.hash;
+    this.comparisonStrategy = elementBuckets.comparisonStrategy;
+  }
+
+  /**
+   * Returns a hash consistent with the given comparison strategy for the given elements if the strategy supports it, that is
+   * when elements are compared with a {@link ConfigurableRecursiveFieldByFieldComparator}.
+   *
+   * @param comparisonStrategy the strategy used to compare the elements
+   * @param actual the actual elements
+   * @param values the values compared to the actual elements
+   * @return a hash consistent with the given comparison strategy or an empty {@link Optional}
+   */
+  static Optional<ToIntFunction<Object>> elementHash(ComparisonStrategy comparisonStrategy, Iterable<?> actual,
+                                                     Iterable<?> values) {
+    if (comparisonStrategy instanceof ComparatorBasedComparisonStrategy comparatorBasedComparisonStrategy
+        && comparatorBasedComparisonStrategy.getComparator() instanceof ConfigurableRecursiveFieldByFieldComparator comparator) {
+      List<Object> allElements = newArrayList(actual);
+      values.forEach(allElements::add);
+      return comparator.structuralHashFor(allElements);
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Returns a copy of these buckets, elements removed from the copy are not removed from these buckets.
+   *
+   * @return a copy of these buckets
+   */
+  ElementBuckets<T> copy() {
+    return new ElementBuckets<>(this);
+  }
+
+  /**
+   * Same as {@link ComparisonStrategy#iterableContains(Iterable, Object)} for the remaining elements.
+   *
+   * @param value the value to look for
+   * @return true if a remaining element is the same as or equal to the given value
+   */
+  boolean contains(Object value) {
+    // avoid comparison when objects are the same or both null
+    return anyMatch(value, element -> element == value
+                                      || element != null && value != null && comparisonStrategy.areEqual(element, value));
+  }
+
+  /**
+   * Same as {@link ComparisonStrategy#iterablesRemoveFirst(Iterable, Object)} for the remaining elements.
+   *
+   * @param value the value to remove
+   */
+  void removeFirst(Object value) {
+    removeFirst(value, element -> comparisonStrategy.areEqual(element, value));
+  }
+
+  /**
+   * Same as {@link ComparisonStrategy#iterableRemoves(Iterable, Object)} for the remaining elements.
+   *
+   * @param value the value to remove
+   */
+  void removeAll(Object value) {
+    for (int index : bucketOf(value)) {
+      if (!removed[index] && comparisonStrategy.areEqual(elements.get(index), value)) removed[index] = true;
+    }
+  }
+
+  boolean anyMatch(Object value, Predicate<? super T> matchesValue) {
+    for (int index : bucketOf(value)) {
+      if (!removed[index] && matchesValue.test(elements.get(index))) return true;
+    }
+    return false;
+  }
+
+  void removeFirst(Object value, Predicate<? super T> matchesValue) {
+    for (int index : bucketOf(value)) {
+      if (!removed[index] && matchesValue.test(elements.get(index))) {
+        removed[index] = true;
+        return;
+      }
+    }
+  }
+
+  List<T> remainingElements() {
+    List<T> remainingElements = new ArrayList<>();
+    for (int i = 0; i < elements.size(); i++) {
+      if (!removed[i]) remainingElements.add(elements.get(i));
+    }
+    return remainingElements;
+  }
+
+  private List<Integer> bucketOf(Object value) {
+    return elementIndexesByHash.getOrDefault(hash.applyAsInt(value), List.of());
+  }
+
+}
@@ -15,36 +15,201 @@
  */
 package org.assertj.core.internal;
 
-import static java.nio.file.Files.readAllBytes;
+import static org.assertj.core.util.Preconditions.checkArgument;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Path;
+import java.util.Arrays;
 
+import org.assertj.core.configuration.Configuration;
 import org.assertj.core.error.AssertionErrorCreator;
 
 /**
- * Carries the absolute path and full byte contents of a file so that, on assertion failure,
+ * Carries the absolute path and byte contents of a file so that, on assertion failure,
  * {@link AssertionErrorCreator} can reflectively build an
  * {@code org.opentest4j.FileInfo} for IDE file-diff rendering. Holds no opentest4j dependency.
+ * <p>
+ * The contents of a file are only read when first accessed, and at most {@link #getMaxContentBytes()} of them, see
+ * {@link Configuration#setMaxFileContentBytesForIdeDiff(int)}. When a larger file is compared to another one, the bytes read
+ * are the ones around the first mismatch between both files, otherwise the first ones. That mismatch is searched at most once
+ * for both files, see {@link #comparedFileContent()}.
  */
-public record FileContent(String path, byte[] contents) {
+public final class FileContent {
 
+  private static int maxContentBytes = Configuration.MAX_FILE_CONTENT_BYTES_FOR_IDE_DIFF;
+
+  private final String path;
+  private final Path file;
+  private final Path comparedTo;
+  private final Mismatch mismatch;
+  private byte[] contents;
+
+  /**
+   * Creates a {@code FileContent} with already known contents, the given array is not copied.
+   *
+   * @param path the absolute path of the file
+   * @param contents the contents of the file
+   */
   public FileContent(String path, byte[] contents) {
+    this(path, null, null, null);
+    this.contents = contents;
+  }
+
+  private FileContent(String path, Path file, Path comparedTo, Mismatch mismatch) {
     this.path = path;
-    this.contents = contents == null ? null : contents.clone();
+    this.file = file;
+    this.comparedTo = comparedTo;
+    this.mismatch = mismatch;
   }
 
-  public static FileContent of(File file) throws IOException {
+  public static FileContent of(File file) {
     return FileContent.of(file.toPath());
   }
 
-  public static FileContent of(Path path) throws IOException {
-    return new FileContent(path.toAbsolutePath().toString(), readAllBytes(path));
+  public static FileContent of(Path path) {
+    return new FileContent(path.toAbsolutePath().toString(), path, null, null);
+  }
+
+  /**
+   * Creates a {@code FileContent} of the given file which, if too large, keeps the bytes around its first mismatch with the
+   * other file it is compared to.
+   *
+   * @param file the file to read the contents of
+   * @param comparedTo the file compared to {@code file}
+   * @return the {@code FileContent} of {@code file}
+   * @since 4.0.0
+   */
+  public static FileContent of(File file, File comparedTo) {
+    return FileContent.of(file.toPath(), comparedTo.toPath());
+  }
+
+  /**
+   * Creates a {@code FileContent} of the given path which, if too large, keeps the bytes around its first mismatch with the
+   * other path it is compared to.
+   *
+   * @param path the path to read the contents of
+   * @param comparedTo the path compared to {@code path}
+   * @return the {@code FileContent} of {@code path}
+   * @since 4.0.0
+   */
+  public static FileContent of(Path path, Path comparedTo) {
+    return new FileContent(path.toAbsolutePath().toString(), path, comparedTo, new Mismatch(path, comparedTo));
+  }
+
+  /**
+   * Creates a {@code FileContent} of the given path which, if too large, keeps the bytes around the already known first
+   * mismatch with the other path it is compared to, e.g. the offset of a {@link BinaryDiffResult}.
+   *
+   * @param path the path to read the contents of
+   * @param comparedTo the path compared to {@code path}
+   * @param mismatch the offset of the first mismatch between both paths, {@code -1} if there is none
+   * @return the {@code FileContent} of {@code path}
+   * @since 4.0.0
+   */
+  public static FileContent of(Path path, Path comparedTo, long mismatch) {
+    return new FileContent(path.toAbsolutePath().toString(), path, comparedTo, new Mismatch(path, comparedTo, mismatch));
+  }
+
+  /**
+   * Returns the {@code FileContent} of the file this one is compared to, both sharing the search of their first mismatch.
+   *
+   * @return the {@code FileContent} of the compared file
+   * @throws IllegalStateException if this {@code FileContent} is not compared to another file
+   * @since 4.0.0
+   */
+  public FileContent comparedFileContent() {
+    if (comparedTo == null) throw new IllegalStateException(path + " is not compared to another file");
+    return new FileContent(comparedTo.toAbsolutePath().toString(), comparedTo, file, mismatch);
+  }
+
+  public String path() {
+    return path;
+  }
+
+  /**
+   * Returns the contents of the file, reading them on first call.
+   *
+   * @return the contents of the file, truncated to {@link #getMaxContentBytes()} bytes
+   * @throws UncheckedIOException if the file can't be read
+   */
+  public byte[] contents() {
+    if (contents == null && file != null) contents = read();
+    return contents;
+  }
+
+  private byte[] read() {
+    try (SeekableByteChannel channel = NioFilesWrapper.instance().newByteChannel(file)) {
+      long size = channel.size();
+      int length = (int) Math.min(size, maxContentBytes);
+      ByteBuffer buffer = ByteBuffer.allocate(length);
+      if (length < size) channel.position(windowStart(size));
+      while (buffer.hasRemaining() && channel.read(buffer) != -1);
+      return buffer.position() == length ? buffer.array() : Arrays.copyOf(buffer.array(), buffer.position());
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to read the contents of " + path, e);
+    }
+  }
+
+  // the window starts a quarter of the max contents before the first mismatch to show what precedes it
+  private long windowStart(long size) throws IOException {
+    if (mismatch == null) return 0;
+    long offset = mismatch.offset();
+    if (offset == -1) return 0;
+    return Math.max(0, Math.min(offset - maxContentBytes / 4, size - maxContentBytes));
+  }
+
+  /**
+   * Returns the maximum number of bytes of a file attached to an assertion error.
+   *
+   * @return the maximum number of bytes of a file attached to an assertion error.
+   * @since 4.0.0
+   */
+  public static int getMaxContentBytes() {
+    return maxContentBytes;
+  }
+
+  /**
+   * Sets the maximum number of bytes of a file attached to an assertion error.
+   *
+   * @param maxContentBytes the maximum number of bytes of a file attached to an assertion error, must be &gt;= 0.
+   * @since 4.0.0
+   */
+  public static void setMaxContentBytes(int maxContentBytes) {
+    checkArgument(maxContentBytes >= 0, "maxContentBytes must be >= 0, but was %s", maxContentBytes);
+    FileContent.maxContentBytes = maxContentBytes;
   }
 
   @Override
   public String toString() {
     return path;
   }
+
+  // the first mismatch between two files, searched on first access only
+  private static final class Mismatch {
+
+    private static final long UNKNOWN = -2;
+
+    private final Path path;
+    private final Path comparedTo;
+    private long offset;
+
+    private Mismatch(Path path, Path comparedTo) {
+      this(path, comparedTo, UNKNOWN);
+    }
+
+    private Mismatch(Path path, Path comparedTo, long offset) {
+      this.path = path;
+      this.comparedTo = comparedTo;
+      this.offset = offset;
+    }
+
+    private long offset() throws IOException {
+      if (offset == UNKNOWN) offset = NioFilesWrapper.instance().mismatch(path, comparedTo);
+      return offset;
+    }
+  }
 }
@@ -16,7 +16,6 @@
 package org.assertj.core.internal;
 
 import static java.lang.String.format;
-import static java.nio.file.Files.readAllBytes;
 import static java.nio.file.Files.walk;
 import static java.util.Comparator.comparing;
 import static java.util.Objects.requireNonNull;
@@ -54,7 +53,6 @@ import static org.assertj.core.util.Preconditions.checkArgument;
 import java.io.File;
 import java.io.FileFilter;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.charset.MalformedInputException;
@@ -64,10 +62,13 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.presentation.StandardRepresentation;
 import org.assertj.core.util.diff.Delta;
 
 /**
@@ -103,10 +104,31 @@ public class Files {
   Failures failures = Failures.instance();
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   NioFilesWrapper nioFilesWrapper = NioFilesWrapper.instance();
+  // TODO reduce the visibility of the fields annotated with @VisibleForTesting
+  ForkJoinPool directoryScanPool;
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   Files() {}
 
+  /**
+   * Returns a copy of this {@code Files} scanning the directory trees of {@code assertIsDirectoryRecursivelyContaining} in
+   * parallel in the given pool.
+   *
+   * @param directoryScanPool the pool used to scan directory trees
+   * @return a copy of this {@code Files} scanning directory trees in parallel
+   * @since 4.0.0
+   */
+  public Files inParallel(ForkJoinPool directoryScanPool) {
+    requireNonNull(directoryScanPool, "The ForkJoinPool should not be null");
+    Files files = new Files();
+    files.diff = diff;
+    files.binaryDiff = binaryDiff;
+    files.failures = failures;
+    files.nioFilesWrapper = nioFilesWrapper;
+    files.directoryScanPool = directoryScanPool;
+    return files;
+  }
+
   /**
    * Asserts that the given files have same content. Adapted from <a
    * href="http://junit-addons.sourceforge.net/junitx/framework/FileAssert.html" target="_blank">FileAssert</a> (from <a
@@ -131,19 +153,21 @@ public class Files {
     try {
       List<Delta<String>> diffs = diff.diff(actual, actualCharset, expected, expectedCharset);
       if (diffs.isEmpty()) return;
-      throw failures.failure(info, shouldHaveSameContent(actual, expected, diffs),
-                             FileContent.of(actual), FileContent.of(expected));
+      FileContent actualContent = FileContent.of(actual, expected);
+      throw failures.failure(info, shouldHaveSameContent(actual, expected, diffs), actualContent,
+                             actualContent.comparedFileContent());
     } catch (MalformedInputException e) {
       try {
         // MalformedInputException is thrown by readLine() called in diff
         // compute a binary diff, if there is a binary diff, it shows the offset of the malformed input
-        BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, readAllBytes(expected.toPath()));
+        BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual.toPath(), expected.toPath());
         if (binaryDiffResult.hasNoDiff()) {
           // fall back to the UncheckedIOException : not throwing an error is wrong as there was one in the first place.
           throw e;
         }
-        throw failures.failure(info, shouldHaveBinaryContent(actual, binaryDiffResult),
-                               FileContent.of(actual), FileContent.of(expected));
+        FileContent actualContent = FileContent.of(actual.toPath(), expected.toPath(), binaryDiffResult.longOffset());
+        throw failures.failure(info, shouldHaveBinaryContent(actual, binaryDiffResult), actualContent,
+                               actualContent.comparedFileContent());
       } catch (IOException ioe) {
         throw new UncheckedIOException(UNABLE_TO_COMPARE_FILE_CONTENTS.formatted(actual, expected), ioe);
       }
@@ -169,10 +193,12 @@ public class Files {
     verifyIsFile(expected);
     assertIsFile(info, actual);
     try {
-      BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, readAllBytes(expected.toPath()));
-      if (binaryDiffResult.hasDiff())
-        throw failures.failure(info, shouldHaveBinaryContent(actual, binaryDiffResult),
-                               FileContent.of(actual), FileContent.of(expected));
+      BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual.toPath(), expected.toPath());
+      if (binaryDiffResult.hasDiff()) {
+        FileContent actualContent = FileContent.of(actual.toPath(), expected.toPath(), binaryDiffResult.longOffset());
+        throw failures.failure(info, shouldHaveBinaryContent(actual, binaryDiffResult), actualContent,
+                               actualContent.comparedFileContent());
+      }
     } catch (IOException ioe) {
       throw new UncheckedIOException(UNABLE_TO_COMPARE_FILE_CONTENTS.formatted(actual, expected), ioe);
     }
@@ -498,8 +524,8 @@ public class Files {
     assertExists(info, actual);
     assertIsFile(info, actual);
     assertCanRead(info, actual);
-    try (InputStream actualStream = nioFilesWrapper.newInputStream(actual.toPath())) {
-      DigestDiff digestDiff = digestDiff(actualStream, digest, expected);
+    try {
+      DigestDiff digestDiff = digestDiff(actual.toPath(), digest, expected, nioFilesWrapper);
       if (digestDiff.digestsDiffer()) throw failures.failure(info, shouldHaveDigest(actual, digestDiff));
     } catch (IOException e) {
       throw new UncheckedIOException("Unable to calculate digest of path:<%s>".formatted(actual), e);
@@ -658,12 +684,19 @@ public class Files {
     return files;
   }
 
+  // only keeps the first maxFiles matching files, File.listFiles lists the whole directory anyway
+  private List<File> filterDirectory(AssertionInfo info, File actual, FileFilter filter, long maxFiles) {
+    AtomicLong matchingFiles = new AtomicLong();
+    return filterDirectory(info, actual, file -> filter.accept(file) && matchingFiles.incrementAndGet() <= maxFiles);
+  }
+
   private List<File> directoryContent(AssertionInfo info, File actual) {
     return filterDirectory(info, actual, ANY);
   }
 
   private void assertIsDirectoryNotContaining(AssertionInfo info, File actual, FileFilter filter, String filterPresentation) {
-    List<File> matchingFiles = filterDirectory(info, actual, filter);
+    // only a sample of the matching files is needed for the error message, one more than printed to show there are more
+    List<File> matchingFiles = filterDirectory(info, actual, filter, StandardRepresentation.getMaxElementsForPrinting() + 1L);
     if (!matchingFiles.isEmpty()) {
       throw failures.failure(info, directoryShouldNotContain(actual, matchingFiles, filterPresentation));
     }
@@ -680,15 +713,21 @@ public class Files {
   private boolean isDirectoryContaining(AssertionInfo info, File actual, Predicate<File> filter, boolean recursively) {
     assertIsDirectory(info, actual);
     Path directoryPath = actual.toPath();
+    if (recursively) {
+      try {
+        return DirectoryScanner.anyMatch(directoryPath, path -> filter.test(path.toFile()), directoryScanPool);
+      } catch (IOException e) {
+        throw new UncheckedIOException(format("Unable to walk recursively directory: <%s>", directoryPath), e);
+      }
+    }
     // don't use actual.listFiles(filter) for non-recursive mode as it checks absolute paths, walk does not
-    try (Stream<Path> pathStream = recursively ? walk(directoryPath) : walk(directoryPath, 1)) {
+    try (Stream<Path> pathStream = walk(directoryPath, 1)) {
       Stream<File> relativeFileStream = pathStream.filter(path -> !path.equals(directoryPath))
                                                   .map(directoryPath::relativize)
                                                   .map(Path::toFile);
       return relativeFileStream.anyMatch(filter);
     } catch (IOException e) {
-      throw new UncheckedIOException(format("Unable to walk %sdirectory: <%s>", recursively ? "recursively " : "", directoryPath),
-                                     e);
+      throw new UncheckedIOException(format("Unable to walk directory: <%s>", directoryPath), e);
     }
   }
 
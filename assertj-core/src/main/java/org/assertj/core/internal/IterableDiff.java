@@ -16,10 +16,13 @@
 package org.assertj.core.internal;
 
 import static java.util.Collections.unmodifiableList;
+import static org.assertj.core.internal.ElementBuckets.elementHash;
 import static org.assertj.core.util.Lists.newArrayList;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.ToIntFunction;
 
 import org.assertj.core.api.comparisonstrategy.ComparisonStrategy;
 import org.assertj.core.api.comparisonstrategy.StandardComparisonStrategy;
@@ -37,6 +40,13 @@ class IterableDiff<T> {
 
   IterableDiff(Iterable<T> actual, Iterable<T> expected, ComparisonStrategy comparisonStrategy) {
     this.comparisonStrategy = comparisonStrategy;
+    Optional<ToIntFunction<Object>> elementHash = elementHash(comparisonStrategy, actual, expected);
+    if (elementHash.isPresent()) {
+      // only compare elements having the same hash
+      this.unexpected = unexpectedActualElements(actual, expected, elementHash.get());
+      this.missing = missingActualElements(actual, expected, elementHash.get());
+      return;
+    }
     // return the elements in actual that are not in expected: actual - expected
     this.unexpected = unexpectedActualElements(actual, expected);
     // return the elements in expected that are not in actual: expected - actual
@@ -86,6 +96,22 @@ class IterableDiff<T> {
     return copyOfExpected.stream().anyMatch(expectedElement -> comparisonStrategy.areEqual(elementInActual, expectedElement));
   }
 
+  // same as unexpectedActualElements(actual, expected) but only comparing elements having the same hash
+  private List<T> unexpectedActualElements(Iterable<T> actual, Iterable<T> expected, ToIntFunction<Object> hash) {
+    List<T> missingInFirst = new ArrayList<>();
+    ElementBuckets<T> copyOfExpected = new ElementBuckets<>(expected, hash, comparisonStrategy);
+    for (T elementInActual : actual) {
+      // compare actual to expected as in isActualElementInExpected
+      if (copyOfExpected.anyMatch(elementInActual,
+                                  expectedElement -> comparisonStrategy.areEqual(elementInActual, expectedElement))) {
+        copyOfExpected.removeFirst(elementInActual);
+      } else {
+        missingInFirst.add(elementInActual);
+      }
+    }
+    return unmodifiableList(missingInFirst);
+  }
+
   private List<T> missingActualElements(Iterable<T> actual, Iterable<T> expected) {
     List<T> missingInExpected = new ArrayList<>();
     // use a copy to deal correctly with potential duplicates
@@ -101,6 +127,20 @@ class IterableDiff<T> {
     return unmodifiableList(missingInExpected);
   }
 
+  // same as missingActualElements(actual, expected) but only comparing elements having the same hash
+  private List<T> missingActualElements(Iterable<T> actual, Iterable<T> expected, ToIntFunction<Object> hash) {
+    List<T> missingInExpected = new ArrayList<>();
+    ElementBuckets<T> copyOfActual = new ElementBuckets<>(actual, hash, comparisonStrategy);
+    for (T expectedElement : expected) {
+      if (copyOfActual.contains(expectedElement)) {
+        copyOfActual.removeFirst(expectedElement);
+      } else {
+        missingInExpected.add(expectedElement);
+      }
+    }
+    return unmodifiableList(missingInExpected);
+  }
+
   private boolean iterableContains(Iterable<?> actual, T expectedElement) {
     return comparisonStrategy.iterableContains(actual, expectedElement);
   }
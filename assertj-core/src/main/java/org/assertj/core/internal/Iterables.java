@@ -74,11 +74,13 @@ import static org.assertj.core.internal.CommonValidations.checkSizeLessThanOrEqu
 import static org.assertj.core.internal.CommonValidations.checkSizes;
 import static org.assertj.core.internal.CommonValidations.failIfEmptySinceActualIsNotEmpty;
 import static org.assertj.core.internal.CommonValidations.hasSameSizeAsCheck;
+import static org.assertj.core.internal.ElementBuckets.elementHash;
 import static org.assertj.core.internal.ErrorMessages.emptySequence;
 import static org.assertj.core.internal.ErrorMessages.emptySubsequence;
 import static org.assertj.core.internal.ErrorMessages.nullSequence;
 import static org.assertj.core.internal.ErrorMessages.nullSubsequence;
 import static org.assertj.core.internal.IterableDiff.diff;
+import static org.assertj.core.internal.ToleranceMatching.toleranceMatching;
 import static org.assertj.core.util.Arrays.asList;
 import static org.assertj.core.util.Arrays.prepend;
 import static org.assertj.core.util.IterableUtil.isNullOrEmpty;
@@ -101,9 +103,15 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.api.Condition;
@@ -129,6 +137,8 @@ public class Iterables {
 
   private static final Iterables INSTANCE = new Iterables();
   private final ComparisonStrategy comparisonStrategy;
+  // null means that elements are evaluated sequentially
+  private final ForkJoinPool parallelExecutionPool;
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   Failures failures = Failures.instance();
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
@@ -156,7 +166,28 @@ public class Iterables {
    * @param comparisonStrategy the comparison strategy
    */
   public Iterables(ComparisonStrategy comparisonStrategy) {
+    this(comparisonStrategy, null);
+  }
+
+  private Iterables(ComparisonStrategy comparisonStrategy, ForkJoinPool parallelExecutionPool) {
     this.comparisonStrategy = comparisonStrategy;
+    this.parallelExecutionPool = parallelExecutionPool;
+  }
+
+  /**
+   * Returns a copy of this {@code Iterables} evaluating the elements of {@code assertAllSatisfy}, {@code assertAllMatch} and
+   * {@code assertNoneMatch} in parallel in the given pool, errors are still reported following the iterable order.
+   *
+   * @param parallelExecutionPool the pool used to evaluate the elements
+   * @return a copy of this {@code Iterables} evaluating elements in parallel
+   */
+  public Iterables inParallel(ForkJoinPool parallelExecutionPool) {
+    requireNonNull(parallelExecutionPool, "The ForkJoinPool should not be null");
+    Iterables iterables = new Iterables(comparisonStrategy, parallelExecutionPool);
+    iterables.failures = failures;
+    iterables.conditions = conditions;
+    iterables.predicates = predicates;
+    return iterables;
   }
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
@@ -350,6 +381,8 @@ public class Iterables {
   public void assertContains(AssertionInfo info, Iterable<?> actual, Object[] values) {
     final Collection<?> actualAsCollection = ensureActualCanBeReadMultipleTimes(actual);
     if (commonCheckThatIterableAssertionSucceeds(info, failures, actualAsCollection, values)) return;
+    ToleranceMatching toleranceMatching = toleranceMatching(comparisonStrategy, actualAsCollection, values);
+    if (toleranceMatching != null && toleranceMatching.containsAll(actualAsCollection, values)) return;
     // check for elements in values that are missing in actual.
     assertIterableContainsGivenValues(actual.getClass(), actualAsCollection, values, info);
   }
@@ -398,18 +431,39 @@ public class Iterables {
     checkNotNullIterables(info, actualAsCollection, expectedValues);
     // if both actual and values are empty, then assertion passes.
     if (actualAsCollection.isEmpty() && expectedValues.length == 0) return;
-
-    // after the for loop, unexpected = expectedValues - actual
-    List<Object> unexpectedValues = newArrayList(actualAsCollection);
-    // after the for loop, missing = actual - expectedValues
-    List<Object> missingValues = newArrayList(expectedValues);
-    for (Object expected : expectedValues) {
-      if (iterableContains(actualAsCollection, expected)) {
-        // since expected was found in actual:
-        // -- it does not belong to the missing elements
-        iterablesRemove(missingValues, expected);
-        // -- it does not belong to the unexpected elements
-        iterablesRemove(unexpectedValues, expected);
+    ToleranceMatching toleranceMatching = toleranceMatching(comparisonStrategy, actualAsCollection, expectedValues);
+    if (toleranceMatching != null && toleranceMatching.containsOnly(actualAsCollection, expectedValues)) return;
+
+    List<Object> unexpectedValues;
+    List<Object> missingValues;
+    Optional<ToIntFunction<Object>> elementHash = elementHash(comparisonStrategy, actualAsCollection, list(expectedValues));
+    if (elementHash.isPresent()) {
+      // same as below but only comparing elements having the same hash
+      ToIntFunction<Object> hash = elementHash.get();
+      ElementBuckets<Object> actualElements = new ElementBuckets<>(actualAsCollection, hash, comparisonStrategy);
+      ElementBuckets<Object> unexpected = actualElements.copy();
+      ElementBuckets<Object> missing = new ElementBuckets<>(list(expectedValues), hash, comparisonStrategy);
+      for (Object expected : expectedValues) {
+        if (actualElements.contains(expected)) {
+          missing.removeAll(expected);
+          unexpected.removeAll(expected);
+        }
+      }
+      unexpectedValues = unexpected.remainingElements();
+      missingValues = missing.remainingElements();
+    } else {
+      // after the for loop, unexpected = expectedValues - actual
+      unexpectedValues = newArrayList(actualAsCollection);
+      // after the for loop, missing = actual - expectedValues
+      missingValues = newArrayList(expectedValues);
+      for (Object expected : expectedValues) {
+        if (iterableContains(actualAsCollection, expected)) {
+          // since expected was found in actual:
+          // -- it does not belong to the missing elements
+          iterablesRemove(missingValues, expected);
+          // -- it does not belong to the unexpected elements
+          iterablesRemove(unexpectedValues, expected);
+        }
       }
     }
 
@@ -1195,9 +1249,11 @@ public class Iterables {
     assertNotEmpty(info, actual);
     requireNonNull(requirements, "The Consumer<T> expressing the assertions requirements must not be null");
 
-    List<UnsatisfiedRequirement> unsatisfiedRequirements = stream(actual).map(element -> failsRequirements(requirements, element))
-                                                                         .flatMap(Optional::stream)
-                                                                         .collect(toList());
+    List<UnsatisfiedRequirement> unsatisfiedRequirements;
+    unsatisfiedRequirements = evaluateElements(actual, parallelExecutionPool,
+                                               elements -> elements.map(element -> failsRequirements(requirements, element))
+                                                                   .flatMap(Optional::stream)
+                                                                   .collect(toList()));
     if (!unsatisfiedRequirements.isEmpty())
       throw failures.failure(info, elementsShouldSatisfy(actual, unsatisfiedRequirements, info));
   }
@@ -1385,7 +1441,8 @@ public class Iterables {
     assertNotNull(info, actual);
     predicates.assertIsNotNull(predicate);
     assertNotEmpty(info, actual);
-    List<? extends E> nonMatches = stream(actual).filter(predicate.negate()).collect(toList());
+    List<? extends E> nonMatches = evaluateElements(actual, parallelExecutionPool,
+                                                    elements -> elements.filter(predicate.negate()).collect(toList()));
 
     if (!nonMatches.isEmpty()) {
       throw failures.failure(info, elementsShouldMatch(actual,
@@ -1453,11 +1510,11 @@ public class Iterables {
                                   PredicateDescription predicateDescription) {
     assertNotNull(info, actual);
     predicates.assertIsNotNull(predicate);
-    stream(actual).filter(predicate)
-                  .findFirst()
-                  .ifPresent(e -> {
-                    throw failures.failure(info, noElementsShouldMatch(actual, e, predicateDescription));
-                  });
+    Optional<? extends E> firstMatch = evaluateElements(actual, parallelExecutionPool,
+                                                        elements -> elements.filter(predicate).findFirst());
+    firstMatch.ifPresent(e -> {
+      throw failures.failure(info, noElementsShouldMatch(actual, e, predicateDescription));
+    });
   }
 
   /**
@@ -1492,13 +1549,33 @@ public class Iterables {
   public void assertContainsExactlyInAnyOrder(AssertionInfo info, Iterable<?> actual, Object[] values) {
     checkIsNotNull(values);
     assertNotNull(info, actual);
-    List<Object> notExpected = newArrayList(actual);
-    List<Object> notFound = newArrayList(values);
-
-    for (Object value : values) {
-      if (iterableContains(notExpected, value)) {
-        iterablesRemoveFirst(notExpected, value);
-        iterablesRemoveFirst(notFound, value);
+    List<Object> actualElements = newArrayList(actual);
+    ToleranceMatching toleranceMatching = toleranceMatching(comparisonStrategy, actualElements, values);
+    if (toleranceMatching != null && toleranceMatching.containsExactlyInAnyOrder(actualElements, values)) return;
+    List<Object> notExpected;
+    List<Object> notFound;
+    Optional<ToIntFunction<Object>> elementHash = elementHash(comparisonStrategy, actualElements, list(values));
+    if (elementHash.isPresent()) {
+      // same as below but only comparing elements having the same hash
+      ToIntFunction<Object> hash = elementHash.get();
+      ElementBuckets<Object> notExpectedBuckets = new ElementBuckets<>(actualElements, hash, comparisonStrategy);
+      ElementBuckets<Object> notFoundBuckets = new ElementBuckets<>(list(values), hash, comparisonStrategy);
+      for (Object value : values) {
+        if (notExpectedBuckets.contains(value)) {
+          notExpectedBuckets.removeFirst(value);
+          notFoundBuckets.removeFirst(value);
+        }
+      }
+      notExpected = notExpectedBuckets.remainingElements();
+      notFound = notFoundBuckets.remainingElements();
+    } else {
+      notExpected = actualElements;
+      notFound = newArrayList(values);
+      for (Object value : values) {
+        if (iterableContains(notExpected, value)) {
+          iterablesRemoveFirst(notExpected, value);
+          iterablesRemoveFirst(notFound, value);
+        }
       }
     }
 
@@ -1542,6 +1619,36 @@ public class Iterables {
     };
   }
 
+  /**
+   * Applies the given evaluation to a stream of the iterable elements.
+   * <p>
+   * If a pool is given, the stream is parallel and evaluated in that pool otherwise it is sequential, in both cases the
+   * stream keeps the iterable encounter order so that collected results (and thus error messages) are deterministic.
+   *
+   * @param <E> the element type
+   * @param <R> the evaluation result type
+   * @param iterable the iterable whose elements to evaluate
+   * @param parallelExecutionPool the pool to evaluate the elements in parallel, {@code null} to evaluate them sequentially
+   * @param evaluation the evaluation to apply to the elements stream
+   * @return the evaluation result
+   */
+  public static <E, R> R evaluateElements(Iterable<? extends E> iterable, ForkJoinPool parallelExecutionPool,
+                                          Function<? super Stream<? extends E>, R> evaluation) {
+    if (parallelExecutionPool == null) return evaluation.apply(stream(iterable));
+    Stream<? extends E> parallelStream = StreamSupport.stream(iterable.spliterator(), true);
+    try {
+      return parallelExecutionPool.submit(() -> evaluation.apply(parallelStream)).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while evaluating elements in parallel", e);
+    } catch (ExecutionException e) {
+      // rethrow the original exception (and not the copy ForkJoinTask.join could create)
+      if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+      if (e.getCause() instanceof Error error) throw error;
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
   private static void checkIsNotEmptySequence(Object[] sequence) {
     if (sequence.length == 0) throw new IllegalArgumentException(emptySequence());
   }
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+/**
+ * A list whose elements are only located or computed when accessed, its size may require to locate all of them so
+ * {@link #hasElementAt(int)} should be used to check an index instead.
+ */
+public interface LazyList {
+
+  /**
+   * Returns whether the list has an element at the given index, only locating the elements up to it.
+   *
+   * @param index the index of the element, must not be negative
+   * @return whether the list has an element at the given index
+   */
+  boolean hasElementAt(int index);
+
+}
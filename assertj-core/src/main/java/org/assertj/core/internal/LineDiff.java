@@ -0,0 +1,165 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static java.util.Collections.unmodifiableList;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
+import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.InsertDelta;
+
+/**
+ * Computes the line differences of two texts with a minimal edit script like {@code MyersDiff} does, but scales to large
+ * texts:
+ * <ul>
+ * <li>the common prefix and suffix lines are skipped first,</li>
+ * <li>the other lines are interned to int ids, lines are then compared with {@code ==} instead of {@code equals},</li>
+ * <li>lines that don't occur in the other text can't be matched and are left out of the comparison,</li>
+ * <li>the matching lines are searched with {@link LinearSpaceMyersSearch}, the linear space refinement of the Myers
+ * algorithm, which stops once the maximum number of deltas has been found.</li>
+ * </ul>
+ * The deltas are the first ones of the complete diff, sorted by position.
+ */
+final class LineDiff {
+
+  private final List<String> original;
+  private final List<String> revised;
+  private final int firstPosition;
+  private final int maxDeltas;
+  private final List<Delta<String>> deltas = new ArrayList<>();
+  // the compared line ids and the index of each compared line in the original and revised texts
+  private int[] originalIds;
+  private int[] originalLines;
+  private int[] revisedIds;
+  private int[] revisedLines;
+  // end of the last matched lines
+  private int originalEnd;
+  private int revisedEnd;
+
+  private LineDiff(List<String> original, List<String> revised, int firstPosition, int maxDeltas) {
+    this.original = original;
+    this.revised = revised;
+    this.firstPosition = firstPosition;
+    this.maxDeltas = maxDeltas;
+  }
+
+  /**
+   * Returns the first differences between the original and revised lines.
+   *
+   * @param original the original lines
+   * @param revised the revised lines
+   * @param maxDeltas the maximum number of differences to return
+   * @return at most maxDeltas differences sorted by position
+   */
+  static List<Delta<String>> diff(List<String> original, List<String> revised, int maxDeltas) {
+    return diff(original, revised, 0, maxDeltas);
+  }
+
+  /**
+   * Returns the first differences between the original and revised lines, the given lines being preceded by
+   * firstPosition lines equal in both texts.
+   *
+   * @param original the original lines following the common ones
+   * @param revised the revised lines following the common ones
+   * @param firstPosition the position of the given lines in the texts
+   * @param maxDeltas the maximum number of differences to return
+   * @return at most maxDeltas differences sorted by position
+   */
+  static List<Delta<String>> diff(List<String> original, List<String> revised, int firstPosition, int maxDeltas) {
+    LineDiff lineDiff = new LineDiff(original, revised, firstPosition, maxDeltas);
+    lineDiff.diff();
+    return unmodifiableList(lineDiff.deltas);
+  }
+
+  private void diff() {
+    int originalSize = original.size();
+    int revisedSize = revised.size();
+    int prefix = 0;
+    while (prefix < originalSize && prefix < revisedSize && original.get(prefix).equals(revised.get(prefix))) prefix++;
+    int suffix = 0;
+    while (suffix < originalSize - prefix && suffix < revisedSize - prefix
+           && original.get(originalSize - 1 - suffix).equals(revised.get(revisedSize - 1 - suffix)))
+      suffix++;
+    originalEnd = prefix;
+    revisedEnd = prefix;
+    internLines(prefix, originalSize - suffix, revisedSize - suffix);
+    LinearSpaceMyersSearch.match(originalIds.length, revisedIds.length, (x, y) -> originalIds[x] == revisedIds[y],
+                                 () -> deltas.size() >= maxDeltas, (x, y) -> match(originalLines[x], revisedLines[y]));
+    // the common suffix closes the last delta
+    match(originalSize - suffix, revisedSize - suffix);
+  }
+
+  private void internLines(int start, int originalStop, int revisedStop) {
+    Map<String, Integer> ids = new HashMap<>();
+    int[] allOriginalIds = new int[originalStop - start];
+    for (int i = start; i < originalStop; i++) {
+      allOriginalIds[i - start] = ids.computeIfAbsent(original.get(i), line -> ids.size());
+    }
+    boolean[] inRevised = new boolean[ids.size()];
+    int[] allRevisedIds = new int[revisedStop - start];
+    int revisedCount = 0;
+    for (int j = start; j < revisedStop; j++) {
+      Integer id = ids.get(revised.get(j));
+      allRevisedIds[j - start] = id == null ? -1 : id;
+      if (id != null) {
+        inRevised[id] = true;
+        revisedCount++;
+      }
+    }
+    int originalCount = 0;
+    for (int id : allOriginalIds) {
+      if (inRevised[id]) originalCount++;
+    }
+    originalIds = new int[originalCount];
+    originalLines = new int[originalCount];
+    for (int i = 0, k = 0; i < allOriginalIds.length; i++) {
+      if (!inRevised[allOriginalIds[i]]) continue;
+      originalIds[k] = allOriginalIds[i];
+      originalLines[k++] = start + i;
+    }
+    revisedIds = new int[revisedCount];
+    revisedLines = new int[revisedCount];
+    for (int j = 0, k = 0; j < allRevisedIds.length; j++) {
+      if (allRevisedIds[j] == -1) continue;
+      revisedIds[k] = allRevisedIds[j];
+      revisedLines[k++] = start + j;
+    }
+  }
+
+  // reports matching original and revised lines, adding a delta for the unmatched lines since the previous match
+  private void match(int originalLine, int revisedLine) {
+    if (deltas.size() == maxDeltas) return;
+    if (originalLine > originalEnd || revisedLine > revisedEnd) {
+      Chunk<String> originalChunk = new Chunk<>(firstPosition + originalEnd,
+                                                new ArrayList<>(original.subList(originalEnd, originalLine)));
+      Chunk<String> revisedChunk = new Chunk<>(firstPosition + revisedEnd,
+                                               new ArrayList<>(revised.subList(revisedEnd, revisedLine)));
+      if (originalChunk.size() == 0) deltas.add(new InsertDelta<>(originalChunk, revisedChunk));
+      else if (revisedChunk.size() == 0) deltas.add(new DeleteDelta<>(originalChunk, revisedChunk));
+      else deltas.add(new ChangeDelta<>(originalChunk, revisedChunk));
+    }
+    originalEnd = originalLine + 1;
+    revisedEnd = revisedLine + 1;
+  }
+
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * The search of the linear space refinement of the Myers differencing algorithm, shared by
+ * {@link org.assertj.core.util.diff.myers.LinearSpaceMyersDiff LinearSpaceMyersDiff} and {@link LineDiff}.
+ * <p>
+ * It only keeps the furthest reaching x per diagonal: it searches an optimal path forward from the start and backward from
+ * the end until they overlap, then divides the problem in two at that middle point and conquers each half the same way.
+ */
+public final class LinearSpaceMyersSearch {
+
+  /**
+   * Tells whether the elements at the given indices of the original and revised sequences are equal.
+   */
+  @FunctionalInterface
+  public interface IndexEqualizer {
+
+    /**
+     * Returns whether the elements at the given indices are equal.
+     *
+     * @param originalIndex the index of an element of the original sequence
+     * @param revisedIndex the index of an element of the revised sequence
+     * @return whether the elements are equal
+     */
+    boolean equals(int originalIndex, int revisedIndex);
+  }
+
+  /**
+   * Receives the matching elements of an optimal path, in order.
+   */
+  @FunctionalInterface
+  public interface MatchHandler {
+
+    /**
+     * Called for each matching pair of elements.
+     *
+     * @param originalIndex the index of the matching element in the original sequence
+     * @param revisedIndex the index of the matching element in the revised sequence
+     */
+    void match(int originalIndex, int revisedIndex);
+  }
+
+  private final IndexEqualizer equalizer;
+  private final BooleanSupplier done;
+  private final MatchHandler matchHandler;
+  // furthest reaching x per diagonal k = x - y of the forward and backward searches, offset to be positive
+  private final int[] forward;
+  private final int[] backward;
+  private final int offset;
+
+  /**
+   * Reports in order the matching elements of an optimal path between an original and a revised sequence, only known by
+   * their sizes and the equality of their elements.
+   * <p>
+   * The search divides the sequences in smaller and smaller ranges from left to right, {@code done} is checked before
+   * dividing a range: once it returns true, the remaining ranges are not searched anymore and only their common prefix and
+   * suffix are reported. This allows callers only interested in the first differences to stop early.
+   *
+   * @param originalSize the size of the original sequence
+   * @param revisedSize the size of the revised sequence
+   * @param equalizer tells whether an element of the original sequence equals an element of the revised one
+   * @param done tells whether the search can stop
+   * @param matchHandler receives the indices of the matching elements, in order
+   */
+  public static void match(int originalSize, int revisedSize, IndexEqualizer equalizer, BooleanSupplier done,
+                           MatchHandler matchHandler) {
+    LinearSpaceMyersSearch search = new LinearSpaceMyersSearch(originalSize, revisedSize, equalizer, done, matchHandler);
+    search.compare(0, originalSize, 0, revisedSize);
+  }
+
+  private LinearSpaceMyersSearch(int originalSize, int revisedSize, IndexEqualizer equalizer, BooleanSupplier done,
+                                 MatchHandler matchHandler) {
+    this.equalizer = equalizer;
+    this.done = done;
+    this.matchHandler = matchHandler;
+    forward = new int[originalSize + revisedSize + 3];
+    backward = new int[originalSize + revisedSize + 3];
+    offset = revisedSize + 1;
+  }
+
+  // compares original[xStart, xStop[ and revised[yStart, yStop[, reporting their matching elements in order
+  private void compare(int xStart, int xStop, int yStart, int yStop) {
+    while (xStart < xStop && yStart < yStop && equals(xStart, yStart)) {
+      matchHandler.match(xStart++, yStart++);
+    }
+    int suffixStart = xStop;
+    while (xStart < xStop && yStart < yStop && equals(xStop - 1, yStop - 1)) {
+      xStop--;
+      yStop--;
+    }
+    if (xStart < xStop && yStart < yStop && !done.getAsBoolean()) {
+      long middle = middle(xStart, xStop, yStart, yStop);
+      int xMiddle = (int) (middle >>> 32);
+      int yMiddle = (int) middle;
+      compare(xStart, xMiddle, yStart, yMiddle);
+      compare(xMiddle, xStop, yMiddle, yStop);
+    }
+    for (int x = xStop, y = yStop; x < suffixStart; x++, y++) {
+      matchHandler.match(x, y);
+    }
+  }
+
+  // returns the point, packed in a long, where an optimal path of the given non-empty ranges crosses its middle, the ranges
+  // must start and end with different elements. Diagonals out of the ranges are not searched, their neighbours being
+  // sentinels.
+  private long middle(int xStart, int xStop, int yStart, int yStop) {
+    int minDiagonal = xStart - yStop;
+    int maxDiagonal = xStop - yStart;
+    int forwardMiddle = xStart - yStart;
+    int backwardMiddle = xStop - yStop;
+    int forwardMin = forwardMiddle;
+    int forwardMax = forwardMiddle;
+    int backwardMin = backwardMiddle;
+    int backwardMax = backwardMiddle;
+    boolean odd = ((forwardMiddle - backwardMiddle) & 1) != 0;
+    forward[offset + forwardMiddle] = xStart;
+    backward[offset + backwardMiddle] = xStop;
+    while (true) {
+      if (forwardMin > minDiagonal) forward[offset + --forwardMin - 1] = -1;
+      else forwardMin++;
+      if (forwardMax < maxDiagonal) forward[offset + ++forwardMax + 1] = -1;
+      else forwardMax--;
+      for (int k = forwardMax; k >= forwardMin; k -= 2) {
+        int low = forward[offset + k - 1];
+        int high = forward[offset + k + 1];
+        int x = low < high ? high : low + 1;
+        int y = x - k;
+        while (x < xStop && y < yStop && equals(x, y)) {
+          x++;
+          y++;
+        }
+        forward[offset + k] = x;
+        if (odd && backwardMin <= k && k <= backwardMax && backward[offset + k] <= x) return (long) x << 32 | y;
+      }
+      if (backwardMin > minDiagonal) backward[offset + --backwardMin - 1] = Integer.MAX_VALUE;
+      else backwardMin++;
+      if (backwardMax < maxDiagonal) backward[offset + ++backwardMax + 1] = Integer.MAX_VALUE;
+      else backwardMax--;
+      for (int k = backwardMax; k >= backwardMin; k -= 2) {
+        int low = backward[offset + k - 1];
+        int high = backward[offset + k + 1];
+        int x = low < high ? low : high - 1;
+        int y = x - k;
+        while (xStart < x && yStart < y && equals(x - 1, y - 1)) {
+          x--;
+          y--;
+        }
+        backward[offset + k] = x;
+        if (!odd && forwardMin <= k && k <= forwardMax && x <= forward[offset + k]) return (long) x << 32 | y;
+      }
+    }
+  }
+
+  private boolean equals(int x, int y) {
+    return equalizer.equals(x, y);
+  }
+
+}
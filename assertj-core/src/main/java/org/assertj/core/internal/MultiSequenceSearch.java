@@ -0,0 +1,228 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import java.util.Arrays;
+
+/**
+ * Looks for many sequences in a text in a single pass using an
+ * <a href="https://en.wikipedia.org/wiki/Aho%E2%80%93Corasick_algorithm">Aho-Corasick</a> automaton, this is much faster
+ * than looking for each sequence separately when there are many of them.
+ * <p>
+ * When ignoring case, chars are compared lower-cased with {@link Character#toLowerCase(char)}, which only gives the same
+ * results as {@code String.toLowerCase} for texts that {@link CharSequenceSearch#isLowerCasedCharByChar(CharSequence)}.
+ */
+final class MultiSequenceSearch {
+
+  private static final int ROOT = 0;
+  private static final int NONE = -1;
+
+  private final int sequenceCount;
+  private final boolean ignoreCase;
+  private final CharTransitions transitions = new CharTransitions();
+  // the automaton nodes data, node 0 is the root (the empty prefix)
+  private int[] failure = new int[16];
+  // next node on the failure path that ends a sequence
+  private int[] outputLink = new int[16];
+  // index of the first sequence ending at the node, the other ones are linked with nextSequenceEndingAtSameNode
+  private int[] firstSequenceEndingAt = new int[16];
+  private final int[] nextSequenceEndingAtSameNode;
+  // the tree structure used to compute the failure links
+  private int[] firstChild = new int[16];
+  private int[] nextSibling = new int[16];
+  private char[] incomingChar = new char[16];
+  private int nodeCount = 1;
+
+  MultiSequenceSearch(CharSequence[] sequences, boolean ignoreCase) {
+    this.sequenceCount = sequences.length;
+    this.ignoreCase = ignoreCase;
+    this.nextSequenceEndingAtSameNode = new int[sequences.length];
+    firstSequenceEndingAt[ROOT] = NONE;
+    firstChild[ROOT] = NONE;
+    for (int i = 0; i < sequences.length; i++) {
+      addSequence(sequences[i], i);
+    }
+    computeFailureLinks();
+  }
+
+  /**
+   * Returns whether each sequence was found in the given text.
+   *
+   * @param text the text to search the sequences in
+   * @param stopAtFirstMatch whether to stop as soon as any sequence is found
+   * @return whether each sequence was found in the given text, by sequence index
+   */
+  boolean[] search(CharSequence text, boolean stopAtFirstMatch) {
+    boolean[] found = new boolean[sequenceCount];
+    // once a node is reported, all the sequences ending there or on its output links have been found
+    boolean[] reported = new boolean[nodeCount];
+    int notFoundCount = sequenceCount - report(ROOT, found, reported);
+    if (notFoundCount < sequenceCount && stopAtFirstMatch) return found;
+    int node = ROOT;
+    for (int i = 0; i < text.length() && notFoundCount > 0; i++) {
+      char character = normalize(text.charAt(i));
+      int next = transitions.get(node, character);
+      while (next == NONE && node != ROOT) {
+        node = failure[node];
+        next = transitions.get(node, character);
+      }
+      node = next == NONE ? ROOT : next;
+      if (!reported[node]) {
+        int newlyFound = report(node, found, reported);
+        notFoundCount -= newlyFound;
+        if (newlyFound > 0 && stopAtFirstMatch) return found;
+      }
+    }
+    return found;
+  }
+
+  private int report(int node, boolean[] found, boolean[] reported) {
+    int newlyFound = 0;
+    for (int current = node; current != NONE && !reported[current]; current = outputLink[current]) {
+      reported[current] = true;
+      for (int sequence = firstSequenceEndingAt[current]; sequence != NONE; sequence = nextSequenceEndingAtSameNode[sequence]) {
+        if (!found[sequence]) {
+          found[sequence] = true;
+          newlyFound++;
+        }
+      }
+    }
+    return newlyFound;
+  }
+
+  private void addSequence(CharSequence sequence, int sequenceIndex) {
+    int node = ROOT;
+    for (int i = 0; i < sequence.length(); i++) {
+      char character = normalize(sequence.charAt(i));
+      int next = transitions.get(node, character);
+      if (next == NONE) {
+        next = newNode(node, character);
+        transitions.put(node, character, next);
+      }
+      node = next;
+    }
+    nextSequenceEndingAtSameNode[sequenceIndex] = firstSequenceEndingAt[node];
+    firstSequenceEndingAt[node] = sequenceIndex;
+  }
+
+  private int newNode(int parent, char character) {
+    if (nodeCount == failure.length) {
+      int capacity = 2 * nodeCount;
+      failure = Arrays.copyOf(failure, capacity);
+      outputLink = Arrays.copyOf(outputLink, capacity);
+      firstSequenceEndingAt = Arrays.copyOf(firstSequenceEndingAt, capacity);
+      firstChild = Arrays.copyOf(firstChild, capacity);
+      nextSibling = Arrays.copyOf(nextSibling, capacity);
+      incomingChar = Arrays.copyOf(incomingChar, capacity);
+    }
+    int node = nodeCount++;
+    firstSequenceEndingAt[node] = NONE;
+    firstChild[node] = NONE;
+    nextSibling[node] = firstChild[parent];
+    firstChild[parent] = node;
+    incomingChar[node] = character;
+    return node;
+  }
+
+  // breadth first so that the failure nodes, being shorter, are computed before the nodes using them
+  private void computeFailureLinks() {
+    failure[ROOT] = ROOT;
+    outputLink[ROOT] = NONE;
+    int[] queue = new int[nodeCount];
+    int queueEnd = 0;
+    for (int child = firstChild[ROOT]; child != NONE; child = nextSibling[child]) {
+      failure[child] = ROOT;
+      outputLink[child] = firstSequenceEndingAt[ROOT] != NONE ? ROOT : NONE;
+      queue[queueEnd++] = child;
+    }
+    for (int queueStart = 0; queueStart < queueEnd; queueStart++) {
+      int node = queue[queueStart];
+      for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+        char character = incomingChar[child];
+        int fallback = failure[node];
+        int next = transitions.get(fallback, character);
+        while (next == NONE && fallback != ROOT) {
+          fallback = failure[fallback];
+          next = transitions.get(fallback, character);
+        }
+        int childFailure = next == NONE ? ROOT : next;
+        failure[child] = childFailure;
+        outputLink[child] = firstSequenceEndingAt[childFailure] != NONE ? childFailure : outputLink[childFailure];
+        queue[queueEnd++] = child;
+      }
+    }
+  }
+
+  private char normalize(char character) {
+    return ignoreCase ? Character.toLowerCase(character) : character;
+  }
+
+  /**
+   * The automaton transitions, an open addressing hash table from (node, char) to child node avoiding to box chars.
+   */
+  private static final class CharTransitions {
+
+    private long[] keys = new long[32];
+    private int[] children = new int[32];
+    private int size;
+
+    CharTransitions() {
+      Arrays.fill(keys, NONE);
+    }
+
+    int get(int node, char character) {
+      long key = key(node, character);
+      for (int slot = slot(key, keys.length);; slot = (slot + 1) & (keys.length - 1)) {
+        if (keys[slot] == key) return children[slot];
+        if (keys[slot] == NONE) return NONE;
+      }
+    }
+
+    void put(int node, char character, int child) {
+      if (2 * (size + 1) > keys.length) grow();
+      insert(key(node, character), child);
+      size++;
+    }
+
+    private void insert(long key, int child) {
+      int slot = slot(key, keys.length);
+      while (keys[slot] != NONE) slot = (slot + 1) & (keys.length - 1);
+      keys[slot] = key;
+      children[slot] = child;
+    }
+
+    private void grow() {
+      long[] oldKeys = keys;
+      int[] oldChildren = children;
+      keys = new long[2 * oldKeys.length];
+      children = new int[keys.length];
+      Arrays.fill(keys, NONE);
+      for (int i = 0; i < oldKeys.length; i++) {
+        if (oldKeys[i] != NONE) insert(oldKeys[i], oldChildren[i]);
+      }
+    }
+
+    private static long key(int node, char character) {
+      return ((long) node << 16) | character;
+    }
+
+    private static int slot(long key, int capacity) {
+      long hash = key * 0x9E3779B97F4A7C15L;
+      return (int) (hash >>> 32) & (capacity - 1);
+    }
+  }
+
+}
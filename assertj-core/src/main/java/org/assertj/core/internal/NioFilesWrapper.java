@@ -17,11 +17,14 @@ package org.assertj.core.internal;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.DirectoryStream;
 import java.nio.file.DirectoryStream.Filter;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 
 /**
  * Wrapper for <code>{@link java.nio.file.Files}</code> to test methods throwing {@link IOException}.
@@ -48,6 +51,19 @@ public class NioFilesWrapper {
     return Files.newInputStream(path, options);
   }
 
+  /**
+   * Opens a byte channel to read a path.
+   *
+   * @param path the path to open
+   * @param options the open options
+   * @return the byte channel
+   * @throws IOException if the channel cannot be opened
+   * @since 4.0.0
+   */
+  public SeekableByteChannel newByteChannel(Path path, OpenOption... options) throws IOException {
+    return Files.newByteChannel(path, options);
+  }
+
   /**
    * Opens a filtered directory stream.
    *
@@ -71,4 +87,32 @@ public class NioFilesWrapper {
     return Files.size(path);
   }
 
+  /**
+   * Reads the attributes of a file.
+   *
+   * @param <A> the attributes type
+   * @param path the file path
+   * @param type the attributes type
+   * @param options the link options
+   * @return the file attributes
+   * @throws IOException if the attributes cannot be read
+   * @since 4.0.0
+   */
+  public <A extends BasicFileAttributes> A readAttributes(Path path, Class<A> type, LinkOption... options) throws IOException {
+    return Files.readAttributes(path, type, options);
+  }
+
+  /**
+   * Finds the position of the first mismatched byte in the contents of two files.
+   *
+   * @param path the first file path
+   * @param path2 the second file path
+   * @return the position of the first mismatch or {@code -1} if there is none
+   * @throws IOException if a file cannot be read
+   * @since 4.0.0
+   */
+  public long mismatch(Path path, Path path2) throws IOException {
+    return Files.mismatch(path, path2);
+  }
+
 }
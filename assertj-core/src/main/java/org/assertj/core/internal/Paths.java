@@ -16,7 +16,6 @@
 package org.assertj.core.internal;
 
 import static java.lang.String.format;
-import static java.nio.file.Files.readAllBytes;
 import static java.nio.file.Files.walk;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -49,6 +48,7 @@ import static org.assertj.core.error.ShouldHaveNoParent.shouldHaveNoParent;
 import static org.assertj.core.error.ShouldHaveParent.shouldHaveParent;
 import static org.assertj.core.error.ShouldHaveSameContent.shouldHaveSameContent;
 import static org.assertj.core.error.ShouldHaveSameFileSystemAs.shouldHaveSameFileSystemAs;
+import static org.assertj.core.error.ShouldHaveSameTree.shouldHaveSameTree;
 import static org.assertj.core.error.ShouldHaveSize.shouldHaveSize;
 import static org.assertj.core.error.ShouldNotBeEmpty.shouldNotBeEmpty;
 import static org.assertj.core.error.ShouldNotContain.directoryShouldNotContain;
@@ -58,24 +58,32 @@ import static org.assertj.core.util.Files.getFileNameExtension;
 import static org.assertj.core.util.Preconditions.checkArgument;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.file.DirectoryStream;
 import java.nio.file.DirectoryStream.Filter;
+import java.nio.file.FileVisitResult;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.presentation.StandardRepresentation;
 import org.assertj.core.util.diff.Delta;
 
 /**
@@ -98,6 +106,8 @@ public class Paths {
   Failures failures = Failures.instance();
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   NioFilesWrapper nioFilesWrapper = NioFilesWrapper.instance();
+  // TODO reduce the visibility of the fields annotated with @VisibleForTesting
+  ForkJoinPool directoryScanPool;
 
   /**
    * Returns the shared path assertions instance.
@@ -110,6 +120,25 @@ public class Paths {
 
   private Paths() {}
 
+  /**
+   * Returns a copy of this {@code Paths} scanning the directory trees of {@code assertIsDirectoryRecursivelyContaining} and
+   * comparing the file contents of {@code assertHasSameTreeAs} in parallel in the given pool.
+   *
+   * @param directoryScanPool the pool used to scan directory trees
+   * @return a copy of this {@code Paths} scanning directory trees in parallel
+   * @since 4.0.0
+   */
+  public Paths inParallel(ForkJoinPool directoryScanPool) {
+    requireNonNull(directoryScanPool, "The ForkJoinPool should not be null");
+    Paths paths = new Paths();
+    paths.diff = diff;
+    paths.binaryDiff = binaryDiff;
+    paths.failures = failures;
+    paths.nioFilesWrapper = nioFilesWrapper;
+    paths.directoryScanPool = directoryScanPool;
+    return paths;
+  }
+
   /**
    * Verifies that the path is readable.
    *
@@ -448,10 +477,12 @@ public class Paths {
     checkArgument(Files.isReadable(expected), "The given Path <%s> to compare actual content to should be readable", expected);
     assertIsReadable(info, actual);
     try {
-      BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, readAllBytes(expected));
-      if (binaryDiffResult.hasDiff())
-        throw failures.failure(info, shouldHaveBinaryContent(actual, binaryDiffResult),
-                               FileContent.of(actual), FileContent.of(expected));
+      BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, expected);
+      if (binaryDiffResult.hasDiff()) {
+        FileContent actualContent = FileContent.of(actual, expected, binaryDiffResult.longOffset());
+        throw failures.failure(info, shouldHaveBinaryContent(actual, binaryDiffResult), actualContent,
+                               actualContent.comparedFileContent());
+      }
     } catch (IOException ioe) {
       throw new UncheckedIOException(UNABLE_TO_COMPARE_PATH_CONTENTS.formatted(actual, expected), ioe);
     }
@@ -474,13 +505,54 @@ public class Paths {
     assertIsReadable(info, actual);
     try {
       List<Delta<String>> diffs = diff.diff(actual, actualCharset, expected, expectedCharset);
-      if (!diffs.isEmpty()) throw failures.failure(info, shouldHaveSameContent(actual, expected, diffs),
-                                                   FileContent.of(actual), FileContent.of(expected));
+      if (diffs.isEmpty()) return;
+      FileContent actualContent = FileContent.of(actual, expected);
+      throw failures.failure(info, shouldHaveSameContent(actual, expected, diffs), actualContent,
+                             actualContent.comparedFileContent());
     } catch (IOException e) {
       throw new UncheckedIOException(UNABLE_TO_COMPARE_PATH_CONTENTS.formatted(actual, expected), e);
     }
   }
 
+  /**
+   * Verifies that two directories have the same tree: the same entries with the same types, and regular files with the
+   * same binary content.
+   * <p>
+   * The trees are compared first, only the files having the same size in both trees have their content compared,
+   * sequentially or in parallel in the pool given to {@link #inParallel(ForkJoinPool)}.
+   *
+   * @param info assertion information
+   * @param actual the actual directory
+   * @param expected the expected directory
+   * @since 4.0.0
+   */
+  public void assertHasSameTreeAs(AssertionInfo info, Path actual, Path expected) {
+    requireNonNull(expected, "The given Path to compare actual tree to should not be null");
+    checkArgument(Files.isDirectory(expected), "The given Path <%s> to compare actual tree to should be an existing directory",
+                  expected);
+    assertIsDirectory(info, actual);
+    try {
+      Map<Path, TreeEntry> actualTree = treeOf(actual, actual);
+      Map<Path, TreeEntry> expectedTree = treeOf(expected, actual);
+      List<Path> missingEntries = expectedTree.keySet().stream().filter(entry -> !actualTree.containsKey(entry)).toList();
+      List<Path> unexpectedEntries = new ArrayList<>();
+      List<Path> differingEntries = new ArrayList<>();
+      List<Path> filesToCompare = new ArrayList<>();
+      actualTree.forEach((entry, actualEntry) -> {
+        TreeEntry expectedEntry = expectedTree.get(entry);
+        if (expectedEntry == null) unexpectedEntries.add(entry);
+        else if (!actualEntry.equals(expectedEntry)) differingEntries.add(entry);
+        else if (actualEntry.type() == EntryType.REGULAR_FILE && actualEntry.size() > 0) filesToCompare.add(entry);
+      });
+      differingEntries.addAll(filesWithDifferentContent(actual, expected, filesToCompare));
+      differingEntries.sort(null);
+      if (missingEntries.isEmpty() && unexpectedEntries.isEmpty() && differingEntries.isEmpty()) return;
+      throw failures.failure(info, shouldHaveSameTree(actual, expected, missingEntries, unexpectedEntries, differingEntries));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to compare trees of directories:<%s> and:<%s>".formatted(actual, expected), e);
+    }
+  }
+
   /**
    * Verifies the path digest.
    *
@@ -494,8 +566,8 @@ public class Paths {
     requireNonNull(expected, "The binary representation of digest to compare to should not be null");
     assertIsRegularFile(info, actual);
     assertIsReadable(info, actual);
-    try (InputStream actualStream = nioFilesWrapper.newInputStream(actual)) {
-      DigestDiff diff = Digests.digestDiff(actualStream, digest, expected);
+    try {
+      DigestDiff diff = Digests.digestDiff(actual, digest, expected, nioFilesWrapper);
       if (diff.digestsDiffer()) throw failures.failure(info, shouldHaveDigest(actual, diff));
     } catch (IOException e) {
       throw new UncheckedIOException("Unable to calculate digest of path:<%s>".formatted(actual), e);
@@ -640,7 +712,7 @@ public class Paths {
    * @param actual the actual path
    */
   public void assertIsNotEmptyDirectory(AssertionInfo info, Path actual) {
-    boolean isEmptyDirectory = directoryContent(info, actual).isEmpty();
+    boolean isEmptyDirectory = filterDirectory(info, actual, ANY, 1).isEmpty();
     if (isEmptyDirectory) throw failures.failure(info, shouldNotBeEmpty(actual));
   }
 
@@ -717,9 +789,14 @@ public class Paths {
   // non-public section
 
   private List<Path> filterDirectory(AssertionInfo info, Path actual, Filter<Path> filter) {
+    return filterDirectory(info, actual, filter, Long.MAX_VALUE);
+  }
+
+  // the directory entries are streamed, it is only listed until maxPaths matching paths are found
+  private List<Path> filterDirectory(AssertionInfo info, Path actual, Filter<Path> filter, long maxPaths) {
     assertIsDirectory(info, actual);
     try (DirectoryStream<Path> stream = nioFilesWrapper.newDirectoryStream(actual, filter)) {
-      return stream(stream.spliterator(), false).map(actual::relativize).collect(toList());
+      return stream(stream.spliterator(), false).limit(maxPaths).map(actual::relativize).collect(toList());
     } catch (IOException e) {
       throw new UncheckedIOException("Unable to list directory content: <%s>".formatted(actual), e);
     }
@@ -730,7 +807,7 @@ public class Paths {
   }
 
   private void assertIsDirectoryContaining(AssertionInfo info, Path actual, Filter<Path> filter, String filterDescription) {
-    List<Path> matchingFiles = filterDirectory(info, actual, filter);
+    List<Path> matchingFiles = filterDirectory(info, actual, filter, 1);
     if (matchingFiles.isEmpty()) {
       throw failures.failure(info, directoryShouldContain(actual, directoryContent(info, actual), filterDescription));
     }
@@ -750,19 +827,88 @@ public class Paths {
   private void assertIsDirectoryRecursivelyContaining(AssertionInfo info, Path actual, Predicate<Path> filter,
                                                       String filterPresentation) {
     assertIsDirectory(info, actual);
-    List<Path> actualContent = recursiveContentOf(actual);
-    if (actualContent.stream().noneMatch(filter)) {
-      throw failures.failure(info, directoryShouldContainRecursively(actual, actualContent, filterPresentation));
+    if (!isDirectoryRecursivelyContaining(actual, filter)) {
+      throw failures.failure(info, directoryShouldContainRecursively(actual, recursiveContentOf(actual), filterPresentation));
+    }
+  }
+
+  private boolean isDirectoryRecursivelyContaining(Path directory, Predicate<Path> filter) {
+    try {
+      return DirectoryScanner.anyMatch(directory, filter, directoryScanPool);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to walk recursively the directory :<%s>".formatted(directory), e);
     }
   }
 
   private void assertIsDirectoryNotContaining(AssertionInfo info, Path actual, Filter<Path> filter, String filterPresentation) {
-    List<Path> matchingPaths = filterDirectory(info, actual, filter);
+    // only a sample of the matching paths is needed for the error message, one more than printed to show there are more
+    List<Path> matchingPaths = filterDirectory(info, actual, filter, StandardRepresentation.getMaxElementsForPrinting() + 1L);
     if (!matchingPaths.isEmpty()) {
       throw failures.failure(info, directoryShouldNotContain(actual, matchingPaths, filterPresentation));
     }
   }
 
+  // the entries of the tree sorted by their path relative to the root, expressed in the file system of keysRoot
+  private static Map<Path, TreeEntry> treeOf(Path root, Path keysRoot) throws IOException {
+    Map<Path, TreeEntry> tree = new TreeMap<>();
+    Files.walkFileTree(root, new SimpleFileVisitor<>() {
+      @Override
+      public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes) {
+        if (!directory.equals(root)) tree.put(resolve(keysRoot, root.relativize(directory)), TreeEntry.DIRECTORY);
+        return FileVisitResult.CONTINUE;
+      }
+
+      @Override
+      public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
+        tree.put(resolve(keysRoot, root.relativize(file)), TreeEntry.of(file, attributes));
+        return FileVisitResult.CONTINUE;
+      }
+    });
+    return tree;
+  }
+
+  // resolves the relative path name by name as it may come from another file system
+  private static Path resolve(Path root, Path relativePath) {
+    Path path = root;
+    for (Path name : relativePath) {
+      path = path.resolve(name.toString());
+    }
+    return root.relativize(path);
+  }
+
+  // the contents are compared sequentially unless inParallel was called, reading them blocks the threads comparing them
+  private List<Path> filesWithDifferentContent(Path actual, Path expected, List<Path> files) {
+    Predicate<Path> differentContent = file -> haveDifferentContent(actual, expected, file);
+    if (directoryScanPool == null) return files.stream().filter(differentContent).toList();
+    return directoryScanPool.invoke(ForkJoinTask.adapt(() -> files.parallelStream().filter(differentContent).toList()));
+  }
+
+  private boolean haveDifferentContent(Path actual, Path expected, Path file) {
+    Path actualFile = actual.resolve(file);
+    Path expectedFile = expected.resolve(resolve(expected, file));
+    try {
+      return nioFilesWrapper.mismatch(actualFile, expectedFile) != -1;
+    } catch (IOException e) {
+      throw new UncheckedIOException(UNABLE_TO_COMPARE_PATH_CONTENTS.formatted(actualFile, expectedFile), e);
+    }
+  }
+
+  private enum EntryType {
+    DIRECTORY, REGULAR_FILE, SYMBOLIC_LINK, OTHER
+  }
+
+  // only the size of regular files and the target of symbolic links are compared
+  private record TreeEntry(EntryType type, long size, Path linkTarget) {
+
+    private static final TreeEntry DIRECTORY = new TreeEntry(EntryType.DIRECTORY, 0, null);
+
+    private static TreeEntry of(Path path, BasicFileAttributes attributes) throws IOException {
+      if (attributes.isRegularFile()) return new TreeEntry(EntryType.REGULAR_FILE, attributes.size(), null);
+      if (attributes.isSymbolicLink()) return new TreeEntry(EntryType.SYMBOLIC_LINK, 0, Files.readSymbolicLink(path));
+      return new TreeEntry(attributes.isDirectory() ? EntryType.DIRECTORY : EntryType.OTHER, 0, null);
+    }
+  }
+
   private PathMatcher pathMatcher(AssertionInfo info, Path actual, String syntaxAndPattern) {
     assertNotNull(info, actual);
     return actual.getFileSystem().getPathMatcher(syntaxAndPattern);
@@ -0,0 +1,304 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.reflect.Array.getLength;
+
+import java.util.function.IntToLongFunction;
+
+/**
+ * Array assertions kernels for primitive arrays compared with the standard comparison strategy, they read the arrays
+ * elements keys in place and never box elements.
+ * <p>
+ * The key of an element is chosen so that two elements are equal according to their wrapper type {@code equals} if and only
+ * if their keys are equal, and that the wrapper type {@code compareTo} order is the keys signed order. Integral and
+ * {@code char} elements are their own key, {@code boolean} ones are {@code 0} or {@code 1}, floating point ones use
+ * {@link Double#doubleToLongBits(double)} (or {@link Float#floatToIntBits(float)}) with the bits of negative values flipped
+ * to order them like {@link Double#compare(double, double)}.
+ * <p>
+ * Kernels comparing ranges of elements (exact content, sequences, start and end) don't need keys, they run the vectorized
+ * {@code java.util.Arrays.mismatch} range variants on the arrays themselves.
+ * <p>
+ * Kernels only tell whether an assertion succeeds, the error messages are built by {@link Arrays} when it does not.
+ */
+final class PrimitiveArrayKeys {
+
+  private PrimitiveArrayKeys() {}
+
+  /**
+   * Returns the keys of the given array elements, read in place, or {@code null} if the given object is not a primitive array.
+   *
+   * @param array the array to read
+   * @return the keys of the given array elements or {@code null}
+   */
+  static Keys keysOf(Object array) {
+    if (array instanceof int[] ints) return new Keys(ints.length, i -> ints[i]);
+    if (array instanceof long[] longs) return new Keys(longs.length, i -> longs[i]);
+    if (array instanceof double[] doubles) return new Keys(doubles.length, i -> keyOf(doubles[i]));
+    if (array instanceof float[] floats) return new Keys(floats.length, i -> keyOf(floats[i]));
+    if (array instanceof byte[] bytes) return new Keys(bytes.length, i -> bytes[i]);
+    if (array instanceof short[] shorts) return new Keys(shorts.length, i -> shorts[i]);
+    if (array instanceof char[] chars) return new Keys(chars.length, i -> chars[i]);
+    if (array instanceof boolean[] booleans) return new Keys(booleans.length, i -> booleans[i] ? 1 : 0);
+    return null;
+  }
+
+  static long keyOf(double value) {
+    return orderedBits(Double.doubleToLongBits(value));
+  }
+
+  static long keyOf(float value) {
+    return orderedBits(Float.floatToIntBits(value));
+  }
+
+  // negative floating point values order is the reverse of their bits order
+  private static long orderedBits(long bits) {
+    return bits < 0 ? bits ^ Long.MAX_VALUE : bits;
+  }
+
+  // kernels only hash the values, which are usually much smaller than actual, and scan actual in place
+
+  static boolean containsAll(Keys actual, Keys values) {
+    LongHashSet valuesKeys = LongHashSet.of(values);
+    LongHashSet foundKeys = new LongHashSet(valuesKeys.size());
+    for (int i = 0; i < actual.length() && foundKeys.size() < valuesKeys.size(); i++) {
+      long element = actual.get(i);
+      if (valuesKeys.contains(element)) foundKeys.add(element);
+    }
+    return foundKeys.size() == valuesKeys.size();
+  }
+
+  static boolean containsAny(Keys actual, Keys values) {
+    LongHashSet valuesKeys = LongHashSet.of(values);
+    for (int i = 0; i < actual.length(); i++) {
+      if (valuesKeys.contains(actual.get(i))) return true;
+    }
+    return false;
+  }
+
+  static boolean containsNone(Keys actual, Keys values) {
+    return !containsAny(actual, values);
+  }
+
+  static boolean containsOnly(Keys actual, Keys values) {
+    LongHashSet valuesKeys = LongHashSet.of(values);
+    LongHashSet foundKeys = new LongHashSet(valuesKeys.size());
+    for (int i = 0; i < actual.length(); i++) {
+      long element = actual.get(i);
+      if (!valuesKeys.contains(element)) return false;
+      foundKeys.add(element);
+    }
+    return foundKeys.size() == valuesKeys.size();
+  }
+
+  static boolean containsExactlyInAnyOrder(Keys actual, Keys values) {
+    if (actual.length() != values.length()) return false;
+    // each actual element consumes one occurrence of an equal value
+    LongHashSet valuesKeys = LongHashSet.of(values);
+    for (int i = 0; i < actual.length(); i++) {
+      if (!valuesKeys.removeOccurrence(actual.get(i))) return false;
+    }
+    return true;
+  }
+
+  static boolean containsOnlyOnce(Keys actual, Keys values) {
+    LongHashSet valuesKeys = LongHashSet.of(values);
+    LongHashSet foundKeys = new LongHashSet(valuesKeys.size());
+    for (int i = 0; i < actual.length(); i++) {
+      long element = actual.get(i);
+      if (valuesKeys.contains(element) && !foundKeys.add(element)) return false;
+    }
+    return foundKeys.size() == valuesKeys.size();
+  }
+
+  static boolean doesNotHaveDuplicates(Keys actual) {
+    LongHashSet actualKeys = new LongHashSet(actual.length());
+    for (int i = 0; i < actual.length(); i++) {
+      if (!actualKeys.add(actual.get(i))) return false;
+    }
+    return true;
+  }
+
+  static boolean containsSubsequence(Keys actual, Keys subsequence) {
+    int subsequenceIndex = 0;
+    for (int i = 0; i < actual.length() && subsequenceIndex < subsequence.length(); i++) {
+      if (actual.get(i) == subsequence.get(subsequenceIndex)) subsequenceIndex++;
+    }
+    return subsequenceIndex == subsequence.length();
+  }
+
+  static boolean doesNotContainSubsequence(Keys actual, Keys subsequence) {
+    return !containsSubsequence(actual, subsequence);
+  }
+
+  static boolean isSorted(Keys actual) {
+    for (int i = 0; i < actual.length() - 1; i++) {
+      if (actual.get(i) > actual.get(i + 1)) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Returns the index of the first mismatch between the given ranges of two primitive arrays of the same type relative to the
+   * ranges start, or -1 if there is none. Elements are compared like their wrapper type {@code equals}.
+   *
+   * @param array the first array
+   * @param arrayFrom the index of the first element of the first array range
+   * @param other the second array, of the same type as the first one
+   * @param otherFrom the index of the first element of the second array range
+   * @param length the length of the ranges
+   * @return the index of the first mismatch relative to the ranges start or -1
+   */
+  static int mismatch(Object array, int arrayFrom, Object other, int otherFrom, int length) {
+    int arrayTo = arrayFrom + length;
+    int otherTo = otherFrom + length;
+    if (array instanceof byte[] a && other instanceof byte[] o)
+      return java.util.Arrays.mismatch(a, arrayFrom, arrayTo, o, otherFrom, otherTo);
+    if (array instanceof char[] a && other instanceof char[] o)
+      return java.util.Arrays.mismatch(a, arrayFrom, arrayTo, o, otherFrom, otherTo);
+    if (array instanceof short[] a && other instanceof short[] o)
+      return java.util.Arrays.mismatch(a, arrayFrom, arrayTo, o, otherFrom, otherTo);
+    if (array instanceof int[] a && other instanceof int[] o)
+      return java.util.Arrays.mismatch(a, arrayFrom, arrayTo, o, otherFrom, otherTo);
+    if (array instanceof long[] a && other instanceof long[] o)
+      return java.util.Arrays.mismatch(a, arrayFrom, arrayTo, o, otherFrom, otherTo);
+    if (array instanceof float[] a && other instanceof float[] o)
+      return java.util.Arrays.mismatch(a, arrayFrom, arrayTo, o, otherFrom, otherTo);
+    if (array instanceof double[] a && other instanceof double[] o)
+      return java.util.Arrays.mismatch(a, arrayFrom, arrayTo, o, otherFrom, otherTo);
+    if (array instanceof boolean[] a && other instanceof boolean[] o)
+      return java.util.Arrays.mismatch(a, arrayFrom, arrayTo, o, otherFrom, otherTo);
+    String message = "Expecting primitive arrays of the same type but got %s and %s";
+    throw new IllegalArgumentException(message.formatted(array.getClass(), other.getClass()));
+  }
+
+  static boolean containsExactly(Object actual, Object values) {
+    int length = getLength(actual);
+    return length == getLength(values) && mismatch(actual, 0, values, 0, length) == -1;
+  }
+
+  static boolean containsSequence(Object actual, Object sequence) {
+    int sequenceLength = getLength(sequence);
+    int lastIndexWhereSequenceCanBeFound = getLength(actual) - sequenceLength;
+    for (int i = 0; i <= lastIndexWhereSequenceCanBeFound; i++) {
+      if (mismatch(actual, i, sequence, 0, sequenceLength) == -1) return true;
+    }
+    return false;
+  }
+
+  static boolean doesNotContainSequence(Object actual, Object sequence) {
+    return !containsSequence(actual, sequence);
+  }
+
+  static boolean startsWith(Object actual, Object sequence) {
+    int sequenceLength = getLength(sequence);
+    return getLength(actual) >= sequenceLength && mismatch(actual, 0, sequence, 0, sequenceLength) == -1;
+  }
+
+  static boolean endsWith(Object actual, Object sequence) {
+    int actualLength = getLength(actual);
+    int sequenceLength = getLength(sequence);
+    return actualLength >= sequenceLength
+           && mismatch(actual, actualLength - sequenceLength, sequence, 0, sequenceLength) == -1;
+  }
+
+  /**
+   * The keys of a primitive array elements, read in place from the array.
+   *
+   * @param length the array length
+   * @param keyAt the function giving the key of the element at a given index
+   */
+  record Keys(int length, IntToLongFunction keyAt) {
+
+    long get(int index) {
+      return keyAt.applyAsLong(index);
+    }
+  }
+
+  /**
+   * Open addressing hash set of {@code long} keys counting the occurrences of each key.
+   */
+  private static final class LongHashSet {
+
+    private final long[] keys;
+    private final int[] occurrences;
+    private final int mask;
+    private int size;
+
+    private LongHashSet(int expectedSize) {
+      // keep the load factor under 0.5
+      int capacity = Integer.highestOneBit(Math.max(expectedSize, 1) * 2 - 1) << 1;
+      keys = new long[capacity];
+      occurrences = new int[capacity];
+      mask = capacity - 1;
+    }
+
+    private static LongHashSet of(Keys keys) {
+      LongHashSet set = new LongHashSet(keys.length());
+      for (int i = 0; i < keys.length(); i++) set.add(keys.get(i));
+      return set;
+    }
+
+    private int size() {
+      return size;
+    }
+
+    // returns whether the key was not already in the set
+    private boolean add(long key) {
+      int slot = slotOf(key);
+      while (occurrences[slot] != 0) {
+        if (keys[slot] == key) {
+          occurrences[slot]++;
+          return false;
+        }
+        slot = (slot + 1) & mask;
+      }
+      keys[slot] = key;
+      occurrences[slot] = 1;
+      size++;
+      return true;
+    }
+
+    private boolean contains(long key) {
+      int slot = slotOf(key);
+      while (occurrences[slot] != 0) {
+        if (keys[slot] == key) return true;
+        slot = (slot + 1) & mask;
+      }
+      return false;
+    }
+
+    // removed occurrences are kept in their slot with a negative count so that probing goes on past them
+    private boolean removeOccurrence(long key) {
+      int slot = slotOf(key);
+      while (occurrences[slot] != 0) {
+        if (keys[slot] == key) {
+          if (occurrences[slot] < 0) return false;
+          occurrences[slot] = occurrences[slot] == 1 ? -1 : occurrences[slot] - 1;
+          return true;
+        }
+        slot = (slot + 1) & mask;
+      }
+      return false;
+    }
+
+    private int slotOf(long key) {
+      long hash = key * 0x9E3779B97F4A7C15L;
+      return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+  }
+
+}
@@ -21,6 +21,7 @@ import static java.util.Arrays.stream;
 import static java.util.Locale.ROOT;
 import static java.util.Objects.requireNonNull;
 import static java.util.function.Function.identity;
+import static java.util.function.Predicate.not;
 import static java.util.stream.Collectors.counting;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toCollection;
@@ -74,6 +75,9 @@ import static org.assertj.core.error.ShouldNotStartWithIgnoringCase.shouldNotSta
 import static org.assertj.core.error.ShouldStartWith.shouldStartWith;
 import static org.assertj.core.error.ShouldStartWithIgnoringCase.shouldStartWithIgnoringCase;
 import static org.assertj.core.internal.Arrays.assertIsArray;
+import static org.assertj.core.internal.CharSequenceSearch.isLowerCasedCharByChar;
+import static org.assertj.core.internal.CharSequenceSearch.isNormalizedWhitespace;
+import static org.assertj.core.internal.CharSequenceSearch.isPunctuation;
 import static org.assertj.core.internal.CommonErrors.arrayOfValuesToLookForIsEmpty;
 import static org.assertj.core.internal.CommonErrors.arrayOfValuesToLookForIsNull;
 import static org.assertj.core.internal.CommonValidations.checkLineCounts;
@@ -83,17 +87,15 @@ import static org.assertj.core.internal.CommonValidations.checkSizeBetween;
 import static org.assertj.core.internal.CommonValidations.checkSizes;
 import static org.assertj.core.internal.CommonValidations.hasSameSizeAsCheck;
 
-import java.io.IOException;
-import java.io.LineNumberReader;
-import java.io.StringReader;
-import java.io.UncheckedIOException;
 import java.text.Normalizer;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -101,6 +103,7 @@ import java.util.stream.Collectors;
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.api.comparisonstrategy.ComparisonStrategy;
 import org.assertj.core.api.comparisonstrategy.StandardComparisonStrategy;
+import org.assertj.core.util.Patterns;
 
 /**
  * Implements assertions for {@link String} values.
@@ -113,10 +116,11 @@ import org.assertj.core.api.comparisonstrategy.StandardComparisonStrategy;
  */
 public class Strings {
 
-  private static final Set<Character> NON_BREAKING_SPACES = Set.of('\u00A0', '\u2007', '\u202F');
   private static final String EMPTY_STRING = "";
   private static final Strings INSTANCE = new Strings(StandardComparisonStrategy.instance());
-  private static final String PUNCTUATION_REGEX = "\\p{Punct}";
+
+  // below this number of values, looking for each value separately is faster than building a multi sequence search
+  private static final int MIN_VALUES_FOR_MULTI_SEQUENCE_SEARCH = 8;
   private final ComparisonStrategy comparisonStrategy;
   private final Failures failures = Failures.instance();
 
@@ -268,13 +272,21 @@ public class Strings {
    */
   public void assertHasLineCount(AssertionInfo info, CharSequence actual, int expectedLineCount) {
     assertNotNull(info, actual);
-    LineNumberReader reader = new LineNumberReader(new StringReader(actual.toString()));
-    try {
-      while (reader.readLine() != null);
-    } catch (IOException e) {
-      throw new UncheckedIOException("Unable to count lines in `%s`".formatted(actual), e);
-    }
-    checkLineCounts(actual, reader.getLineNumber(), expectedLineCount, info);
+    checkLineCounts(actual, CharSequenceLines.countLines(actual), expectedLineCount, info);
+  }
+
+  /**
+   * Returns the lines of the given text as a list that locates them lazily, lines are terminated like in
+   * {@link String#lines()}.
+   * <p>
+   * The text is neither copied nor split upfront, each line is only copied when it is accessed.
+   *
+   * @param text the text to split in lines
+   * @return an unmodifiable list of the text lines
+   * @since 4.0.0
+   */
+  public static List<String> lines(CharSequence text) {
+    return new CharSequenceLines(text);
   }
 
   /**
@@ -324,8 +336,7 @@ public class Strings {
    */
   public void assertContains(AssertionInfo info, CharSequence actual, CharSequence... values) {
     doCommonCheckForCharSequence(info, actual, values);
-    Set<CharSequence> notFound = stream(values).filter(value -> !stringContains(actual, value))
-                                               .collect(toCollection(LinkedHashSet::new));
+    Set<CharSequence> notFound = valuesMatching(values, searchValues(actual, values, false, false), false);
     if (notFound.isEmpty()) return;
     if (notFound.size() == 1 && values.length == 1) {
       throw failures.failure(info, shouldContain(actual, values[0], comparisonStrategy));
@@ -342,7 +353,7 @@ public class Strings {
    */
   public void assertContainsAnyOf(AssertionInfo info, CharSequence actual, CharSequence[] values) {
     doCommonCheckForCharSequence(info, actual, values);
-    boolean found = stream(values).anyMatch(value -> stringContains(actual, value));
+    boolean found = !valuesMatching(values, searchValues(actual, values, false, true), true).isEmpty();
     if (!found) throw failures.failure(info, shouldContainAnyOf(actual, values, comparisonStrategy));
   }
 
@@ -369,10 +380,40 @@ public class Strings {
     if (values.length == 0) throw arrayOfValuesToLookForIsEmpty();
   }
 
+  /**
+   * Returns whether each value is contained in actual, when there are many values they are all looked for in a single pass
+   * over actual instead of one pass per value.
+   */
+  private boolean[] searchValues(CharSequence actual, CharSequence[] values, boolean ignoreCase, boolean stopAtFirstMatch) {
+    if (values.length >= MIN_VALUES_FOR_MULTI_SEQUENCE_SEARCH && usesStandardComparisonStrategy()
+        && (!ignoreCase || isLowerCasedCharByChar(actual) && stream(values).allMatch(CharSequenceSearch::isLowerCasedCharByChar)))
+      return new MultiSequenceSearch(values, ignoreCase).search(actual, stopAtFirstMatch);
+    boolean[] found = new boolean[values.length];
+    for (int i = 0; i < values.length; i++) {
+      found[i] = ignoreCase ? containsIgnoreCase(actual, values[i]) : stringContains(actual, values[i]);
+      if (found[i] && stopAtFirstMatch) break;
+    }
+    return found;
+  }
+
+  private static Set<CharSequence> valuesMatching(CharSequence[] values, boolean[] found, boolean expectedFound) {
+    Set<CharSequence> matchingValues = new LinkedHashSet<>();
+    for (int i = 0; i < values.length; i++) {
+      if (found[i] == expectedFound) matchingValues.add(values[i]);
+    }
+    return matchingValues;
+  }
+
   private boolean stringContains(CharSequence actual, CharSequence sequence) {
+    if (usesStandardComparisonStrategy()) return CharSequenceSearch.contains(actual, sequence);
     return comparisonStrategy.stringContains(actual.toString(), sequence.toString());
   }
 
+  // the standard comparison strategy compares chars, which lets us search char sequences in place instead of copying them
+  private boolean usesStandardComparisonStrategy() {
+    return comparisonStrategy.getClass() == StandardComparisonStrategy.class;
+  }
+
   /**
    * Verifies that the text contains a value ignoring case.
    *
@@ -388,6 +429,7 @@ public class Strings {
   }
 
   private boolean containsIgnoreCase(CharSequence actual, CharSequence sequence) {
+    if (usesStandardComparisonStrategy()) return CharSequenceSearch.containsIgnoringCase(actual, sequence);
     return comparisonStrategy.stringContains(actual.toString().toLowerCase(ROOT), sequence.toString().toLowerCase(ROOT));
   }
 
@@ -400,13 +442,19 @@ public class Strings {
    */
   public void assertContainsIgnoringNewlines(final AssertionInfo info, final CharSequence actual, final CharSequence... values) {
     doCommonCheckForCharSequence(info, actual, values);
-    final String actualNoNewLines = removeNewlines(actual);
-    Set<CharSequence> notFound = stream(values).filter(value -> !stringContains(actualNoNewLines, removeNewlines(value)))
+    Set<CharSequence> notFound = stream(values).filter(not(isContainedIgnoringNewlinesIn(actual)))
                                                .collect(toCollection(LinkedHashSet::new));
     if (notFound.isEmpty()) return;
     throw failures.failure(info, containsIgnoringNewLines(actual, values, notFound, comparisonStrategy));
   }
 
+  private Predicate<CharSequence> isContainedIgnoringNewlinesIn(CharSequence actual) {
+    if (usesStandardComparisonStrategy())
+      return value -> CharSequenceSearch.containsIgnoringNewlines(actual, removeNewlines(value));
+    final String actualNoNewLines = removeNewlines(actual);
+    return value -> stringContains(actualNoNewLines, removeNewlines(value));
+  }
+
   /**
    * Verifies that the text contains none of the values ignoring case.
    *
@@ -417,8 +465,7 @@ public class Strings {
   public void assertDoesNotContainIgnoringCase(AssertionInfo info, CharSequence actual, CharSequence... values) {
     doCommonCheckForCharSequence(info, actual, values);
 
-    Set<CharSequence> foundValues = stream(values).filter(value -> containsIgnoreCase(actual, value))
-                                                  .collect(toCollection(LinkedHashSet::new));
+    Set<CharSequence> foundValues = valuesMatching(values, searchValues(actual, values, true, false), true);
     if (foundValues.isEmpty()) return;
     if (foundValues.size() == 1 && values.length == 1) {
       throw failures.failure(info, shouldNotContainIgnoringCase(actual, values[0]));
@@ -435,8 +482,7 @@ public class Strings {
    */
   public void assertDoesNotContain(AssertionInfo info, CharSequence actual, CharSequence... values) {
     doCommonCheckForCharSequence(info, actual, values);
-    Set<CharSequence> found = stream(values).filter(value -> stringContains(actual, value))
-                                            .collect(toCollection(LinkedHashSet::new));
+    Set<CharSequence> found = valuesMatching(values, searchValues(actual, values, false, false), true);
     if (found.isEmpty()) return;
     if (found.size() == 1 && values.length == 1) {
       throw failures.failure(info, shouldNotContain(actual, values[0], comparisonStrategy));
@@ -486,11 +532,14 @@ public class Strings {
    * @param expected the expected text
    */
   public void assertIsEqualToNormalizingNewlines(AssertionInfo info, CharSequence actual, CharSequence expected) {
-    String normalizedActual = normalizeNewlines(actual);
-    String normalizedExpected = normalizeNewlines(expected);
-    if (!java.util.Objects.equals(normalizedActual, normalizedExpected))
-      throw failures.failure(info, shouldBeEqualIgnoringNewLineDifferences(actual, expected), normalizedActual,
-                             normalizedExpected);
+    if (!areEqualNormalizingNewlines(actual, expected))
+      throw failures.failure(info, shouldBeEqualIgnoringNewLineDifferences(actual, expected), normalizeNewlines(actual),
+                             normalizeNewlines(expected));
+  }
+
+  private static boolean areEqualNormalizingNewlines(CharSequence actual, CharSequence expected) {
+    if (actual == null || expected == null) return actual == expected;
+    return CharSequenceSearch.equalsNormalizingNewlines(actual, expected);
   }
 
   private static String normalizeNewlines(CharSequence charSequence) {
@@ -524,7 +573,7 @@ public class Strings {
   private boolean areEqualIgnoringWhitespace(CharSequence actual, CharSequence expected) {
     if (actual == null) return expected == null;
     checkCharSequenceIsNotNull(expected);
-    return removeAllWhitespaces(actual).equals(removeAllWhitespaces(expected));
+    return CharSequenceSearch.equalsIgnoringWhitespace(actual, expected);
   }
 
   /**
@@ -554,10 +603,9 @@ public class Strings {
    */
   public void assertEqualsNormalizingWhitespace(AssertionInfo info, CharSequence actual, CharSequence expected) {
     if (actual != null) checkCharSequenceIsNotNull(expected);
-    String normalizedActual = normalizeWhitespace(actual);
-    String normalizedExpected = normalizeWhitespace(expected);
-    if (!java.util.Objects.equals(normalizedActual, normalizedExpected))
-      throw failures.failure(info, shouldBeEqualNormalizingWhitespace(actual, expected), normalizedActual, normalizedExpected);
+    if (!areEqualNormalizingWhitespace(actual, expected, false))
+      throw failures.failure(info, shouldBeEqualNormalizingWhitespace(actual, expected), normalizeWhitespace(actual, false),
+                             normalizeWhitespace(expected, false));
   }
 
   /**
@@ -569,19 +617,25 @@ public class Strings {
    */
   public void assertNotEqualsNormalizingWhitespace(AssertionInfo info, CharSequence actual, CharSequence expected) {
     if (actual != null) checkCharSequenceIsNotNull(expected);
-    String normalizedActual = normalizeWhitespace(actual);
-    String normalizedExpected = normalizeWhitespace(expected);
-    if (java.util.Objects.equals(normalizedActual, normalizedExpected))
+    if (areEqualNormalizingWhitespace(actual, expected, false))
       throw failures.failure(info, shouldNotBeEqualNormalizingWhitespace(actual, expected));
   }
 
-  private static String normalizeWhitespace(CharSequence toNormalize) {
+  private static boolean areEqualNormalizingWhitespace(CharSequence actual, CharSequence expected,
+                                                       boolean removePunctuation) {
+    if (actual == null) return expected == null;
+    return CharSequenceSearch.equalsNormalizingWhitespace(actual, expected, removePunctuation);
+  }
+
+  // only used to build error messages, comparisons are done in place by CharSequenceSearch
+  private static String normalizeWhitespace(CharSequence toNormalize, boolean removePunctuation) {
     if (toNormalize == null) return null;
     final StringBuilder result = new StringBuilder(toNormalize.length());
     boolean lastWasSpace = true;
     for (int i = 0; i < toNormalize.length(); i++) {
       char c = toNormalize.charAt(i);
-      if (isWhitespace(c) || NON_BREAKING_SPACES.contains(c)) {
+      if (removePunctuation && isPunctuation(c)) continue;
+      if (isNormalizedWhitespace(c)) {
         if (!lastWasSpace) result.append(' ');
         lastWasSpace = true;
       } else {
@@ -601,15 +655,9 @@ public class Strings {
    */
   public void assertEqualsNormalizingPunctuationAndWhitespace(AssertionInfo info, CharSequence actual, CharSequence expected) {
     if (actual != null) checkCharSequenceIsNotNull(expected);
-    String normalizedActual = normalizeWhitespaceAndPunctuation(actual);
-    String normalizedExpected = normalizeWhitespaceAndPunctuation(expected);
-    if (!java.util.Objects.equals(normalizedActual, normalizedExpected))
-      throw failures.failure(info, shouldBeEqualNormalizingPunctuationAndWhitespace(actual, expected), normalizedActual,
-                             normalizedExpected);
-  }
-
-  private static String normalizeWhitespaceAndPunctuation(CharSequence input) {
-    return input == null ? null : normalizeWhitespace(input.toString().replaceAll(PUNCTUATION_REGEX, EMPTY_STRING));
+    if (!areEqualNormalizingWhitespace(actual, expected, true))
+      throw failures.failure(info, shouldBeEqualNormalizingPunctuationAndWhitespace(actual, expected),
+                             normalizeWhitespace(actual, true), normalizeWhitespace(expected, true));
   }
 
   /**
@@ -621,6 +669,7 @@ public class Strings {
    */
   public void assertEqualsToNormalizingUnicode(AssertionInfo info, CharSequence actual, CharSequence expected) {
     if (actual != null) checkCharSequenceIsNotNull(expected);
+    if (actual != null && areEqualNormalizingUnicode(actual, expected)) return;
     String normalizedActual = Normalizer.normalize(actual, Normalizer.Form.NFC);
     String normalizedExpected = Normalizer.normalize(expected, Normalizer.Form.NFC);
     if (!java.util.Objects.equals(normalizedActual, normalizedExpected))
@@ -628,6 +677,14 @@ public class Strings {
                              normalizedActual, normalizedExpected);
   }
 
+  // equal texts or texts already in NFC don't need to be normalized to be compared
+  private static boolean areEqualNormalizingUnicode(CharSequence actual, CharSequence expected) {
+    if (CharSequence.compare(actual, expected) == 0) return true;
+    if (Normalizer.isNormalized(actual, Normalizer.Form.NFC) && Normalizer.isNormalized(expected, Normalizer.Form.NFC))
+      return false;
+    return Normalizer.normalize(actual, Normalizer.Form.NFC).equals(Normalizer.normalize(expected, Normalizer.Form.NFC));
+  }
+
   /**
    * Verifies that the text contains a sequence exactly once.
    *
@@ -645,6 +702,7 @@ public class Strings {
   }
 
   private int countOccurrences(CharSequence sequenceToSearch, CharSequence actual) {
+    if (usesStandardComparisonStrategy()) return CharSequenceSearch.countOccurrences(actual, sequenceToSearch);
     String strToSearch = sequenceToSearch.toString();
     String strActual = actual.toString();
     int occurrences = 0;
@@ -717,6 +775,10 @@ public class Strings {
   }
 
   private boolean startsWith(CharSequence actual, CharSequence prefix, boolean ignoreCase) {
+    if (usesStandardComparisonStrategy()) {
+      return ignoreCase ? CharSequenceSearch.startsWithIgnoringCase(actual, prefix)
+          : CharSequenceSearch.startsWith(actual, prefix);
+    }
     return ignoreCase
         ? comparisonStrategy.stringStartsWith(actual.toString().toLowerCase(ROOT), prefix.toString().toLowerCase(ROOT))
         : comparisonStrategy.stringStartsWith(actual.toString(), prefix.toString());
@@ -783,6 +845,10 @@ public class Strings {
   }
 
   private boolean endsWith(CharSequence actual, CharSequence suffix, boolean ignoreCase) {
+    if (usesStandardComparisonStrategy()) {
+      return ignoreCase ? CharSequenceSearch.endsWithIgnoringCase(actual, suffix)
+          : CharSequenceSearch.endsWith(actual, suffix);
+    }
     return ignoreCase
         ? comparisonStrategy.stringEndsWith(actual.toString().toLowerCase(ROOT), suffix.toString().toLowerCase(ROOT))
         : comparisonStrategy.stringEndsWith(actual.toString(), suffix.toString());
@@ -798,7 +864,7 @@ public class Strings {
   public void assertMatches(AssertionInfo info, CharSequence actual, CharSequence regex) {
     checkRegexIsNotNull(regex);
     assertNotNull(info, actual);
-    if (!Pattern.matches(regex.toString(), actual)) throw failures.failure(info, shouldMatch(actual, regex));
+    if (!Patterns.compile(regex.toString()).matcher(actual).matches()) throw failures.failure(info, shouldMatch(actual, regex));
   }
 
   /**
@@ -811,7 +877,7 @@ public class Strings {
   public void assertDoesNotMatch(AssertionInfo info, CharSequence actual, CharSequence regex) {
     checkRegexIsNotNull(regex);
     assertNotNull(info, actual);
-    if (Pattern.matches(regex.toString(), actual)) throw failures.failure(info, shouldNotMatch(actual, regex));
+    if (Patterns.compile(regex.toString()).matcher(actual).matches()) throw failures.failure(info, shouldNotMatch(actual, regex));
   }
 
   private static void checkRegexIsNotNull(CharSequence regex) {
@@ -898,9 +964,8 @@ public class Strings {
     if (sequence.length == 1) return; // no order check needed for a one element sequence
 
     // convert all values to one char sequence to compare with the actual char sequence
-    String strActual = actual.toString();
     String strSequence = String.join(EMPTY_STRING, sequence);
-    if (!stringContains(strActual, strSequence)) {
+    if (!stringContains(actual, strSequence)) {
       throw failures.failure(info, shouldContainSequence(actual, sequence, comparisonStrategy));
     }
   }
@@ -927,6 +992,16 @@ public class Strings {
     // - remove up to "George" in "{ George Martin }" -> " Martin }", does it contain " " ?
     // - remove up to " " in " Martin }" -> "Martin }", does it contain "Martin" ?
     // ...
+    if (usesStandardComparisonStrategy()) {
+      // same as below without copying the rest of actual, we look for the next element after the previous one instead
+      int restStart = CharSequenceSearch.indexOf(actual, subsequence[0], 0) + subsequence[0].length();
+      for (int i = 1; i < subsequence.length; i++) {
+        int index = CharSequenceSearch.indexOf(actual, subsequence[i], restStart);
+        if (index == -1) throw failures.failure(info, shouldContainSubsequence(actual, subsequence, i - 1, comparisonStrategy));
+        restStart = index + subsequence[i].length();
+      }
+      return;
+    }
     String actualRest = removeUpTo(actual.toString(), subsequence[0]);
     // check the subsequence second element since we already know the first is present
     for (int i = 1; i < subsequence.length; i++) {
@@ -1022,14 +1097,18 @@ public class Strings {
     return string.substring(index + toRemove.length());
   }
 
-  private int indexOf(String str, String toFind) {
-    return indexOf(str, toFind, 0);
+  private int indexOf(CharSequence text, CharSequence toFind) {
+    return indexOf(text, toFind, 0);
   }
 
-  private int indexOf(String str, String toFind, int fromIndex) {
-    if (EMPTY_STRING.equals(str) && EMPTY_STRING.equals(toFind)) return 0;
+  private int indexOf(CharSequence text, CharSequence toFind, int fromIndex) {
+    if (text.length() == 0 && toFind.length() == 0) return 0;
+    if (usesStandardComparisonStrategy())
+      return fromIndex < text.length() ? CharSequenceSearch.indexOf(text, toFind, fromIndex) : -1;
+    String str = text.toString();
+    String strToFind = toFind.toString();
     for (int i = fromIndex; i < str.length(); i++) {
-      if (comparisonStrategy.stringStartsWith(str.substring(i), toFind)) return i;
+      if (comparisonStrategy.stringStartsWith(str.substring(i), strToFind)) return i;
     }
 
     return -1;
@@ -1045,10 +1124,9 @@ public class Strings {
   public void assertDoesNotContainSequence(AssertionInfo info, CharSequence actual, CharSequence[] sequence) {
     doCommonCheckForCharSequence(info, actual, sequence);
 
-    String strActual = actual.toString();
     String strSequence = String.join(EMPTY_STRING, sequence);
 
-    int index = indexOf(strActual, strSequence);
+    int index = indexOf(actual, strSequence);
     if (index != -1) {
       throw failures.failure(info, shouldNotContainSequence(actual, sequence, index, comparisonStrategy));
     }
@@ -1064,15 +1142,13 @@ public class Strings {
   public void assertDoesNotContainSubsequence(AssertionInfo info, CharSequence actual, CharSequence[] subsequence) {
     doCommonCheckForCharSequence(info, actual, subsequence);
 
-    String strActual = actual.toString();
     int startIndex = 0;
     int[] subsequenceIndexes = new int[subsequence.length];
     for (int i = 0; i < subsequence.length; i++) {
-      String strSubsequenceItem = subsequence[i].toString();
-      int index = indexOf(strActual, strSubsequenceItem, startIndex);
+      int index = indexOf(actual, subsequence[i], startIndex);
       if (index != -1) {
         subsequenceIndexes[i] = index;
-        startIndex = index + strSubsequenceItem.length();
+        startIndex = index + subsequence[i].length();
       } else {
         return;
       }
@@ -1091,7 +1167,7 @@ public class Strings {
   public void assertIsSubstringOf(AssertionInfo info, CharSequence actual, CharSequence sequence) {
     assertNotNull(info, actual);
     requireNonNull(sequence, "Expecting CharSequence not to be null");
-    if (stringContains(sequence.toString(), actual.toString())) return;
+    if (stringContains(sequence, actual)) return;
     throw failures.failure(info, shouldBeSubstring(actual, sequence, comparisonStrategy));
   }
 
@@ -1104,7 +1180,7 @@ public class Strings {
    */
   public void assertContainsPattern(AssertionInfo info, CharSequence actual, CharSequence regex) {
     checkRegexIsNotNull(regex);
-    assertContainsPattern(info, actual, Pattern.compile(regex.toString()));
+    assertContainsPattern(info, actual, Patterns.compile(regex.toString()));
   }
 
   /**
@@ -1143,7 +1219,7 @@ public class Strings {
    */
   public void assertDoesNotContainPattern(AssertionInfo info, CharSequence actual, CharSequence regex) {
     checkRegexIsNotNull(regex);
-    Pattern pattern = Pattern.compile(regex.toString());
+    Pattern pattern = Patterns.compile(regex.toString());
     assertDoesNotContainPattern(info, actual, pattern);
   }
 
@@ -1179,9 +1255,7 @@ public class Strings {
    * @param expected the expected text
    */
   public void assertIsEqualToIgnoringNewlines(AssertionInfo info, CharSequence actual, CharSequence expected) {
-    String actualWithoutNewLines = removeNewlines(actual);
-    String expectedWithoutNewLines = removeNewlines(expected);
-    if (!actualWithoutNewLines.equals(expectedWithoutNewLines))
+    if (!CharSequenceSearch.equalsIgnoringNewlines(actual, expected))
       throw failures.failure(info, shouldBeEqualIgnoringNewLines(actual, expected), actual, expected);
   }
 
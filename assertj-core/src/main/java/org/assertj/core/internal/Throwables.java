@@ -46,6 +46,7 @@ import java.util.Set;
 import java.util.regex.Pattern;
 
 import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.util.Patterns;
 
 /**
  * Reusable assertions for <code>{@link Throwable}</code>s.
@@ -333,7 +334,7 @@ public class Throwables {
    */
   public void assertHasMessageMatching(AssertionInfo info, Throwable actual, String regex) {
     requireNonNull(regex, "regex must not be null");
-    assertHasMessageMatching(info, actual, Pattern.compile(regex));
+    assertHasMessageMatching(info, actual, Patterns.compile(regex));
   }
 
   /**
@@ -351,7 +352,7 @@ public class Throwables {
     requireNonNull(regex, "regex must not be null");
     assertNotNull(info, actual);
     Objects.instance().assertNotNull(info, actual.getMessage(), "exception message of actual");
-    if (Pattern.compile(regex, Pattern.DOTALL).asPredicate().test(actual.getMessage())) return;
+    if (Patterns.compile(regex, Pattern.DOTALL).asPredicate().test(actual.getMessage())) return;
     throw failures.failure(info, shouldHaveMessageFindingMatchRegex(actual, regex));
   }
 
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import java.util.Comparator;
+
+/**
+ * A comparator considering numbers equal when they are close enough.
+ * <p>
+ * Implementations must guarantee that the values considered equal to a given value form a contiguous range of the values
+ * sorted in their natural order ({@link Double#compare(double, double)} or {@link Float#compare(float, float)}), this allows
+ * finding them with binary searches on sorted values instead of comparing all of them.
+ *
+ * @param <T> the type of numbers to compare, either {@link Double} or {@link Float}
+ */
+public interface ToleranceComparator<T extends Number> extends Comparator<T> {
+
+  /**
+   * Returns the type of numbers compared by this comparator.
+   *
+   * @return the type of numbers compared by this comparator
+   */
+  Class<T> getNumberType();
+
+  /**
+   * Returns whether the given values are equal according to this comparator without boxing them, {@code float} values being
+   * widened to {@code double} when the compared numbers are {@link Float}s.
+   *
+   * @param value1 the first value to compare
+   * @param value2 the second value to compare
+   * @return whether the given values are equal according to this comparator
+   */
+  boolean areEqual(double value1, double value2);
+
+}
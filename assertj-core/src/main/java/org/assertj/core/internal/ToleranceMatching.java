@@ -0,0 +1,322 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.reflect.Array.getLength;
+import static java.util.Arrays.asList;
+
+import java.util.Collection;
+import java.util.Comparator;
+
+import org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy;
+import org.assertj.core.api.comparisonstrategy.ComparisonStrategy;
+import org.assertj.core.util.DoubleComparator;
+import org.assertj.core.util.FloatComparator;
+
+/**
+ * Matches {@code double[]} or {@code float[]} elements, or {@code Double} or {@code Float} iterable elements, compared with a
+ * tolerance comparator (like the ones used by {@code usingComparatorWithPrecision} or the assertions taking an
+ * {@link org.assertj.core.data.Offset Offset}) without comparing every actual element to every expected value.
+ * <p>
+ * The elements are sorted once, the elements considered equal to a value are contiguous around the value insertion point
+ * and are found with (galloping) binary searches, the comparator being called O(log n) times per value instead of n times.
+ * Iterable elements are first copied to a {@code double[]} or {@code float[]}, values are compared without being boxed.
+ * <p>
+ * The kernels replay exactly the matching done by {@link Arrays} and {@link Iterables} (same values order, same elements
+ * removed) and only tell whether the assertion succeeds, when it does not the regular check must be performed to build the
+ * error message.
+ */
+final class ToleranceMatching {
+
+  private final Equality equality;
+  private final boolean floats;
+
+  private ToleranceMatching(Equality equality, boolean floats) {
+    this.equality = equality;
+    this.floats = floats;
+  }
+
+  /**
+   * Returns the {@link ToleranceMatching} to use to compare the given arrays with the given comparison strategy or null if
+   * they are not {@code double[]} or {@code float[]} arrays compared with a known tolerance comparator.
+   */
+  static ToleranceMatching toleranceMatching(ComparisonStrategy comparisonStrategy, Object actual, Object values) {
+    if (actual.getClass() != values.getClass()) return null;
+    if (actual instanceof double[]) return toleranceMatching(comparisonStrategy, Double.class);
+    if (actual instanceof float[]) return toleranceMatching(comparisonStrategy, Float.class);
+    return null;
+  }
+
+  /**
+   * Returns the {@link ToleranceMatching} to use to compare the given iterable elements and values with the given comparison
+   * strategy or null if they are not all {@code Double} or all {@code Float} compared with a known tolerance comparator.
+   */
+  static ToleranceMatching toleranceMatching(ComparisonStrategy comparisonStrategy, Iterable<?> actual, Object[] values) {
+    if (values.length == 0 || values[0] == null) return null;
+    Class<?> numberType = values[0].getClass();
+    ToleranceMatching toleranceMatching = toleranceMatching(comparisonStrategy, numberType);
+    if (toleranceMatching == null) return null;
+    for (Object value : values) {
+      if (!numberType.isInstance(value)) return null;
+    }
+    for (Object element : actual) {
+      if (!numberType.isInstance(element)) return null;
+    }
+    return toleranceMatching;
+  }
+
+  private static ToleranceMatching toleranceMatching(ComparisonStrategy comparisonStrategy, Class<?> numberType) {
+    if (!(comparisonStrategy instanceof ComparatorBasedComparisonStrategy strategy)) return null;
+    Comparator<?> comparator = strategy.getComparator();
+    // subclasses of DoubleComparator/FloatComparator may compare values differently
+    if (numberType == Double.class && comparator.getClass() == DoubleComparator.class) {
+      double epsilon = ((DoubleComparator) comparator).getEpsilon();
+      return new ToleranceMatching((x, y) -> x == y || Math.abs(x - y) <= epsilon, false);
+    }
+    if (numberType == Float.class && comparator.getClass() == FloatComparator.class) {
+      float epsilon = ((FloatComparator) comparator).getEpsilon();
+      return new ToleranceMatching((x, y) -> (float) x == (float) y || Math.abs((float) x - (float) y) <= epsilon, true);
+    }
+    if (comparator instanceof ToleranceComparator<?> toleranceComparator && toleranceComparator.getNumberType() == numberType)
+      return new ToleranceMatching(toleranceComparator::areEqual, numberType == Float.class);
+    return null;
+  }
+
+  boolean containsAll(Collection<?> actual, Object[] values) {
+    return containsAll(toArray(actual), toArray(asList(values)));
+  }
+
+  boolean containsOnly(Collection<?> actual, Object[] values) {
+    return containsOnly(toArray(actual), toArray(asList(values)));
+  }
+
+  boolean containsExactlyInAnyOrder(Collection<?> actual, Object[] values) {
+    return containsExactlyInAnyOrder(toArray(actual), toArray(asList(values)));
+  }
+
+  boolean containsAll(Object actual, Object values) {
+    SortedElements elements = new SortedElements(actual);
+    for (double value : toDoubles(values)) {
+      if (!elements.contains(value)) return false;
+    }
+    return true;
+  }
+
+  boolean containsOnly(Object actual, Object values) {
+    SortedElements notExpected = new SortedElements(actual);
+    SortedElements notFound = new SortedElements(values);
+    for (double value : toDoubles(values)) {
+      if (notExpected.contains(value)) {
+        notExpected.removeAll(value);
+        notFound.removeAll(value);
+      }
+    }
+    return notExpected.isEmpty() && notFound.isEmpty();
+  }
+
+  boolean containsExactlyInAnyOrder(Object actual, Object values) {
+    // each match removes one element of both arrays
+    if (getLength(actual) != getLength(values)) return false;
+    SortedElements notExpected = new SortedElements(actual);
+    SortedElements notFound = new SortedElements(values);
+    for (double value : toDoubles(values)) {
+      if (notExpected.contains(value)) {
+        notExpected.removeFirst(value);
+        notFound.removeFirst(value);
+      }
+    }
+    return notExpected.isEmpty() && notFound.isEmpty();
+  }
+
+  // float to double conversion is exact and preserves the order
+  private static double[] toDoubles(Object array) {
+    if (array instanceof double[] doubles) return doubles;
+    float[] floats = (float[]) array;
+    double[] doubles = new double[floats.length];
+    for (int i = 0; i < floats.length; i++) doubles[i] = floats[i];
+    return doubles;
+  }
+
+  private Object toArray(Collection<?> elements) {
+    int index = 0;
+    if (floats) {
+      float[] floatArray = new float[elements.size()];
+      for (Object element : elements) floatArray[index++] = (Float) element;
+      return floatArray;
+    }
+    double[] doubleArray = new double[elements.size()];
+    for (Object element : elements) doubleArray[index++] = (Double) element;
+    return doubleArray;
+  }
+
+  private long keyOf(double value) {
+    return floats ? PrimitiveArrayKeys.keyOf((float) value) : PrimitiveArrayKeys.keyOf(value);
+  }
+
+  /**
+   * The elements of an array sorted by value, elements can be removed, the remaining ones being looked up by their position
+   * in the original array to remove them in the same order as a list would.
+   */
+  private final class SortedElements {
+
+    private final long[] sortedKeys;
+    private final double[] sortedValues;
+    // min tree of the original index of the remaining elements, leaves are stored at [size, 2 * size)
+    private final int[] minIndexTree;
+    private final int[] positionByIndex;
+    private final int size;
+    private int remaining;
+    // range of the sorted elements equal to the last located value, it does not change when elements are removed
+    private boolean located;
+    private long locatedValueBits;
+    private int from;
+    private int to;
+
+    SortedElements(Object array) {
+      double[] values = toDoubles(array);
+      size = values.length;
+      remaining = size;
+      long[] keys = new long[size];
+      for (int i = 0; i < size; i++) keys[i] = keyOf(values[i]);
+      sortedKeys = keys.clone();
+      java.util.Arrays.sort(sortedKeys);
+      sortedValues = new double[size];
+      minIndexTree = new int[2 * size];
+      positionByIndex = new int[size];
+      // elements with the same key keep their original order
+      int[] sameKeyCount = new int[size];
+      for (int i = 0; i < size; i++) {
+        int firstPosition = lowerBound(keys[i]);
+        int position = firstPosition + sameKeyCount[firstPosition]++;
+        sortedValues[position] = values[i];
+        positionByIndex[i] = position;
+        minIndexTree[size + position] = i;
+      }
+      for (int node = size - 1; node > 0; node--) {
+        minIndexTree[node] = Math.min(minIndexTree[2 * node], minIndexTree[2 * node + 1]);
+      }
+    }
+
+    boolean isEmpty() {
+      return remaining == 0;
+    }
+
+    boolean contains(double value) {
+      locate(value);
+      return firstRemainingIndex() != Integer.MAX_VALUE;
+    }
+
+    void removeFirst(double value) {
+      locate(value);
+      int index = firstRemainingIndex();
+      if (index != Integer.MAX_VALUE) remove(positionByIndex[index]);
+    }
+
+    void removeAll(double value) {
+      locate(value);
+      for (int index = firstRemainingIndex(); index != Integer.MAX_VALUE; index = firstRemainingIndex()) {
+        remove(positionByIndex[index]);
+      }
+    }
+
+    // the elements equal to value are contiguous and next to its insertion point since the comparator is a tolerance one,
+    // galloping from the insertion point keeps the number of comparisons low as there are usually only a few of them
+    private void locate(double value) {
+      long valueBits = Double.doubleToRawLongBits(value);
+      if (located && locatedValueBits == valueBits) return;
+      located = true;
+      locatedValueBits = valueBits;
+      int insertionPoint = lowerBound(keyOf(value));
+      from = firstEqualBefore(insertionPoint, value);
+      to = firstNotEqualFrom(insertionPoint, value);
+    }
+
+    // the elements of [0, end) equal to value are a suffix of it
+    private int firstEqualBefore(int end, double value) {
+      int high = end;
+      int step = 1;
+      while (end - step >= 0 && isEqual(end - step, value)) {
+        high = end - step;
+        step *= 2;
+      }
+      int low = Math.max(end - step + 1, 0);
+      while (low < high) {
+        int middle = (low + high) >>> 1;
+        if (isEqual(middle, value)) high = middle;
+        else low = middle + 1;
+      }
+      return low;
+    }
+
+    // the elements of [start, size) equal to value are a prefix of it
+    private int firstNotEqualFrom(int start, double value) {
+      int low = start;
+      int step = 1;
+      while (start + step - 1 < size && isEqual(start + step - 1, value)) {
+        low = start + step;
+        step *= 2;
+      }
+      int high = Math.min(start + step - 1, size);
+      while (low < high) {
+        int middle = (low + high) >>> 1;
+        if (isEqual(middle, value)) low = middle + 1;
+        else high = middle;
+      }
+      return low;
+    }
+
+    private boolean isEqual(int position, double value) {
+      return equality.areEqual(sortedValues[position], value);
+    }
+
+    private int lowerBound(long key) {
+      int low = 0;
+      int high = size;
+      while (low < high) {
+        int middle = (low + high) >>> 1;
+        if (sortedKeys[middle] < key) low = middle + 1;
+        else high = middle;
+      }
+      return low;
+    }
+
+    // smallest original index of the remaining elements in [from, to), Integer.MAX_VALUE if there are none
+    private int firstRemainingIndex() {
+      int min = Integer.MAX_VALUE;
+      for (int left = from + size, right = to + size; left < right; left >>= 1, right >>= 1) {
+        if ((left & 1) == 1) min = Math.min(min, minIndexTree[left++]);
+        if ((right & 1) == 1) min = Math.min(min, minIndexTree[--right]);
+      }
+      return min;
+    }
+
+    private void remove(int position) {
+      int node = position + size;
+      minIndexTree[node] = Integer.MAX_VALUE;
+      for (node >>= 1; node > 0; node >>= 1) {
+        minIndexTree[node] = Math.min(minIndexTree[2 * node], minIndexTree[2 * node + 1]);
+      }
+      remaining--;
+    }
+  }
+
+  // float values are widened to double, which is exact
+  @FunctionalInterface
+  private interface Equality {
+    boolean areEqual(double value1, double value2);
+  }
+
+}
@@ -16,7 +16,7 @@
 package org.assertj.core.presentation;
 
 import static java.lang.Integer.toHexString;
-import static java.util.stream.Collectors.toList;
+import static java.util.Arrays.asList;
 import static org.assertj.core.util.Arrays.isArray;
 import static org.assertj.core.util.Arrays.isArrayTypePrimitive;
 import static org.assertj.core.util.Arrays.isObjectArray;
@@ -41,17 +41,20 @@ import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.YearMonth;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.PriorityQueue;
+import java.util.RandomAccess;
 import java.util.TreeMap;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -117,8 +120,17 @@ public class StandardRepresentation implements Representation {
   private static int maxLengthForSingleLineDescription = Configuration.MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION;
   private static int maxElementsForPrinting = Configuration.MAX_ELEMENTS_FOR_PRINTING;
   private static int maxStackTraceElementsDisplayed = Configuration.MAX_STACKTRACE_ELEMENTS_DISPLAYED;
+  private static int maxRepresentationLength = Configuration.MAX_REPRESENTATION_LENGTH;
 
-  private static final Map<Class<?>, Function<?, ? extends CharSequence>> customFormatterByType = new HashMap<>();
+  private static final Map<Class<?>, Function<?, ? extends CharSequence>> customFormatterByType = new ConcurrentHashMap<>();
+  private static final ClassValue<Formatter> formattersByType = new ClassValue<>() {
+    @Override
+    protected Formatter computeValue(Class<?> type) {
+      return formatterFor(type);
+    }
+  };
+  // compares map entries by the natural order of their keys like a TreeMap would
+  private static final Comparator<Entry<?, ?>> ENTRIES_BY_KEY = StandardRepresentation::compareKeys;
   private static final Class<?>[] TYPE_WITH_UNAMBIGUOUS_REPRESENTATION = { Date.class, LocalDateTime.class, ZonedDateTime.class,
       OffsetDateTime.class, Calendar.class };
 
@@ -134,6 +146,12 @@ public class StandardRepresentation implements Representation {
       DirectoryStream.class,
   };
 
+  // formats a value with the given representation so that subclasses overriding the toStringOf methods are honored
+  @FunctionalInterface
+  private interface Formatter {
+    String format(StandardRepresentation representation, Object object);
+  }
+
   /** Group categories used when formatting values. */
   protected enum GroupType {
     /** Iterable group. */
@@ -165,11 +183,13 @@ public class StandardRepresentation implements Representation {
    * <ul>
    *   <li>{@code maxLengthForSingleLineDescription} = {@value org.assertj.core.configuration.Configuration#MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION} </li>
    *   <li>{@code maxElementsForPrinting} = {@value org.assertj.core.configuration.Configuration#MAX_ELEMENTS_FOR_PRINTING} </li>
+   *   <li>{@code maxRepresentationLength} = {@value org.assertj.core.configuration.Configuration#MAX_REPRESENTATION_LENGTH} </li>
    * </ul>
    */
   public static void resetDefaults() {
     maxLengthForSingleLineDescription = Configuration.MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION;
     maxElementsForPrinting = Configuration.MAX_ELEMENTS_FOR_PRINTING;
+    maxRepresentationLength = Configuration.MAX_REPRESENTATION_LENGTH;
   }
 
   /**
@@ -232,6 +252,29 @@ public class StandardRepresentation implements Representation {
     return maxElementsForPrinting;
   }
 
+  /**
+   * Sets the maximum length of the representation of strings, char sequences, iterables, arrays and maps, the formatting
+   * stops once it is reached and the representation is truncated.
+   *
+   * @param value the maximum length
+   * @since 4.0.0
+   */
+  public static void setMaxRepresentationLength(int value) {
+    ConfigurationProvider.loadRegisteredConfiguration();
+    checkArgument(value > 0, "maxRepresentationLength must be > 0 but was %s", value);
+    maxRepresentationLength = value;
+  }
+
+  /**
+   * Returns the maximum length of the representation of strings, char sequences, iterables, arrays and maps.
+   *
+   * @return the maximum length
+   * @since 4.0.0
+   */
+  public static int getMaxRepresentationLength() {
+    return maxRepresentationLength;
+  }
+
   /**
    * Registers new formatter for the given type. All instances of the given type will be formatted with the provided formatter.
    *
@@ -261,68 +304,84 @@ public class StandardRepresentation implements Representation {
   public String toStringOf(Object object) {
     if (object == null) return null;
     if (hasCustomFormatterFor(object)) return customFormat(object);
-    if (object instanceof ComparatorBasedComparisonStrategy strategy) return toStringOf(strategy);
-    if (object instanceof Calendar calendar) return toStringOf(calendar);
-    if (object instanceof Class<?> clazz) return toStringOf(clazz);
-    if (object instanceof Date date) return toStringOf(date);
-    if (object instanceof Duration duration) return toStringOf(duration);
-    if (object instanceof LocalDate date) return toStringOf(date);
-    if (object instanceof YearMonth month) return toStringOf(month);
-    if (object instanceof LocalDateTime time) return toStringOf(time);
-    if (object instanceof OffsetDateTime time) return toStringOf(time);
-    if (object instanceof ZonedDateTime time) return toStringOf(time);
-    if (object instanceof LongAdder adder) return toStringOf(adder);
+    return formattersByType.get(object.getClass()).format(this, object);
+  }
+
+  // The formatter of a type is the first one of the following chain accepting it, it only depends on the type so it is
+  // resolved once per type instead of once per formatted value. Custom formatters are looked up before it through the
+  // overridable hasCustomFormatterFor.
+  private static Formatter formatterFor(Class<?> type) {
+    if (is(type, ComparatorBasedComparisonStrategy.class))
+      return (representation, object) -> representation.toStringOf((ComparatorBasedComparisonStrategy) object);
+    if (is(type, Calendar.class)) return (representation, object) -> representation.toStringOf((Calendar) object);
+    if (is(type, Class.class)) return (representation, object) -> representation.toStringOf((Class<?>) object);
+    if (is(type, Date.class)) return (representation, object) -> representation.toStringOf((Date) object);
+    if (is(type, Duration.class)) return (representation, object) -> representation.toStringOf((Duration) object);
+    if (is(type, LocalDate.class)) return (representation, object) -> representation.toStringOf((LocalDate) object);
+    if (is(type, YearMonth.class)) return (representation, object) -> representation.toStringOf((YearMonth) object);
+    if (is(type, LocalDateTime.class)) return (representation, object) -> representation.toStringOf((LocalDateTime) object);
+    if (is(type, OffsetDateTime.class)) return (representation, object) -> representation.toStringOf((OffsetDateTime) object);
+    if (is(type, ZonedDateTime.class)) return (representation, object) -> representation.toStringOf((ZonedDateTime) object);
+    if (is(type, LongAdder.class)) return (representation, object) -> representation.toStringOf((LongAdder) object);
     // if object was a subtype of any atomic type overriding toString, use it as it's more relevant than our generic
     // representation, if that's not the case (e.g., an AtomicReference subclass not overriding String) we use our representation.
-    if (isInstanceOfNotOverridingToString(object, AtomicReference.class))
-      return toStringOf((AtomicReference<?>) object);
-    if (isInstanceOfNotOverridingToString(object, AtomicMarkableReference.class))
-      return toStringOf((AtomicMarkableReference<?>) object);
-    if (isInstanceOfNotOverridingToString(object, AtomicStampedReference.class))
-      return toStringOf((AtomicStampedReference<?>) object);
-    if (object instanceof AtomicIntegerFieldUpdater) return AtomicIntegerFieldUpdater.class.getSimpleName();
-    if (object instanceof AtomicLongFieldUpdater) return AtomicLongFieldUpdater.class.getSimpleName();
-    if (object instanceof AtomicReferenceFieldUpdater) return AtomicReferenceFieldUpdater.class.getSimpleName();
-    if (object instanceof File file) return toStringOf(file);
-    if (object instanceof Path) return fallbackToStringOf(object);
-    if (isUnquotedString(object)) return toUnquotedStringOf(object);
-    if (object instanceof String string) return toStringOf(string);
-    if (object instanceof CharSequence sequence) return toStringOf(sequence);
-    if (object instanceof Character character) return toStringOf(character);
-    if (object instanceof Comparator<?> comparator) return toStringOf(comparator);
-    if (object instanceof SimpleDateFormat format) return toStringOf(format);
-    if (object instanceof PredicateDescription description) return toStringOf(description);
-    if (object instanceof Future<?> future) return toStringOf(future);
-    if (isArray(object)) return formatArray(object);
-    if (object instanceof Collection<?> collection) return smartFormat(collection);
-    if (object instanceof Map<?, ?> map) return toStringOf(map);
-    if (object instanceof Tuple tuple) return toStringOf(tuple);
-    if (object instanceof Map.Entry<?, ?> entry) return toStringOf(entry);
-    if (object instanceof Method method) return method.toGenericString();
-    if (object instanceof InsertDelta<?> delta) return toStringOf(delta);
-    if (object instanceof ChangeDelta<?> delta) return toStringOf(delta);
-    if (object instanceof DeleteDelta<?> delta) return toStringOf(delta);
+    if (isNotOverridingToString(type, AtomicReference.class))
+      return (representation, object) -> representation.toStringOf((AtomicReference<?>) object);
+    if (isNotOverridingToString(type, AtomicMarkableReference.class))
+      return (representation, object) -> representation.toStringOf((AtomicMarkableReference<?>) object);
+    if (isNotOverridingToString(type, AtomicStampedReference.class))
+      return (representation, object) -> representation.toStringOf((AtomicStampedReference<?>) object);
+    if (is(type, AtomicIntegerFieldUpdater.class))
+      return (representation, object) -> AtomicIntegerFieldUpdater.class.getSimpleName();
+    if (is(type, AtomicLongFieldUpdater.class)) return (representation, object) -> AtomicLongFieldUpdater.class.getSimpleName();
+    if (is(type, AtomicReferenceFieldUpdater.class))
+      return (representation, object) -> AtomicReferenceFieldUpdater.class.getSimpleName();
+    if (is(type, File.class)) return (representation, object) -> representation.toStringOf((File) object);
+    if (is(type, Path.class)) return StandardRepresentation::fallbackToStringOf;
+    if (isUnquotedString(type)) return StandardRepresentation::toUnquotedStringOf;
+    if (is(type, String.class)) return (representation, object) -> representation.toStringOf((String) object);
+    if (is(type, CharSequence.class)) return (representation, object) -> representation.toStringOf((CharSequence) object);
+    if (is(type, Character.class)) return (representation, object) -> representation.toStringOf((Character) object);
+    if (is(type, Comparator.class)) return (representation, object) -> representation.toStringOf((Comparator<?>) object);
+    if (is(type, SimpleDateFormat.class)) return (representation, object) -> representation.toStringOf((SimpleDateFormat) object);
+    if (is(type, PredicateDescription.class))
+      return (representation, object) -> representation.toStringOf((PredicateDescription) object);
+    if (is(type, Future.class)) return (representation, object) -> representation.toStringOf((Future<?>) object);
+    if (type.isArray()) return StandardRepresentation::formatArray;
+    if (is(type, Collection.class)) return (representation, object) -> representation.smartFormat((Collection<?>) object);
+    if (is(type, Map.class)) return (representation, object) -> representation.toStringOf((Map<?, ?>) object);
+    if (is(type, Tuple.class)) return (representation, object) -> representation.toStringOf((Tuple) object);
+    if (is(type, Map.Entry.class)) return (representation, object) -> representation.toStringOf((Map.Entry<?, ?>) object);
+    if (is(type, Method.class)) return (representation, object) -> ((Method) object).toGenericString();
+    if (is(type, InsertDelta.class)) return (representation, object) -> representation.toStringOf((InsertDelta<?>) object);
+    if (is(type, ChangeDelta.class)) return (representation, object) -> representation.toStringOf((ChangeDelta<?>) object);
+    if (is(type, DeleteDelta.class)) return (representation, object) -> representation.toStringOf((DeleteDelta<?>) object);
     // Only format Iterables that are not collections and have not overridden toString
     // ex: JsonNode is an Iterable that is best formatted with its own String
     // Path is another example, but we can deal with it specifically as it is part of the JDK.
-    if (object instanceof Iterable<?> iterable && !hasOverriddenToString(object.getClass()))
-      return smartFormat(iterable);
-    if (object instanceof AtomicInteger atomicInteger) return toStringOf(atomicInteger);
-    if (object instanceof AtomicBoolean atomicBoolean) return toStringOf(atomicBoolean);
-    if (object instanceof AtomicLong atomicLong) return toStringOf(atomicLong);
-    if (object instanceof Number number) return toStringOf(number);
-    if (object instanceof MultipleAssertionsError multipleAssertionsError) return toStringOf(multipleAssertionsError);
-    if (object instanceof Throwable throwable) return toStringOf(throwable);
-    return fallbackToStringOf(object);
-  }
-
-  private static boolean isUnquotedString(Object object) {
-    String className = object.getClass().getName();
+    if (is(type, Iterable.class) && !hasOverriddenToString(type))
+      return (representation, object) -> representation.smartFormat((Iterable<?>) object);
+    if (is(type, AtomicInteger.class)) return (representation, object) -> representation.toStringOf((AtomicInteger) object);
+    if (is(type, AtomicBoolean.class)) return (representation, object) -> representation.toStringOf((AtomicBoolean) object);
+    if (is(type, AtomicLong.class)) return (representation, object) -> representation.toStringOf((AtomicLong) object);
+    if (is(type, Number.class)) return (representation, object) -> representation.toStringOf((Number) object);
+    if (is(type, MultipleAssertionsError.class))
+      return (representation, object) -> representation.toStringOf((MultipleAssertionsError) object);
+    if (is(type, Throwable.class)) return (representation, object) -> representation.toStringOf((Throwable) object);
+    return StandardRepresentation::fallbackToStringOf;
+  }
+
+  private static boolean is(Class<?> type, Class<?> supertype) {
+    return supertype.isAssignableFrom(type);
+  }
+
+  private static boolean isUnquotedString(Class<?> type) {
+    String className = type.getName();
     return className.contains("org.assertj.core") && className.contains("UnquotedString");
   }
 
-  private static boolean isInstanceOfNotOverridingToString(Object object, Class<?> type) {
-    return type.isInstance(object) && !hasOverriddenToStringInSubclassOf(object.getClass(), type);
+  private static boolean isNotOverridingToString(Class<?> type, Class<?> supertype) {
+    return is(type, supertype) && !hasOverriddenToStringInSubclassOf(type, supertype);
   }
 
   private static boolean hasOverriddenToString(Class<?> clazz) {
@@ -551,7 +610,8 @@ public class StandardRepresentation implements Representation {
   }
 
   private static String concatWithDoubleQuotes(CharSequence s) {
-    return concat("\"", s, "\"");
+    if (s.length() <= maxRepresentationLength) return concat("\"", s, "\"");
+    return concat("\"", s.subSequence(0, maxRepresentationLength), DEFAULT_MAX_ELEMENTS_EXCEEDED, "\" (", s.length(), " chars)");
   }
 
   /**
@@ -784,14 +844,13 @@ public class StandardRepresentation implements Representation {
    */
   protected String toStringOf(Map<?, ?> map) {
     if (map == null) return null;
-    Map<?, ?> sortedMap = toSortedMapIfPossible(map);
-    Iterator<?> entriesIterator = sortedMap.entrySet().iterator();
+    Iterator<? extends Entry<?, ?>> entriesIterator = sortedEntriesToPrintIfPossible(map).iterator();
     if (!entriesIterator.hasNext()) return "{}";
     StringBuilder builder = new StringBuilder("{");
     int printedElements = 0;
     for (;;) {
-      Entry<?, ?> entry = (Entry<?, ?>) entriesIterator.next();
-      if (printedElements == maxElementsForPrinting) {
+      Entry<?, ?> entry = entriesIterator.next();
+      if (printedElements == maxElementsForPrinting || builder.length() > maxRepresentationLength) {
         builder.append(DEFAULT_MAX_ELEMENTS_EXCEEDED);
         return builder.append("}").toString();
       }
@@ -930,7 +989,26 @@ public class StandardRepresentation implements Representation {
    * @return the formatted value
    */
   protected String singleLineFormat(Iterable<?> iterable, String start, String end) {
-    return format(iterable, start, end, ELEMENT_SEPARATOR, INDENTATION_FOR_SINGLE_LINE, iterable);
+    return singleLineFormat(iterable, start, end, maxRepresentationLength);
+  }
+
+  /**
+   * Formats an iterable on one line, the formatting stops once the description is longer than the given maximum length
+   * and the description ends with "...", it is thus longer than the maximum length only if the iterable doesn't fit.
+   *
+   * @param iterable the iterable
+   * @param start the opening delimiter
+   * @param end the closing delimiter
+   * @param maxLength the maximum length of the description
+   * @return the formatted value
+   * @since 4.0.0
+   */
+  protected String singleLineFormat(Iterable<?> iterable, String start, String end, int maxLength) {
+    if (iterable == null) return null;
+    if (!iterable.iterator().hasNext()) return start + end;
+    List<String> representedElements = representElements(iterable, start, end, ELEMENT_SEPARATOR, INDENTATION_FOR_SINGLE_LINE,
+                                                          iterable);
+    return representGroup(representedElements, start, end, ELEMENT_SEPARATOR, INDENTATION_FOR_SINGLE_LINE, maxLength);
   }
 
   /**
@@ -950,8 +1028,9 @@ public class StandardRepresentation implements Representation {
       }
     }
 
-    String singleLineDescription = singleLineFormat(iterable, DEFAULT_START, DEFAULT_END);
-    return doesDescriptionFitOnSingleLine(singleLineDescription) ? singleLineDescription : multiLineFormat(iterable);
+    int maxLength = singleLineDescriptionMaxLength();
+    String singleLineDescription = singleLineFormat(iterable, DEFAULT_START, DEFAULT_END, maxLength);
+    return fitsOnSingleLine(singleLineDescription, maxLength) ? singleLineDescription : multiLineFormat(iterable);
   }
 
   /**
@@ -973,8 +1052,9 @@ public class StandardRepresentation implements Representation {
    * @return the formatted value
    */
   protected String smartFormat(Object[] array) {
-    String description = singleLineFormat(array, array);
-    return doesDescriptionFitOnSingleLine(description) ? description : multiLineFormat(array, array);
+    int maxLength = singleLineDescriptionMaxLength();
+    String description = singleLineFormat(array, array, maxLength);
+    return fitsOnSingleLine(description, maxLength) ? description : multiLineFormat(array, array);
   }
 
   /**
@@ -1008,7 +1088,26 @@ public class StandardRepresentation implements Representation {
    * @return the formatted value
    */
   protected String singleLineFormat(Object[] array, Object root) {
-    return format(array, DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR, INDENTATION_FOR_SINGLE_LINE, root);
+    return singleLineFormat(array, root, maxRepresentationLength);
+  }
+
+  /**
+   * Formats an object array on one line, the formatting stops once the description is longer than the given maximum length
+   * and the description ends with "...", it is thus longer than the maximum length only if the array doesn't fit.
+   *
+   * @param array the array
+   * @param root the root object used for cycle detection
+   * @param maxLength the maximum length of the description
+   * @return the formatted value
+   * @since 4.0.0
+   */
+  protected String singleLineFormat(Object[] array, Object root, int maxLength) {
+    if (array == null) return null;
+    if (array.length == 0) return DEFAULT_START + DEFAULT_END;
+    List<String> representedElements = representElements(asList(array), DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR,
+                                                          INDENTATION_FOR_SINGLE_LINE, root);
+    return representGroup(representedElements, DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR, INDENTATION_FOR_SINGLE_LINE,
+                          maxLength);
   }
 
   /**
@@ -1025,7 +1124,7 @@ public class StandardRepresentation implements Representation {
   protected String format(Object[] array, String start, String end, String elementSeparator, String indentation, Object root) {
     if (array == null) return null;
     // root is used to avoid infinite recursion in case one element refers to it.
-    return format(java.util.Arrays.asList(array), start, end, elementSeparator, indentation, root);
+    return format(asList(array), start, end, elementSeparator, indentation, root);
   }
 
   /**
@@ -1045,7 +1144,7 @@ public class StandardRepresentation implements Representation {
     if (elements.isEmpty()) return start + end;
     List<String> representedElements = new TransformingList<>(elements, elem -> safeStringOf(elem, start, end, elementSeparator,
                                                                                              indentation, root));
-    return representGroup(representedElements, start, end, elementSeparator, indentation);
+    return representGroup(representedElements, start, end, elementSeparator, indentation, maxRepresentationLength);
   }
 
   /**
@@ -1065,7 +1164,7 @@ public class StandardRepresentation implements Representation {
     Iterator<?> iterator = iterable.iterator();
     if (!iterator.hasNext()) return start + end;
     List<String> representedElements = representElements(iterable, start, end, elementSeparator, indentation, root);
-    return representGroup(representedElements, start, end, elementSeparator, indentation);
+    return representGroup(representedElements, start, end, elementSeparator, indentation, maxRepresentationLength);
   }
 
   /**
@@ -1094,25 +1193,38 @@ public class StandardRepresentation implements Representation {
 
   // private methods
 
+  private static int singleLineDescriptionMaxLength() {
+    return Math.min(maxLengthForSingleLineDescription, maxRepresentationLength);
+  }
+
+  private static boolean fitsOnSingleLine(String singleLineDescription, int maxLength) {
+    return singleLineDescription == null || singleLineDescription.length() <= maxLength;
+  }
+
+  // the elements are represented lazily, only the ones printed by representGroup are
   private List<String> representElements(Iterable<?> elements, String start, String end, String elementSeparator,
                                          String indentation, Object root) {
+    Function<Object, String> representation = element -> safeStringOf(element, start, end, elementSeparator, indentation, root);
+    // random access lists are not traversed, representGroup only gets the first and last elements to print
+    if (elements instanceof List<?> list && elements instanceof RandomAccess) return new TransformingList<>(list, representation);
     int capacity = maxElementsForPrinting / 2 + 1;
     HeadTailAccumulator<Object> accumulator = new HeadTailAccumulator<>(capacity, capacity);
     elements.forEach(accumulator::add);
-
-    return accumulator.stream().map(element -> safeStringOf(element, start, end, elementSeparator, indentation, root))
-                      .collect(toList());
+    return new TransformingList<>(accumulator.stream().toList(), representation);
   }
 
-  // this method only deals with max number of elements to display, the elements representation is already computed
+  // this method only deals with max number of elements and max length to display, the elements representation is computed
+  // when appended. Once the description is longer than maxLength, the remaining elements are not represented and are
+  // replaced by "...".
   private static String representGroup(List<String> representedElements, String start, String end, String elementSeparator,
-                                       String indentation) {
+                                       String indentation, int maxLength) {
     int size = representedElements.size();
     StringBuilder desc = new StringBuilder(start);
     if (size <= maxElementsForPrinting) {
       // display all elements
       for (int i = 0; i < size; i++) {
         if (i != 0) desc.append(indentation);
+        if (desc.length() > maxLength) return truncated(desc, end);
         desc.append(representedElements.get(i));
         if (i != size - 1) desc.append(elementSeparator);
       }
@@ -1122,6 +1234,7 @@ public class StandardRepresentation implements Representation {
     // if maxElementsForPrinting is odd, display one more first elements than last, ex: 9 => display 5 first elements and 4 last
     int maxFirstElementsToPrint = (maxElementsForPrinting + 1) / 2;
     for (int i = 0; i < maxFirstElementsToPrint; i++) {
+      if (desc.length() > maxLength) return truncated(desc, end);
       desc.append(representedElements.get(i)).append(elementSeparator).append(indentation);
     }
     desc.append(DEFAULT_MAX_ELEMENTS_EXCEEDED);
@@ -1141,12 +1254,21 @@ public class StandardRepresentation implements Representation {
     // display last elements
     int maxLastElementsToPrint = maxElementsForPrinting / 2;
     for (int i = size - maxLastElementsToPrint; i < size; i++) {
-      if (i != size - maxLastElementsToPrint) desc.append(elementSeparator);
+      boolean firstLastElement = i == size - maxLastElementsToPrint;
+      if (desc.length() > maxLength) {
+        // the first elements were already followed by "..."
+        return firstLastElement ? desc.append(end).toString() : truncated(desc.append(elementSeparator).append(indentation), end);
+      }
+      if (!firstLastElement) desc.append(elementSeparator);
       desc.append(indentation).append(representedElements.get(i));
     }
     return desc.append(end).toString();
   }
 
+  private static String truncated(StringBuilder desc, String end) {
+    return desc.append(DEFAULT_MAX_ELEMENTS_EXCEEDED).append(end).toString();
+  }
+
   private String toStringOf(ChangeDelta<?> changeDelta) {
     return "Changed content at line %s:%nexpecting:%n  %s%nbut was:%n  %s%n".formatted(changeDelta.lineNumber(),
                                                                                        formatLines(changeDelta.getOriginal()
@@ -1183,10 +1305,6 @@ public class StandardRepresentation implements Representation {
     return format(lines, DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR_WITH_NEWLINE, "   ", lines);
   }
 
-  private static boolean doesDescriptionFitOnSingleLine(String singleLineDescription) {
-    return singleLineDescription == null || singleLineDescription.length() <= maxLengthForSingleLineDescription;
-  }
-
   private static String identityHexCodeOf(Object obj) {
     return toHexString(System.identityHashCode(obj));
   }
@@ -1207,6 +1325,34 @@ public class StandardRepresentation implements Representation {
     return o.toString() + classNameDisambiguation(o);
   }
 
+  // the entries to print sorted by key, only the first maxElementsForPrinting + 1 entries are kept for large maps instead of
+  // sorting them all, if the keys can't be sorted the entries are kept in the map iteration order.
+  private static Collection<? extends Entry<?, ?>> sortedEntriesToPrintIfPossible(Map<?, ?> map) {
+    if (map.size() <= maxElementsForPrinting) return toSortedMapIfPossible(map).entrySet();
+    int entriesToPrint = maxElementsForPrinting + 1;
+    // max heap of the smallest keys seen so far, the head being the largest of them
+    PriorityQueue<Entry<?, ?>> smallestEntries = new PriorityQueue<>(entriesToPrint, ENTRIES_BY_KEY.reversed());
+    try {
+      for (Entry<?, ?> entry : map.entrySet()) {
+        if (smallestEntries.size() < entriesToPrint) smallestEntries.add(entry);
+        else if (ENTRIES_BY_KEY.compare(entry, smallestEntries.peek()) < 0) {
+          smallestEntries.poll();
+          smallestEntries.add(entry);
+        }
+      }
+    } catch (ClassCastException | NullPointerException e) {
+      return map.entrySet();
+    }
+    List<Entry<?, ?>> sortedEntries = new ArrayList<>(smallestEntries);
+    sortedEntries.sort(ENTRIES_BY_KEY);
+    return sortedEntries;
+  }
+
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  private static int compareKeys(Entry<?, ?> entry1, Entry<?, ?> entry2) {
+    return ((Comparable) entry1.getKey()).compareTo(entry2.getKey());
+  }
+
   private static Map<?, ?> toSortedMapIfPossible(Map<?, ?> map) {
     try {
       return new TreeMap<>(map);
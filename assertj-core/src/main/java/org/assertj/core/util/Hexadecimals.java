@@ -43,11 +43,13 @@ public class Hexadecimals {
    * @return the hexadecimal string
    */
   public static String toHexString(byte... bytes) {
-    StringBuilder stringBuilder = new StringBuilder();
-    for (byte b : bytes)
-      stringBuilder.append(byteToHexString(b));
-
-    return stringBuilder.toString();
+    char[] hex = new char[bytes.length * 2];
+    for (int i = 0; i < bytes.length; i++) {
+      int v = bytes[i] & 0xFF;
+      hex[2 * i] = HEX_ARRAY[v >>> 4];
+      hex[2 * i + 1] = HEX_ARRAY[v & 0x0F];
+    }
+    return new String(hex);
   }
 
   private Hexadecimals() {}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.util;
+
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.assertj.core.configuration.Configuration;
+
+/**
+ * Compiles regexes through a bounded cache shared by the regex based assertions, so that assertions run many times with the
+ * same regexes (typically in parameterized tests) don't compile them again and again.
+ * <p>
+ * The cache is thread-safe and evicts the least recently used patterns once it holds more than
+ * {@link #getMaxCachedPatterns()} patterns, see {@link Configuration#setMaxCachedPatterns(int)} to change that limit.
+ *
+ * @since 4.0.0
+ */
+public final class Patterns {
+
+  private static final Map<Key, Pattern> CACHE = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Key, Pattern> eldest) {
+      return size() > maxCachedPatterns;
+    }
+  };
+
+  private static int maxCachedPatterns = Configuration.MAX_CACHED_PATTERNS;
+
+  /**
+   * Returns the compiled pattern of the given regex, compiling it only if it is not already cached.
+   *
+   * @param regex the regex to compile
+   * @return the compiled pattern
+   * @throws java.util.regex.PatternSyntaxException if the regex syntax is invalid
+   */
+  public static Pattern compile(String regex) {
+    return compile(regex, 0);
+  }
+
+  /**
+   * Returns the compiled pattern of the given regex with the given flags, compiling it only if it is not already cached.
+   *
+   * @param regex the regex to compile
+   * @param flags the match flags, see {@link Pattern#compile(String, int)}
+   * @return the compiled pattern
+   * @throws java.util.regex.PatternSyntaxException if the regex syntax is invalid
+   */
+  public static Pattern compile(String regex, int flags) {
+    Key key = new Key(regex, flags);
+    synchronized (CACHE) {
+      Pattern pattern = CACHE.get(key);
+      if (pattern != null) return pattern;
+    }
+    // compile outside the lock, two threads compiling the same regex at the same time is harmless
+    Pattern pattern = Pattern.compile(regex, flags);
+    synchronized (CACHE) {
+      if (maxCachedPatterns > 0) CACHE.putIfAbsent(key, pattern);
+    }
+    return pattern;
+  }
+
+  /**
+   * Returns the maximum number of compiled patterns kept in the cache.
+   *
+   * @return the maximum number of compiled patterns kept in the cache.
+   */
+  public static int getMaxCachedPatterns() {
+    return maxCachedPatterns;
+  }
+
+  /**
+   * Sets the maximum number of compiled patterns kept in the cache, 0 disables the cache.
+   * <p>
+   * The least recently used patterns are evicted if the cache holds more patterns than the new limit.
+   *
+   * @param maxCachedPatterns the maximum number of compiled patterns to keep, must be &gt;= 0.
+   */
+  public static void setMaxCachedPatterns(int maxCachedPatterns) {
+    checkArgument(maxCachedPatterns >= 0, "maxCachedPatterns must be >= 0, but was %s", maxCachedPatterns);
+    synchronized (CACHE) {
+      Patterns.maxCachedPatterns = maxCachedPatterns;
+      var eldestFirst = CACHE.keySet().iterator();
+      while (CACHE.size() > maxCachedPatterns) {
+        eldestFirst.next();
+        eldestFirst.remove();
+      }
+    }
+  }
+
+  private record Key(String regex, int flags) {
+  }
+
+  private Patterns() {}
+}
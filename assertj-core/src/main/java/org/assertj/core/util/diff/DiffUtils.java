@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.assertj.core.util.diff.myers.LinearSpaceMyersDiff;
 import org.assertj.core.util.diff.myers.MyersDiff;
 
 /**
@@ -41,7 +42,10 @@ public class DiffUtils {
 
   /**
    * Computes the difference between the original and revised list of elements
-   * with default diff algorithm
+   * with default diff algorithm, {@link MyersDiff}.
+   * <p>
+   * {@link MyersDiff} allocates path nodes for each explored difference, for large lists with many differences use
+   * {@link #diff(List, List, DiffAlgorithm)} with {@link LinearSpaceMyersDiff} whose memory doesn't grow with them.
    *
    * @param <T> the type of elements.
    * @param original
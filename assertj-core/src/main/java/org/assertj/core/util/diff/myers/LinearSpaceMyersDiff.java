@@ -0,0 +1,100 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.util.diff.myers;
+
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.internal.LinearSpaceMyersSearch;
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
+import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.DiffAlgorithm;
+import org.assertj.core.util.diff.InsertDelta;
+import org.assertj.core.util.diff.Patch;
+
+/**
+ * The linear space refinement of the Myers differencing algorithm, described in the section 4b of the same
+ * <a href="http://www.cs.arizona.edu/people/gene/PAPERS/diff.ps">paper</a>.
+ * <p>
+ * {@link MyersDiff} keeps a path node per explored diagonal and step, that is {@code O(D²)} nodes for D differences on top
+ * of an {@code O(N+M)} array for sequences of sizes N and M. This variant only keeps the furthest reaching x per diagonal:
+ * it searches an optimal path forward from the start and backward from the end until they overlap, then divides the problem
+ * in two at that middle point and conquers each half the same way. It takes {@code O(N+M)} space and {@code O((N+M)D)} time
+ * like {@link MyersDiff}, the produced patch has the same number of changed elements, with equally minimal but possibly
+ * differently aligned deltas.
+ * <p>
+ * {@link org.assertj.core.util.diff.DiffUtils#diff(List, List) DiffUtils.diff(List, List)} uses {@link MyersDiff}, pass this
+ * algorithm to {@link org.assertj.core.util.diff.DiffUtils#diff(List, List, DiffAlgorithm)} to use it instead.
+ *
+ * @param <T> The type of the compared elements in the 'lines'.
+ * @since 4.0.0
+ */
+public class LinearSpaceMyersDiff<T> implements DiffAlgorithm<T> {
+
+  /**
+   * Constructs an instance of the linear space Myers differencing algorithm.
+   */
+  public LinearSpaceMyersDiff() {}
+
+  @Override
+  public Patch<T> diff(List<T> original, List<T> revised) {
+    checkArgument(original != null, "original list must not be null");
+    checkArgument(revised != null, "revised list must not be null");
+    Object[] originalElements = original.toArray();
+    Object[] revisedElements = revised.toArray();
+    PatchBuilder patchBuilder = new PatchBuilder(original, revised);
+    LinearSpaceMyersSearch.match(originalElements.length, revisedElements.length,
+                                 (x, y) -> originalElements[x].equals(revisedElements[y]), () -> false, patchBuilder::match);
+    // the end of both sequences closes the last delta
+    patchBuilder.match(originalElements.length, revisedElements.length);
+    return patchBuilder.patch;
+  }
+
+  private final class PatchBuilder {
+
+    private final List<T> original;
+    private final List<T> revised;
+    private final Patch<T> patch = new Patch<>();
+    // end of the last matching elements
+    private int originalEnd;
+    private int revisedEnd;
+
+    private PatchBuilder(List<T> original, List<T> revised) {
+      this.original = original;
+      this.revised = revised;
+    }
+
+    // reports matching elements, adding a delta for the elements in between the previous matching ones and these
+    private void match(int x, int y) {
+      if (x > originalEnd || y > revisedEnd) {
+        Chunk<T> originalChunk = new Chunk<>(originalEnd, new ArrayList<>(original.subList(originalEnd, x)));
+        Chunk<T> revisedChunk = new Chunk<>(revisedEnd, new ArrayList<>(revised.subList(revisedEnd, y)));
+        Delta<T> delta;
+        if (originalChunk.size() == 0) delta = new InsertDelta<>(originalChunk, revisedChunk);
+        else if (revisedChunk.size() == 0) delta = new DeleteDelta<>(originalChunk, revisedChunk);
+        else delta = new ChangeDelta<>(originalChunk, revisedChunk);
+        patch.addDelta(delta);
+      }
+      originalEnd = x + 1;
+      revisedEnd = y + 1;
+    }
+  }
+
+}
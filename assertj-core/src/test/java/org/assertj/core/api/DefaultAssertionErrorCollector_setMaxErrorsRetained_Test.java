@@ -0,0 +1,118 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.catchIllegalArgumentException;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class DefaultAssertionErrorCollector_setMaxErrorsRetained_Test {
+
+  @Test
+  void should_retain_all_errors_by_default() {
+    // GIVEN
+    var collector = new DefaultAssertionErrorCollector();
+    // WHEN
+    IntStream.range(0, 1000).forEach(i -> collector.collectAssertionError(errorAt("should_validate", 42)));
+    // THEN
+    then(collector.assertionErrorsCollected()).hasSize(1000);
+  }
+
+  @Test
+  void should_only_retain_the_first_errors_and_count_the_others_by_site() {
+    // GIVEN
+    var collector = new DefaultAssertionErrorCollector();
+    collector.setMaxErrorsRetained(2);
+    AssertionError first = errorAt("should_validate", 42);
+    AssertionError second = errorAt("should_validate", 42);
+    // WHEN
+    collector.collectAssertionError(first);
+    collector.collectAssertionError(second);
+    IntStream.range(0, 3).forEach(i -> collector.collectAssertionError(errorAt("should_validate", 42)));
+    collector.collectAssertionError(errorAt("should_parse", 7));
+    // THEN
+    List<AssertionError> errors = collector.assertionErrorsCollected();
+    then(errors).hasSize(3)
+                .startsWith(first, second);
+    then(errors.get(2)).hasMessage(format("4 more similar failures were not retained (maxErrorsRetained = 2):%n" +
+                                          "- 1 at org.example.RecordsTest.should_parse(RecordsTest.java:7)%n" +
+                                          "- 3 at org.example.RecordsTest.should_validate(RecordsTest.java:42)"));
+  }
+
+  @Test
+  void should_notify_callbacks_of_errors_not_retained() {
+    // GIVEN
+    var collector = new DefaultAssertionErrorCollector();
+    collector.setMaxErrorsRetained(1);
+    AtomicInteger callbackCalls = new AtomicInteger();
+    collector.addAfterAssertionErrorCollected(error -> callbackCalls.incrementAndGet());
+    // WHEN
+    IntStream.range(0, 5).forEach(i -> collector.collectAssertionError(errorAt("should_validate", 42)));
+    // THEN
+    then(callbackCalls).hasValue(5);
+  }
+
+  @Test
+  void should_collect_errors_concurrently() {
+    // GIVEN
+    var collector = new DefaultAssertionErrorCollector();
+    collector.setMaxErrorsRetained(10);
+    // WHEN
+    IntStream.range(0, 10_000).parallel().forEach(i -> collector.collectAssertionError(errorAt("should_validate", i % 2)));
+    // THEN
+    List<AssertionError> errors = collector.assertionErrorsCollected();
+    then(errors).hasSize(11);
+    then(errors.get(10)).hasMessageStartingWith("9990 more similar failures were not retained (maxErrorsRetained = 10)");
+  }
+
+  @Test
+  void should_report_errors_not_retained_in_assertAll() {
+    // GIVEN
+    SoftAssertions softly = SoftAssertions.withMaxErrorsRetained(1);
+    softly.fail("boom");
+    softly.fail("boom");
+    softly.fail("boom");
+    // WHEN
+    Throwable error = catchThrowable(softly::assertAll);
+    // THEN
+    then(softly.errorsCollected()).hasSize(2);
+    then(error).hasMessageContaining("2 more similar failures were not retained (maxErrorsRetained = 1)");
+  }
+
+  @Test
+  void should_fail_if_max_errors_retained_is_negative() {
+    // GIVEN
+    var collector = new DefaultAssertionErrorCollector();
+    // WHEN
+    var exception = catchIllegalArgumentException(() -> collector.setMaxErrorsRetained(-1));
+    // THEN
+    then(exception).hasMessage("maxErrorsRetained must be >= 0, but was -1");
+  }
+
+  private static AssertionError errorAt(String testMethod, int lineNumber) {
+    AssertionError error = new AssertionError("boom");
+    error.setStackTrace(new StackTraceElement[] {
+        new StackTraceElement("org.example.RecordsTest", testMethod, "RecordsTest.java", lineNumber) });
+    return error;
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api.charsequence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+
+import org.junit.jupiter.api.Test;
+
+class CharSequenceAssert_lines_Test {
+
+  @Test
+  void should_navigate_to_the_lines_of_actual() {
+    // GIVEN
+    CharSequence actual = new StringBuilder("INFO starting\r\nWARN low memory\nINFO started");
+    // WHEN/THEN
+    then(actual).lines()
+                .hasSize(3)
+                .anyMatch(line -> line.startsWith("WARN"))
+                .element(2)
+                .isEqualTo("INFO started");
+  }
+
+  @Test
+  void should_navigate_to_an_element_without_locating_the_lines_after_it() {
+    // GIVEN
+    HugeText actual = new HugeText();
+    // WHEN
+    then(actual).lines().element(1000).isEqualTo("line");
+    // THEN
+    then(actual.lastReadIndex).isLessThan(1002 * "line\n".length());
+  }
+
+  @Test
+  void should_navigate_to_no_lines_if_actual_is_empty() {
+    then("").lines().isEmpty();
+  }
+
+  @Test
+  void should_fail_if_actual_is_null() {
+    // GIVEN
+    CharSequence actual = null;
+    // WHEN
+    var assertionError = expectAssertionError(() -> assertThat(actual).lines());
+    // THEN
+    then(assertionError).hasMessage(actualIsNull());
+  }
+
+  // "line\n" repeated up to Integer.MAX_VALUE chars, counting the lines would read them all
+  private static class HugeText implements CharSequence {
+
+    private int lastReadIndex;
+
+    @Override
+    public int length() {
+      return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public char charAt(int index) {
+      lastReadIndex = Math.max(lastReadIndex, index);
+      return "line\n".charAt(index % 5);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+      StringBuilder subSequence = new StringBuilder();
+      for (int i = start; i < end; i++) {
+        subSequence.append(charAt(i));
+      }
+      return subSequence;
+    }
+  }
+
+}
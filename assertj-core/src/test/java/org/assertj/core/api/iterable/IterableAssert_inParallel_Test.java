@@ -0,0 +1,138 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api.iterable;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class IterableAssert_inParallel_Test {
+
+  private final List<Integer> actual = IntStream.range(0, 10_000).boxed().collect(toList());
+  private final ForkJoinPool pool = new ForkJoinPool(4);
+
+  @AfterEach
+  void shutdownPool() {
+    pool.shutdownNow();
+  }
+
+  @Test
+  void should_fail_if_pool_is_null() {
+    assertThatNullPointerException().isThrownBy(() -> assertThat(actual).inParallel(null))
+                                    .withMessage("The ForkJoinPool should not be null");
+  }
+
+  @Test
+  void allSatisfy_should_evaluate_elements_in_the_given_pool() {
+    // GIVEN
+    Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    // WHEN
+    assertThat(actual).inParallel(pool)
+                      .allSatisfy(element -> threads.add(Thread.currentThread()));
+    // THEN
+    then(threads).isNotEmpty()
+                 .allMatch(thread -> thread instanceof ForkJoinWorkerThread worker && worker.getPool() == pool);
+  }
+
+  @Test
+  void allSatisfy_should_report_unsatisfied_elements_in_iterable_order() {
+    // WHEN
+    var assertionError = expectAssertionError(() -> assertThat(actual).inParallel(pool)
+                                                                      .allSatisfy(element -> assertThat(element % 5000).isNotZero()));
+    // THEN
+    String message = assertionError.getMessage();
+    then(message.indexOf("%n0%nerror".formatted())).isNotNegative()
+                                                  .isLessThan(message.indexOf("%n5000%nerror".formatted()));
+  }
+
+  @Test
+  void allMatch_and_noneMatch_should_pass_in_parallel() {
+    assertThat(actual).inParallel()
+                      .allMatch(element -> element >= 0)
+                      .noneMatch(element -> element < 0);
+  }
+
+  @Test
+  void noneMatch_should_report_the_first_matching_element_in_iterable_order() {
+    // WHEN
+    var assertionError = expectAssertionError(() -> assertThat(actual).inParallel(pool)
+                                                                      .noneMatch(element -> element >= 1234));
+    // THEN
+    then(assertionError).hasMessageContaining("but this element did:%n  1234".formatted());
+  }
+
+  @Test
+  void filteredOn_extracting_and_flatExtracting_should_keep_iterable_order() {
+    assertThat(actual).inParallel(pool)
+                      .filteredOn(element -> element % 2 == 0)
+                      .hasSize(5000)
+                      .startsWith(0, 2, 4)
+                      .extracting(element -> element + 1)
+                      .startsWith(1, 3, 5)
+                      .flatExtracting(element -> List.of(element, element))
+                      .startsWith(1, 1, 3, 3)
+                      .endsWith(9999, 9999);
+  }
+
+  @Test
+  void filteredOnAssertions_should_keep_iterable_order() {
+    assertThat(actual).inParallel(pool)
+                      .filteredOnAssertions(element -> assertThat(element).isGreaterThan(9996))
+                      .containsExactly(9997, 9998, 9999);
+  }
+
+  @Test
+  void should_keep_parallel_execution_when_changing_element_comparator() {
+    // GIVEN
+    Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    // WHEN
+    assertThat(actual).inParallel(pool)
+                      .usingElementComparator(Integer::compare)
+                      .allSatisfy(element -> threads.add(Thread.currentThread()));
+    // THEN
+    then(threads).doesNotContain(Thread.currentThread());
+  }
+
+  @Test
+  void should_keep_parallel_execution_after_filtering_by_property_name() {
+    // GIVEN
+    List<Element> elements = actual.stream().map(Element::new).toList();
+    Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    // WHEN
+    assertThat(elements).inParallel(pool)
+                        .filteredOn("value", 42)
+                        .extracting(element -> threads.add(Thread.currentThread()));
+    // THEN
+    then(threads).isNotEmpty()
+                 .allMatch(thread -> thread instanceof ForkJoinWorkerThread worker && worker.getPool() == pool);
+  }
+
+  record Element(int value) {
+  }
+
+}
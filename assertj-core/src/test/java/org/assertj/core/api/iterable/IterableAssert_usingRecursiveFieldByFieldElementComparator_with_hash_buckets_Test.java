@@ -0,0 +1,168 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api.iterable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.List;
+
+import org.assertj.core.api.ListAssert;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
+import org.assertj.core.internal.ConfigurableRecursiveFieldByFieldComparator;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that comparing only elements with the same structural hash gives the same results as comparing all elements,
+ * the reference results are computed with a comparator subclass for which no structural hash is provided.
+ */
+class IterableAssert_usingRecursiveFieldByFieldElementComparator_with_hash_buckets_Test {
+
+  private final RecursiveComparisonConfiguration configuration = new RecursiveComparisonConfiguration();
+
+  // actual elements have more fields than the expected ones, the comparison is not symmetrical.
+  private final List<Object> actual = list(new Person("Jack", 1), new Person("Jack", 2), new Person("John", 3), null,
+                                           new Person("Jane", 4));
+  private final Object[] expected = { new PersonDto("Jack"), new PersonDto("Jim"), null, new PersonDto("John"),
+      new PersonDto("Jack"), new PersonDto("John") };
+
+  @Test
+  void containsOnly_should_report_the_same_errors_with_hash_buckets() {
+    // GIVEN
+    configuration.ignoreFields("id");
+    // WHEN
+    AssertionError errorWithBuckets = expectAssertionError(() -> assertWithBuckets().containsOnly(expected));
+    AssertionError errorWithoutBuckets = expectAssertionError(() -> assertWithoutBuckets().containsOnly(expected));
+    // THEN
+    then(errorWithBuckets).hasMessage(errorWithoutBuckets.getMessage());
+  }
+
+  @Test
+  void containsExactlyInAnyOrder_should_report_the_same_errors_with_hash_buckets() {
+    // GIVEN
+    configuration.ignoreFields("id");
+    // WHEN
+    AssertionError errorWithBuckets = expectAssertionError(() -> assertWithBuckets().containsExactlyInAnyOrder(expected));
+    AssertionError errorWithoutBuckets = expectAssertionError(() -> assertWithoutBuckets().containsExactlyInAnyOrder(expected));
+    // THEN
+    then(errorWithBuckets).hasMessage(errorWithoutBuckets.getMessage());
+  }
+
+  @Test
+  void containsExactly_should_report_the_same_errors_with_hash_buckets() {
+    // GIVEN
+    configuration.ignoreFields("id");
+    // WHEN
+    AssertionError errorWithBuckets = expectAssertionError(() -> assertWithBuckets().containsExactly(expected));
+    AssertionError errorWithoutBuckets = expectAssertionError(() -> assertWithoutBuckets().containsExactly(expected));
+    // THEN
+    then(errorWithBuckets).hasMessage(errorWithoutBuckets.getMessage());
+  }
+
+  @Test
+  void should_pass_when_elements_only_match_within_their_hash_bucket() {
+    // GIVEN
+    configuration.ignoreFields("id");
+    List<Object> people = list(new Person("Jack", 1), new Person("John", 2), new Person("Jack", 3));
+    // WHEN/THEN
+    assertThat(people).usingRecursiveFieldByFieldElementComparator(configuration)
+                      .containsOnly(new PersonDto("John"), new PersonDto("Jack"))
+                      .containsExactlyInAnyOrder(new PersonDto("Jack"), new PersonDto("Jack"), new PersonDto("John"))
+                      .containsExactly(new PersonDto("Jack"), new PersonDto("John"), new PersonDto("Jack"));
+  }
+
+  @Test
+  void should_pass_when_element_fields_are_equal_with_their_overridden_equals() {
+    // GIVEN
+    configuration.useOverriddenEquals();
+    List<Order> orders = list(new Order("1", new Product("A", "apple")), new Order("2", new Product("B", "banana")));
+    // WHEN/THEN
+    assertThat(orders).usingRecursiveFieldByFieldElementComparator(configuration)
+                      .containsOnly(new Order("2", new Product("B", "BANANA")), new Order("1", new Product("A", "APPLE")))
+                      .containsExactlyInAnyOrder(new Order("2", new Product("B", "Banana")),
+                                                 new Order("1", new Product("A", "Apple")));
+  }
+
+  private ListAssert<Object> assertWithBuckets() {
+    return assertThat(actual).usingElementComparator(new ConfigurableRecursiveFieldByFieldComparator(configuration));
+  }
+
+  private ListAssert<Object> assertWithoutBuckets() {
+    return assertThat(actual).usingElementComparator(new ConfigurableRecursiveFieldByFieldComparator(configuration) {});
+  }
+
+  static class Person {
+    String name;
+    int id;
+
+    Person(String name, int id) {
+      this.name = name;
+      this.id = id;
+    }
+
+    @Override
+    public String toString() {
+      return "Person[%s, %s]".formatted(name, id);
+    }
+  }
+
+  static class PersonDto {
+    String name;
+
+    PersonDto(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public String toString() {
+      return "PersonDto[%s]".formatted(name);
+    }
+  }
+
+  static class Product {
+    String code;
+    String name;
+
+    Product(String code, String name) {
+      this.code = code;
+      this.name = name;
+    }
+
+    // only compares codes
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof Product product && code.equals(product.code);
+    }
+
+    @Override
+    public int hashCode() {
+      return code.hashCode();
+    }
+  }
+
+  static class Order {
+    String reference;
+    Product product;
+
+    Order(String reference, Product product) {
+      this.reference = reference;
+      this.product = product;
+    }
+  }
+
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api.path;
+
+import static java.nio.file.Files.createDirectories;
+import static java.nio.file.Files.createDirectory;
+import static java.nio.file.Files.writeString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldBeDirectory.shouldBeDirectory;
+import static org.assertj.core.error.ShouldHaveSameTree.shouldHaveSameTree;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PathAssert_hasSameTreeAs_Test {
+
+  @TempDir
+  Path tempDir;
+
+  private Path actual;
+  private Path expected;
+
+  @BeforeEach
+  void createTrees() throws IOException {
+    actual = createTree(tempDir.resolve("actual"));
+    expected = createTree(tempDir.resolve("expected"));
+  }
+
+  private static Path createTree(Path root) throws IOException {
+    writeString(createDirectories(root.resolve("foo")).resolve("foo.txt"), "foo");
+    writeString(root.resolve("bar.txt"), "bar");
+    writeString(root.resolve("empty.txt"), "");
+    createDirectory(root.resolve("baz"));
+    return root;
+  }
+
+  @Test
+  void should_pass_if_actual_has_the_same_tree_as_expected() {
+    assertThat(actual).hasSameTreeAs(expected);
+  }
+
+  @Test
+  void should_pass_comparing_file_contents_in_the_given_pool() {
+    // GIVEN
+    ForkJoinPool pool = new ForkJoinPool(2);
+    // WHEN/THEN
+    try {
+      assertThat(actual).inParallel(pool)
+                        .hasSameTreeAs(expected);
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  @Test
+  void should_fail_if_expected_is_null() {
+    assertThatNullPointerException().isThrownBy(() -> assertThat(actual).hasSameTreeAs(null))
+                                    .withMessage("The given Path to compare actual tree to should not be null");
+  }
+
+  @Test
+  void should_fail_if_expected_is_not_a_directory() {
+    // GIVEN
+    Path file = expected.resolve("bar.txt");
+    // WHEN
+    Throwable thrown = catchThrowable(() -> assertThat(actual).hasSameTreeAs(file));
+    // THEN
+    then(thrown).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The given Path <%s> to compare actual tree to should be an existing directory", file);
+  }
+
+  @Test
+  void should_fail_if_actual_is_not_a_directory() {
+    // GIVEN
+    Path file = actual.resolve("bar.txt");
+    // WHEN
+    var assertionError = expectAssertionError(() -> assertThat(file).hasSameTreeAs(expected));
+    // THEN
+    then(assertionError).hasMessage(shouldBeDirectory(file).create());
+  }
+
+  @Test
+  void should_fail_reporting_missing_unexpected_and_differing_entries() throws IOException {
+    // GIVEN
+    writeString(actual.resolve("foo").resolve("foo.txt"), "FOO");
+    writeString(actual.resolve("bar.txt"), "bar bar");
+    writeString(actual.resolve("qux.txt"), "qux");
+    writeString(expected.resolve("quux.txt"), "quux");
+    writeString(expected.resolve("baz").resolve("baz.txt"), "baz");
+    // WHEN
+    var assertionError = expectAssertionError(() -> assertThat(actual).hasSameTreeAs(expected));
+    // THEN
+    then(assertionError).hasMessage(shouldHaveSameTree(actual, expected,
+                                                       List.of(Path.of("baz", "baz.txt"), Path.of("quux.txt")),
+                                                       List.of(Path.of("qux.txt")),
+                                                       List.of(Path.of("bar.txt"), Path.of("foo", "foo.txt"))).create());
+  }
+
+  @Test
+  void should_fail_reporting_differing_files_compared_in_the_given_pool() throws IOException {
+    // GIVEN
+    writeString(actual.resolve("foo").resolve("foo.txt"), "FOO");
+    writeString(actual.resolve("bar.txt"), "BAR");
+    ForkJoinPool pool = new ForkJoinPool(2);
+    // WHEN
+    AssertionError assertionError;
+    try {
+      assertionError = expectAssertionError(() -> assertThat(actual).inParallel(pool).hasSameTreeAs(expected));
+    } finally {
+      pool.shutdownNow();
+    }
+    // THEN
+    then(assertionError).hasMessage(shouldHaveSameTree(actual, expected, List.of(), List.of(),
+                                                       List.of(Path.of("bar.txt"), Path.of("foo", "foo.txt"))).create());
+  }
+
+  @Test
+  void should_fail_if_an_entry_has_a_different_type() throws IOException {
+    // GIVEN
+    createDirectory(actual.resolve("qux"));
+    writeString(expected.resolve("qux"), "");
+    // WHEN
+    var assertionError = expectAssertionError(() -> assertThat(actual).hasSameTreeAs(expected));
+    // THEN
+    then(assertionError).hasMessage(shouldHaveSameTree(actual, expected, List.of(), List.of(),
+                                                       List.of(Path.of("qux"))).create());
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api.path;
+
+import static java.nio.file.Files.createDirectories;
+import static java.nio.file.Files.createFile;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PathAssert_inParallel_Test {
+
+  private final ForkJoinPool pool = new ForkJoinPool(4);
+
+  @TempDir
+  Path tempDir;
+
+  @BeforeEach
+  void createTree() throws IOException {
+    for (int i = 0; i < 10; i++) {
+      createFile(createDirectories(tempDir.resolve("dir-" + i)).resolve("file-" + i + ".txt"));
+    }
+  }
+
+  @AfterEach
+  void shutdownPool() {
+    pool.shutdownNow();
+  }
+
+  @Test
+  void should_fail_if_pool_is_null() {
+    assertThatNullPointerException().isThrownBy(() -> assertThat(tempDir).inParallel(null))
+                                    .withMessage("The ForkJoinPool should not be null");
+  }
+
+  @Test
+  void isDirectoryRecursivelyContaining_should_scan_the_directory_tree_in_the_given_pool() {
+    // GIVEN
+    Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    // WHEN
+    assertThat(tempDir).inParallel(pool)
+                       .isDirectoryRecursivelyContaining(path -> {
+                         threads.add(Thread.currentThread());
+                         return path.endsWith("file-9.txt");
+                       });
+    // THEN
+    then(threads).isNotEmpty()
+                 .allMatch(thread -> thread instanceof ForkJoinWorkerThread worker && worker.getPool() == pool);
+  }
+
+  @Test
+  void isDirectoryRecursivelyContaining_should_pass_in_parallel() {
+    assertThat(tempDir).inParallel()
+                       .isDirectoryRecursivelyContaining("glob:**file-5.txt")
+                       .isDirectoryRecursivelyContaining(path -> path.endsWith("dir-3"));
+  }
+
+  @Test
+  void isDirectoryRecursivelyContaining_should_fail_in_parallel_if_no_path_matches() {
+    // WHEN
+    var assertionError = expectAssertionError(() -> assertThat(tempDir).inParallel(pool)
+                                                                       .isDirectoryRecursivelyContaining("glob:**.java"));
+    // THEN
+    then(assertionError).hasMessageContaining("to contain at least one file matching \"the 'glob:**.java' pattern\"");
+  }
+}
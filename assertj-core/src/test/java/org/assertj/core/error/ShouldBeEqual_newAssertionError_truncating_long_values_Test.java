@@ -0,0 +1,112 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.error;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.catchIllegalArgumentException;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldBeEqual.shouldBeEqual;
+import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
+
+import org.assertj.core.configuration.Configuration;
+import org.assertj.core.internal.TestDescription;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+/**
+ * Tests for <code>{@link ShouldBeEqual#toAssertionError(org.assertj.core.description.Description,
+ * org.assertj.core.presentation.Representation)}</code> when values are longer than {@link ShouldBeEqual#getMaxValueLength()}.
+ */
+class ShouldBeEqual_newAssertionError_truncating_long_values_Test {
+
+  @AfterEach
+  void tearDown() {
+    ShouldBeEqual.setMaxValueLength(Configuration.MAX_LENGTH_FOR_EQUALITY_ERROR_VALUES);
+  }
+
+  @Test
+  void should_only_show_values_around_their_first_difference() {
+    // GIVEN
+    ShouldBeEqual.setMaxValueLength(20);
+    String actual = "a".repeat(100) + "b" + "c".repeat(99);
+    String expected = "a".repeat(100) + "d" + "c".repeat(99);
+    var shouldBeEqual = shouldBeEqual(actual, expected, STANDARD_REPRESENTATION);
+    // WHEN
+    var assertionError = shouldBeEqual.toAssertionError(new TestDescription("Jedi"), STANDARD_REPRESENTATION);
+    // THEN
+    then(assertionError).hasMessage(format("[Jedi] %n" +
+                                           "expected: ...aaaaadcccccccccccccc...%n" +
+                                           " but was: ...aaaaabcccccccccccccc...%n" +
+                                           "(values truncated to 20 characters around their first difference at index 101)"));
+  }
+
+  @Test
+  void should_show_the_start_of_values_differing_early() {
+    // GIVEN
+    ShouldBeEqual.setMaxValueLength(10);
+    String actual = "ab" + "c".repeat(50);
+    String expected = "ad" + "c".repeat(50);
+    var shouldBeEqual = shouldBeEqual(actual, expected, STANDARD_REPRESENTATION);
+    // WHEN
+    var assertionError = shouldBeEqual.toAssertionError(new TestDescription("Jedi"), STANDARD_REPRESENTATION);
+    // THEN
+    then(assertionError).hasMessage(format("[Jedi] %n" +
+                                           "expected: \"adccccccc...%n" +
+                                           " but was: \"abccccccc...%n" +
+                                           "(values truncated to 10 characters around their first difference at index 2)"));
+  }
+
+  @Test
+  void should_show_where_the_shorter_value_ends() {
+    // GIVEN
+    ShouldBeEqual.setMaxValueLength(8);
+    String actual = "a".repeat(30);
+    String expected = "a".repeat(20);
+    var shouldBeEqual = shouldBeEqual(actual, expected, STANDARD_REPRESENTATION);
+    // WHEN
+    var assertionError = shouldBeEqual.toAssertionError(new TestDescription("Jedi"), STANDARD_REPRESENTATION);
+    // THEN
+    then(assertionError).hasMessage(format("[Jedi] %n" +
+                                           "expected: ...aa\"%n" +
+                                           " but was: ...aaaaaaaa...%n" +
+                                           "(values truncated to 8 characters around their first difference at index 21)"));
+  }
+
+  @Test
+  void should_keep_full_values_in_AssertionFailedError_for_IDE_diffs() {
+    // GIVEN
+    ShouldBeEqual.setMaxValueLength(10);
+    String actual = "a".repeat(100) + "b";
+    String expected = "a".repeat(100) + "d";
+    var shouldBeEqual = shouldBeEqual(actual, expected, STANDARD_REPRESENTATION);
+    // WHEN
+    var assertionError = shouldBeEqual.toAssertionError(new TestDescription("Jedi"), STANDARD_REPRESENTATION);
+    // THEN
+    then(assertionError).isInstanceOfSatisfying(AssertionFailedError.class, error -> {
+      then(error.getActual().getValue()).isEqualTo("\"" + actual + "\"");
+      then(error.getExpected().getValue()).isEqualTo("\"" + expected + "\"");
+    });
+  }
+
+  @Test
+  void should_fail_if_max_value_length_is_less_than_one() {
+    // WHEN
+    var exception = catchIllegalArgumentException(() -> ShouldBeEqual.setMaxValueLength(0));
+    // THEN
+    then(exception).hasMessage("maxValueLength must be >= 1, but was 0");
+  }
+}
@@ -45,4 +45,23 @@ class ShouldHaveBinaryContent_create_Test {
                                  actual);
   }
 
+  @Test
+  void should_create_error_message_with_an_offset_larger_than_an_int() {
+    // GIVEN
+    InputStream actual = new ByteArrayInputStream(new byte[] { 1, 3 });
+    BinaryDiffResult diff = new BinaryDiffResult(5_000_000_000L, 11, -1);
+    // WHEN
+    String errorMessage = shouldHaveBinaryContent(actual, diff).create(new TestDescription("TEST"));
+    // THEN
+    then(diff.offset).isEqualTo(Integer.MAX_VALUE);
+    then(errorMessage).isEqualTo("[TEST] %n"
+                                 + "InputStream%n"
+                                 + "  %s%n"
+                                 + "does not have expected binary content at offset 5000000000, expecting:%n"
+                                 + "  \"0xB\"%n"
+                                 + "but was:%n"
+                                 + "  \"EOF\"",
+                                 actual);
+  }
+
 }
@@ -71,4 +71,27 @@ class ShouldHaveSameSizeAs_create_Test {
                                    "Expected was:%n" +
                                    "  ['0x0061', '0x0062', '0x0063', '0x0064']"));
   }
+
+  @Test
+  void should_only_represent_the_rows_around_the_first_missing_one() {
+    // GIVEN
+    int[][] actual = new int[100][2];
+    int[][] expected = new int[50][2];
+    // WHEN
+    String message = shouldHaveSameSizeAs(STANDARD_REPRESENTATION, actual, expected).create(new TextDescription("Test"),
+                                                                                             STANDARD_REPRESENTATION);
+    // THEN
+    then(message).startsWith(format("[Test] %n" +
+                                    "Actual and expected should have same size but actual size is:%n" +
+                                    "  100%n" +
+                                    "while expected size is:%n" +
+                                    "  50%n" +
+                                    "Actual was:%n" +
+                                    "  [...,%n" +
+                                    "    [0, 0],%n"))
+                 .endsWith(format("    [0, 0],%n" +
+                                  "    [0, 0]]"));
+    // 11 rows and the ellipses before and after them for actual, 11 rows and the ellipsis before them for expected
+    then(message.lines()).hasSize(7 + 13 + 12);
+  }
 }
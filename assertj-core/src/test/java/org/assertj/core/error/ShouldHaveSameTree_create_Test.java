@@ -0,0 +1,72 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.error;
+
+import static java.lang.String.format;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldHaveSameTree.shouldHaveSameTree;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.assertj.core.description.TextDescription;
+import org.junit.jupiter.api.Test;
+
+class ShouldHaveSameTree_create_Test {
+
+  private static final Path ACTUAL = Path.of("actual");
+  private static final Path EXPECTED = Path.of("expected");
+
+  @Test
+  void should_create_error_message_listing_all_kinds_of_differences() {
+    // GIVEN
+    ErrorMessageFactory factory = shouldHaveSameTree(ACTUAL, EXPECTED, List.of(Path.of("a"), Path.of("b")),
+                                                     List.of(Path.of("c")), List.of(Path.of("d")));
+    // WHEN
+    String message = factory.create(new TextDescription("Test"));
+    // THEN
+    then(message).isEqualTo(format("[Test] %n" +
+                                   "Expecting directory:%n" +
+                                   "  actual%n" +
+                                   "to have the same tree as:%n" +
+                                   "  expected%n" +
+                                   "but:%n" +
+                                   "- these entries were missing:%n" +
+                                   "  [a, b]%n" +
+                                   "- these entries were unexpected:%n" +
+                                   "  [c]%n" +
+                                   "- these entries differed (type, size or content):%n" +
+                                   "  [d]"));
+  }
+
+  @Test
+  void should_create_error_message_without_empty_sections() {
+    // GIVEN
+    ErrorMessageFactory factory = shouldHaveSameTree(ACTUAL, EXPECTED, emptyList(), emptyList(), List.of(Path.of("d")));
+    // WHEN
+    String message = factory.create(new TextDescription("Test"));
+    // THEN
+    then(message).isEqualTo(format("[Test] %n" +
+                                   "Expecting directory:%n" +
+                                   "  actual%n" +
+                                   "to have the same tree as:%n" +
+                                   "  expected%n" +
+                                   "but:%n" +
+                                   "- these entries differed (type, size or content):%n" +
+                                   "  [d]"));
+  }
+}
@@ -115,4 +115,25 @@ class ShouldNotContain_create_Test {
                                    directory.resolve("foo.txt"), directory.resolve("bar.txt")));
   }
 
+  @Test
+  void should_create_error_message_for_path_directory_with_more_matching_content_than_printed() {
+    // GIVEN
+    int maxElementsForPrinting = StandardRepresentation.getMaxElementsForPrinting();
+    StandardRepresentation.setMaxElementsForPrinting(2);
+    List<Path> matchingContent = list(Path.of("foo.txt"), Path.of("bar.txt"), Path.of("baz.txt"));
+    try {
+      ErrorMessageFactory factory = directoryShouldNotContain(Path.of("root"), matchingContent, "glob:**.txt");
+      // WHEN
+      String message = factory.create(new TextDescription("Test"));
+      // THEN
+      then(message).isEqualTo(format("[Test] %n" +
+                                     "Expecting directory:%n" +
+                                     "  root%n" +
+                                     "not to contain any files matching glob:**.txt but found some:%n" +
+                                     "  [foo.txt, bar.txt, ...]"));
+    } finally {
+      StandardRepresentation.setMaxElementsForPrinting(maxElementsForPrinting);
+    }
+  }
+
 }
@@ -54,4 +54,47 @@ class SubarraysShouldHaveSameSize_create_Test {
                                    "  [[1, 2], [3], [4, 5, 6]]"));
   }
 
+  @Test
+  void should_create_the_same_error_message_from_the_arrays_when_they_fit_in_the_window() {
+    // GIVEN
+    int[][] actual = new int[][] { { 1, 2 }, { 3, 999 }, { 4, 5, 6 } };
+    int[][] expected = new int[][] { { 1, 2 }, { 3 }, { 4, 5, 6 } };
+    // WHEN
+    ErrorMessageFactory errorMessageFactory = subarraysShouldHaveSameSize(STANDARD_REPRESENTATION, actual, expected, 1);
+    // WHEN
+    String message = errorMessageFactory.create(new TextDescription("Test"), STANDARD_REPRESENTATION);
+    // THEN
+    then(message).isEqualTo(format("[Test] %n" +
+                                   "actual and expected 2d arrays should be deeply equal but rows at index 1 differ:%n" +
+                                   "actual[1] size is 2 and expected[1] is 1.%n" +
+                                   "actual[1] was:%n" +
+                                   "  [3, 999]%n" +
+                                   "expected[1] was:%n" +
+                                   "  [3]%n" +
+                                   "actual was:%n" +
+                                   "  [[1, 2], [3, 999], [4, 5, 6]]%n" +
+                                   "expected was:%n" +
+                                   "  [[1, 2], [3], [4, 5, 6]]"));
+  }
+
+  @Test
+  void should_only_represent_the_elements_around_the_end_of_the_expected_row() {
+    // GIVEN
+    int[][] actual = new int[100][100];
+    int[][] expected = new int[100][100];
+    expected[50] = new int[30];
+    // WHEN
+    ErrorMessageFactory errorMessageFactory = subarraysShouldHaveSameSize(STANDARD_REPRESENTATION, actual, expected, 50);
+    // WHEN
+    String message = errorMessageFactory.create(new TextDescription("Test"), STANDARD_REPRESENTATION);
+    // THEN
+    then(message).contains(format("actual[50] size is 100 and expected[50] is 30.%n" +
+                                  "actual[50] was:%n" +
+                                  "  [..., 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, ...]%n" +
+                                  "expected[50] was:%n" +
+                                  "  [..., 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0]%n"));
+    // 11 rows and the ellipses before and after them for both arrays
+    then(message.lines()).hasSize(9 + 2 * 13);
+  }
+
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.internal.Arrays2D.toStringAround;
+import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
+
+import org.junit.jupiter.api.Test;
+
+class Arrays2D_toStringAround_Test {
+
+  @Test
+  void should_represent_the_whole_array_when_it_fits_in_the_window() {
+    // GIVEN
+    int[][] array = { { 1, 2 }, null, { 3 } };
+    // WHEN
+    String representation = toStringAround(STANDARD_REPRESENTATION, array, 2, 0);
+    // THEN
+    then(representation).isEqualTo(STANDARD_REPRESENTATION.toStringOf(array));
+  }
+
+  @Test
+  void should_only_represent_the_elements_around_the_given_cell() {
+    // GIVEN
+    int[][] array = new int[20][20];
+    for (int i = 0; i < 20; i++) {
+      for (int j = 0; j < 20; j++) array[i][j] = j;
+    }
+    // WHEN
+    String representation = toStringAround(STANDARD_REPRESENTATION, array, 10, 8);
+    // THEN
+    String row = "[..., 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, ...]";
+    then(representation).startsWith("[...,%n    %s,%n".formatted(row))
+                        .endsWith(",%n    %s,%n    ...]".formatted(row))
+                        .contains("[..., 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, ...]");
+    then(representation.lines()).hasSize(13);
+  }
+
+  @Test
+  void should_keep_the_window_inside_the_array() {
+    // GIVEN
+    long[][] array = new long[30][];
+    for (int i = 0; i < 30; i++) array[i] = new long[] { i };
+    array[29] = new long[] { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12 };
+    // WHEN
+    String representation = toStringAround(STANDARD_REPRESENTATION, array, 29, 12);
+    // THEN
+    then(representation).startsWith("[...,%n    [19L],%n".formatted())
+                        .endsWith("[28L],%n    [..., 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L, 12L]]".formatted());
+  }
+
+}
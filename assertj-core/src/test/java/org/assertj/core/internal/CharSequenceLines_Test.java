@@ -0,0 +1,61 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class CharSequenceLines_Test {
+
+  @Test
+  void should_split_lines_like_String_lines() {
+    for (String text : List.of("", "a", "a\n", "a\n\n", "\n", "a\r\nb", "a\r", "\r\n", "a\n\rb", "\r\r\n\n")) {
+      // WHEN
+      List<String> lines = new CharSequenceLines(new StringBuilder(text));
+      // THEN
+      then(lines).as(text).isEqualTo(text.lines().toList());
+      then(lines.size()).as(text).isEqualTo(text.lines().count());
+      then(CharSequenceLines.countLines(text)).as(text).isEqualTo(text.lines().count());
+    }
+  }
+
+  @Test
+  void should_get_lines_by_index() {
+    // GIVEN
+    List<String> lines = new CharSequenceLines("Yoda\r\nLuke\rLeia\n\nHan");
+    // WHEN/THEN
+    then(lines.get(2)).isEqualTo("Leia");
+    then(lines.get(0)).isEqualTo("Yoda");
+    then(lines.get(3)).isEmpty();
+    then(lines.get(4)).isEqualTo("Han");
+  }
+
+  @Test
+  void should_fail_to_get_line_after_the_last_one() {
+    // GIVEN
+    List<String> lines = new CharSequenceLines("Yoda\nLuke\n");
+    // WHEN
+    Throwable thrown = catchThrowable(() -> lines.get(2));
+    // THEN
+    then(thrown).isInstanceOf(IndexOutOfBoundsException.class)
+                .hasMessage("Index: 2, Size: 2");
+  }
+
+}
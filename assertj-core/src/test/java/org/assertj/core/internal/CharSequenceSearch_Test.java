@@ -0,0 +1,107 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import org.junit.jupiter.api.Test;
+
+class CharSequenceSearch_Test {
+
+  @Test
+  void should_find_sequences_in_any_char_sequence() {
+    // GIVEN
+    CharSequence text = new StringBuilder("Yoda and Luke and Leia");
+    // WHEN/THEN
+    then(CharSequenceSearch.indexOf(text, "and", 0)).isEqualTo(5);
+    then(CharSequenceSearch.indexOf(text, "and", 6)).isEqualTo(14);
+    then(CharSequenceSearch.indexOf(text, "and", 15)).isEqualTo(-1);
+    then(CharSequenceSearch.startsWith(text, "Yoda")).isTrue();
+    then(CharSequenceSearch.endsWith(text, "Leia")).isTrue();
+    then(CharSequenceSearch.endsWith(text, "Luke")).isFalse();
+  }
+
+  @Test
+  void should_not_find_empty_sequence_after_the_end_of_the_text() {
+    // WHEN/THEN
+    then(CharSequenceSearch.indexOf("ab", "", 2)).isEqualTo(2);
+    then(CharSequenceSearch.indexOf("ab", "", 3)).isEqualTo(-1);
+    then(CharSequenceSearch.indexOf(new StringBuilder("ab"), "", 3)).isEqualTo(-1);
+  }
+
+  @Test
+  void should_count_overlapping_occurrences() {
+    // WHEN/THEN
+    then(CharSequenceSearch.countOccurrences(new StringBuilder("aaaa"), "aa")).isEqualTo(3);
+    then(CharSequenceSearch.countOccurrences("abc", "")).isEqualTo(4);
+    then(CharSequenceSearch.countOccurrences("abc", "d")).isZero();
+  }
+
+  @Test
+  void should_search_ignoring_case_like_lower_cased_texts() {
+    // WHEN/THEN
+    then(CharSequenceSearch.containsIgnoringCase(new StringBuilder("Hello World"), "o wOR")).isTrue();
+    then(CharSequenceSearch.startsWithIgnoringCase("Hello World", "hELLO")).isTrue();
+    then(CharSequenceSearch.endsWithIgnoringCase("Hello World", "WORLD")).isTrue();
+    // capital I with dot above is lower-cased to two chars: "i" followed by a combining dot above
+    then(CharSequenceSearch.containsIgnoringCase("\u0130stanbul", "i\u0307s")).isTrue();
+    then(CharSequenceSearch.containsIgnoringCase("\u0130stanbul", "is")).isFalse();
+  }
+
+  @Test
+  void should_ignore_newlines_but_not_single_carriage_returns() {
+    // WHEN/THEN
+    then(CharSequenceSearch.containsIgnoringNewlines(new StringBuilder("Yo\nda\r\n rocks"), "oda rock")).isTrue();
+    then(CharSequenceSearch.containsIgnoringNewlines("Yo\rda", "Yoda")).isFalse();
+    then(CharSequenceSearch.equalsIgnoringNewlines("Yo\r\nda\n", new StringBuilder("\nYoda"))).isTrue();
+    then(CharSequenceSearch.equalsIgnoringNewlines("Yo\rda", "Yoda")).isFalse();
+    then(CharSequenceSearch.equalsIgnoringNewlines("Yoda\n", "Yod")).isFalse();
+  }
+
+  @Test
+  void should_compare_texts_normalizing_newlines() {
+    // WHEN/THEN
+    then(CharSequenceSearch.equalsNormalizingNewlines("Yo\r\nda\r\r\n", new StringBuilder("Yo\nda\r\r\n"))).isTrue();
+    then(CharSequenceSearch.equalsNormalizingNewlines("Yo\rda", "Yo\nda")).isFalse();
+  }
+
+  @Test
+  void should_compare_texts_ignoring_whitespace() {
+    // WHEN/THEN
+    then(CharSequenceSearch.equalsIgnoringWhitespace(" Yo da\t", new StringBuilder("Yoda"))).isTrue();
+    then(CharSequenceSearch.equalsIgnoringWhitespace("Yo da", "Yod")).isFalse();
+  }
+
+  @Test
+  void should_compare_texts_normalizing_whitespace() {
+    // WHEN/THEN
+    then(CharSequenceSearch.equalsNormalizingWhitespace("  Yo \u00A0\t da ", new StringBuilder("Yo da"), false)).isTrue();
+    then(CharSequenceSearch.equalsNormalizingWhitespace("Yo da", "Yoda", false)).isFalse();
+    // trimming removes leading and trailing control chars too
+    then(CharSequenceSearch.equalsNormalizingWhitespace("\u0000Yoda \u0007", "Yoda", false)).isTrue();
+    then(CharSequenceSearch.equalsNormalizingWhitespace(" \u0000 ", "", false)).isTrue();
+  }
+
+  @Test
+  void should_compare_texts_normalizing_punctuation_and_whitespace() {
+    // WHEN/THEN
+    then(CharSequenceSearch.equalsNormalizingWhitespace("!Yo, da ... rocks!", "Yo da rocks", true)).isTrue();
+    then(CharSequenceSearch.equalsNormalizingWhitespace("Yo,da", "Yoda", true)).isTrue();
+    then(CharSequenceSearch.equalsNormalizingWhitespace("Yo,da", "Yo da", true)).isFalse();
+    then(CharSequenceSearch.equalsNormalizingWhitespace("Yo,da", "Yo,da", false)).isTrue();
+  }
+
+}
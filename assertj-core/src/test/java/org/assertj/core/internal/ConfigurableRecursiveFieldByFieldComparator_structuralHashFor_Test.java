@@ -0,0 +1,248 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.ToIntFunction;
+
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
+import org.junit.jupiter.api.Test;
+
+class ConfigurableRecursiveFieldByFieldComparator_structuralHashFor_Test {
+
+  private final RecursiveComparisonConfiguration configuration = new RecursiveComparisonConfiguration();
+
+  @Test
+  void should_give_the_same_hash_to_values_with_the_same_compared_fields() {
+    // GIVEN
+    Person person = new Person("Jack", 42, Color.RED);
+    Person samePerson = new Person("Jack", 42, Color.RED);
+    Person otherPerson = new Person("Jack", 43, Color.RED);
+    ConfigurableRecursiveFieldByFieldComparator comparator = new ConfigurableRecursiveFieldByFieldComparator(configuration);
+    // WHEN
+    Optional<ToIntFunction<Object>> hash = comparator.structuralHashFor(list(person, samePerson, otherPerson));
+    // THEN
+    then(hash).isPresent();
+    then(hash.get().applyAsInt(person)).isEqualTo(hash.get().applyAsInt(samePerson))
+                                       .isNotEqualTo(hash.get().applyAsInt(otherPerson));
+  }
+
+  @Test
+  void should_give_the_same_hash_to_values_of_different_types_considered_equal() {
+    // GIVEN
+    configuration.ignoreFields("age", "color");
+    Person person = new Person("Jack", 42, Color.RED);
+    PersonDto personDto = new PersonDto("Jack");
+    PersonDto otherPersonDto = new PersonDto("John");
+    ConfigurableRecursiveFieldByFieldComparator comparator = new ConfigurableRecursiveFieldByFieldComparator(configuration);
+    // WHEN
+    Optional<ToIntFunction<Object>> hash = comparator.structuralHashFor(list(person, personDto, otherPersonDto));
+    // THEN
+    then(hash).isPresent();
+    then(comparator.compare(person, personDto)).isZero();
+    then(hash.get().applyAsInt(personDto)).isEqualTo(hash.get().applyAsInt(person))
+                                          .isNotEqualTo(hash.get().applyAsInt(otherPersonDto));
+  }
+
+  @Test
+  void should_hash_enums_by_name_as_the_recursive_comparison_compares_them() {
+    // GIVEN
+    Person person = new Person("Jack", 42, Color.RED);
+    Person personWithOtherColorType = new Person("Jack", 42, OtherColor.RED);
+    ConfigurableRecursiveFieldByFieldComparator comparator = new ConfigurableRecursiveFieldByFieldComparator(configuration);
+    // WHEN
+    Optional<ToIntFunction<Object>> hash = comparator.structuralHashFor(list(person, personWithOtherColorType));
+    // THEN
+    then(comparator.compare(person, personWithOtherColorType)).isZero();
+    then(hash.get().applyAsInt(person)).isEqualTo(hash.get().applyAsInt(personWithOtherColorType));
+  }
+
+  @Test
+  void should_not_hash_ignored_fields() {
+    // GIVEN
+    configuration.ignoreFields("age");
+    Person person = new Person("Jack", 42, Color.RED);
+    Person olderPerson = new Person("Jack", 43, Color.RED);
+    ConfigurableRecursiveFieldByFieldComparator comparator = new ConfigurableRecursiveFieldByFieldComparator(configuration);
+    // WHEN
+    Optional<ToIntFunction<Object>> hash = comparator.structuralHashFor(list(person, olderPerson));
+    // THEN
+    then(hash.get().applyAsInt(person)).isEqualTo(hash.get().applyAsInt(olderPerson));
+  }
+
+  @Test
+  void should_not_hash_fields_compared_with_a_custom_comparator() {
+    // GIVEN
+    configuration.registerComparatorForFields(String.CASE_INSENSITIVE_ORDER, "name");
+    configuration.registerComparatorForType((age1, age2) -> 0, Integer.class);
+    Person person = new Person("Jack", 42, Color.RED);
+    Person samePerson = new Person("JACK", 43, Color.RED);
+    ConfigurableRecursiveFieldByFieldComparator comparator = new ConfigurableRecursiveFieldByFieldComparator(configuration);
+    // WHEN
+    Optional<ToIntFunction<Object>> hash = comparator.structuralHashFor(list(person, samePerson));
+    // THEN
+    then(comparator.compare(person, samePerson)).isZero();
+    then(hash.get().applyAsInt(person)).isEqualTo(hash.get().applyAsInt(samePerson));
+  }
+
+  @Test
+  void should_hash_values_compared_with_equals_directly() {
+    // GIVEN
+    ConfigurableRecursiveFieldByFieldComparator comparator = new ConfigurableRecursiveFieldByFieldComparator(configuration);
+    // WHEN
+    Optional<ToIntFunction<Object>> hash = comparator.structuralHashFor(list("foo", "bar"));
+    // THEN
+    then(hash.get().applyAsInt("foo")).isEqualTo("foo".hashCode());
+  }
+
+  @Test
+  void should_not_provide_a_hash_when_null_fields_are_ignored() {
+    // GIVEN
+    configuration.setIgnoreAllActualNullFields(true);
+    ConfigurableRecursiveFieldByFieldComparator comparator = new ConfigurableRecursiveFieldByFieldComparator(configuration);
+    // WHEN
+    Optional<ToIntFunction<Object>> hash = comparator.structuralHashFor(list(new Person("Jack", 42, Color.RED)));
+    // THEN
+    then(hash).isEmpty();
+  }
+
+  @Test
+  void should_not_provide_a_hash_for_containers() {
+    // GIVEN
+    ConfigurableRecursiveFieldByFieldComparator comparator = new ConfigurableRecursiveFieldByFieldComparator(configuration);
+    // WHEN
+    Optional<ToIntFunction<Object>> hash = comparator.structuralHashFor(list(List.of("foo"), List.of("bar")));
+    // THEN
+    then(hash).isEmpty();
+  }
+
+  @Test
+  void should_not_provide_a_hash_for_subclasses_that_may_compare_differently() {
+    // GIVEN
+    ConfigurableRecursiveFieldByFieldComparator comparator = new ConfigurableRecursiveFieldByFieldComparator(configuration) {
+      @Override
+      protected boolean areEqual(Object actual, Object other) {
+        return true;
+      }
+    };
+    // WHEN
+    Optional<ToIntFunction<Object>> hash = comparator.structuralHashFor(list(new Person("Jack", 42, Color.RED)));
+    // THEN
+    then(hash).isEmpty();
+  }
+
+  @Test
+  void should_not_provide_a_hash_when_values_are_compared_with_their_overridden_equals() {
+    // GIVEN
+    configuration.useOverriddenEquals();
+    ConfigurableRecursiveFieldByFieldComparator comparator = new ConfigurableRecursiveFieldByFieldComparator(configuration);
+    // WHEN
+    Optional<ToIntFunction<Object>> hash = comparator.structuralHashFor(list(new Product("A", "apple"),
+                                                                             new Product("A", "APPLE")));
+    // THEN
+    then(hash).isEmpty();
+  }
+
+  @Test
+  void should_not_provide_a_hash_when_fields_are_compared_with_their_overridden_equals() {
+    // GIVEN
+    configuration.useOverriddenEquals();
+    Order order = new Order("1", new Product("A", "apple"));
+    Order sameOrder = new Order("1", new Product("A", "APPLE"));
+    ConfigurableRecursiveFieldByFieldComparator comparator = new ConfigurableRecursiveFieldByFieldComparator(configuration);
+    // WHEN
+    Optional<ToIntFunction<Object>> hash = comparator.structuralHashFor(list(order, sameOrder));
+    // THEN
+    then(comparator.compare(order, sameOrder)).isZero();
+    then(hash).isEmpty();
+  }
+
+  @Test
+  void should_provide_a_hash_when_overridden_equals_are_ignored_for_the_types_reached() {
+    // GIVEN
+    configuration.useOverriddenEquals();
+    configuration.ignoreOverriddenEqualsForTypes(Product.class);
+    ConfigurableRecursiveFieldByFieldComparator comparator = new ConfigurableRecursiveFieldByFieldComparator(configuration);
+    // WHEN
+    Optional<ToIntFunction<Object>> hash = comparator.structuralHashFor(list(new Order("1", new Product("A", "apple"))));
+    // THEN
+    then(hash).isPresent();
+  }
+
+  enum Color {
+    RED, BLUE
+  }
+
+  enum OtherColor {
+    RED, BLUE
+  }
+
+  static class Person {
+    String name;
+    Integer age;
+    Enum<?> color;
+
+    Person(String name, Integer age, Enum<?> color) {
+      this.name = name;
+      this.age = age;
+      this.color = color;
+    }
+  }
+
+  static class PersonDto {
+    String name;
+
+    PersonDto(String name) {
+      this.name = name;
+    }
+  }
+
+  static class Product {
+    String code;
+    String name;
+
+    Product(String code, String name) {
+      this.code = code;
+      this.name = name;
+    }
+
+    // only compares codes
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof Product product && code.equals(product.code);
+    }
+
+    @Override
+    public int hashCode() {
+      return code.hashCode();
+    }
+  }
+
+  static class Order {
+    String reference;
+    Product product;
+
+    Order(String reference, Product product) {
+      this.reference = reference;
+      this.product = product;
+    }
+  }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.assertj.core.configuration.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class Digests_digestDiff_Path_Test {
+
+  private static final byte[] HELLO_MD5 = Digests.fromHex("5D41402ABC4B2A76B9719D911017C592");
+  private static final byte[] WORLD_MD5 = Digests.fromHex("7D793037A0760186574B0282F2F435E7");
+
+  @TempDir
+  Path tempDir;
+
+  @AfterEach
+  void restoreDefaultMaxCachedFileDigests() {
+    Digests.setMaxCachedFileDigests(Configuration.MAX_CACHED_FILE_DIGESTS);
+  }
+
+  @Test
+  void should_compute_the_digest_of_a_file() throws IOException, NoSuchAlgorithmException {
+    // GIVEN
+    Path path = Files.write(tempDir.resolve("actual.txt"), "hello".getBytes());
+    // WHEN
+    DigestDiff diff = Digests.digestDiff(path, MessageDigest.getInstance("MD5"), HELLO_MD5, NioFilesWrapper.instance());
+    // THEN
+    then(diff.digestsDiffer()).isFalse();
+  }
+
+  @Test
+  void should_not_cache_digests_by_default() throws IOException, NoSuchAlgorithmException {
+    // GIVEN
+    Path path = Files.write(tempDir.resolve("actual.txt"), "hello".getBytes());
+    FileTime lastModified = Files.getLastModifiedTime(path);
+    Digests.digestDiff(path, MessageDigest.getInstance("MD5"), HELLO_MD5, NioFilesWrapper.instance());
+    Files.setLastModifiedTime(Files.write(path, "world".getBytes()), lastModified);
+    // WHEN
+    DigestDiff diff = Digests.digestDiff(path, MessageDigest.getInstance("MD5"), WORLD_MD5, NioFilesWrapper.instance());
+    // THEN
+    then(diff.digestsDiffer()).isFalse();
+  }
+
+  @Test
+  void should_reuse_cached_digest_of_a_file_whose_size_and_last_modified_time_have_not_changed() throws Exception {
+    // GIVEN
+    Digests.setMaxCachedFileDigests(1);
+    Path path = Files.write(tempDir.resolve("actual.txt"), "hello".getBytes());
+    FileTime lastModified = Files.getLastModifiedTime(path);
+    Digests.digestDiff(path, MessageDigest.getInstance("MD5"), HELLO_MD5, NioFilesWrapper.instance());
+    // same size and last modified time, the content change goes unnoticed
+    Files.setLastModifiedTime(Files.write(path, "world".getBytes()), lastModified);
+    // WHEN
+    DigestDiff diff = Digests.digestDiff(path, MessageDigest.getInstance("MD5"), HELLO_MD5, NioFilesWrapper.instance());
+    // THEN
+    then(diff.digestsDiffer()).isFalse();
+  }
+
+  @Test
+  void should_compute_again_the_digest_of_a_file_whose_last_modified_time_has_changed() throws Exception {
+    // GIVEN
+    Digests.setMaxCachedFileDigests(1);
+    Path path = Files.write(tempDir.resolve("actual.txt"), "hello".getBytes());
+    FileTime lastModified = Files.getLastModifiedTime(path);
+    Digests.digestDiff(path, MessageDigest.getInstance("MD5"), HELLO_MD5, NioFilesWrapper.instance());
+    Files.setLastModifiedTime(Files.write(path, "world".getBytes()), FileTime.fromMillis(lastModified.toMillis() + 1000));
+    // WHEN
+    DigestDiff diff = Digests.digestDiff(path, MessageDigest.getInstance("MD5"), WORLD_MD5, NioFilesWrapper.instance());
+    // THEN
+    then(diff.digestsDiffer()).isFalse();
+  }
+
+  @Test
+  void should_cache_digests_per_algorithm() throws Exception {
+    // GIVEN
+    Digests.setMaxCachedFileDigests(2);
+    Path path = Files.write(tempDir.resolve("actual.txt"), "hello".getBytes());
+    Digests.digestDiff(path, MessageDigest.getInstance("MD5"), HELLO_MD5, NioFilesWrapper.instance());
+    // WHEN
+    DigestDiff diff = Digests.digestDiff(path, MessageDigest.getInstance("SHA-1"), HELLO_MD5, NioFilesWrapper.instance());
+    // THEN
+    then(diff.digestsDiffer()).isTrue();
+    then(diff.getActual()).isEqualTo("AAF4C61DDCC5E8A2DABEDE0F3B482CD9AEA9434D");
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static java.nio.file.Files.createDirectories;
+import static java.nio.file.Files.createFile;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DirectoryScanner_anyMatch_Test {
+
+  private final ForkJoinPool pool = new ForkJoinPool(4);
+
+  @TempDir
+  Path tempDir;
+
+  @BeforeEach
+  void createTree() throws IOException {
+    for (int i = 0; i < 10; i++) {
+      Path directory = createDirectories(tempDir.resolve("dir-" + i).resolve("sub-dir"));
+      createFile(directory.resolve("file-" + i + ".txt"));
+    }
+    createFile(tempDir.resolve("root.txt"));
+  }
+
+  @AfterEach
+  void shutdownPool() {
+    pool.shutdownNow();
+  }
+
+  @Test
+  void should_find_a_file_in_a_sub_directory() throws IOException {
+    // GIVEN
+    Path file = Path.of("dir-7", "sub-dir", "file-7.txt");
+    // WHEN/THEN
+    then(DirectoryScanner.anyMatch(tempDir, file::equals, null)).isTrue();
+    then(DirectoryScanner.anyMatch(tempDir, file::equals, pool)).isTrue();
+  }
+
+  @Test
+  void should_find_a_sub_directory() throws IOException {
+    // GIVEN
+    Path directory = Path.of("dir-3", "sub-dir");
+    // WHEN/THEN
+    then(DirectoryScanner.anyMatch(tempDir, directory::equals, null)).isTrue();
+    then(DirectoryScanner.anyMatch(tempDir, directory::equals, pool)).isTrue();
+  }
+
+  @Test
+  void should_not_match_the_scanned_directory_itself() throws IOException {
+    // GIVEN
+    Predicate<Path> filter = path -> path.toString().isEmpty() || path.equals(tempDir);
+    // WHEN/THEN
+    then(DirectoryScanner.anyMatch(tempDir, filter, null)).isFalse();
+    then(DirectoryScanner.anyMatch(tempDir, filter, pool)).isFalse();
+  }
+
+  @Test
+  void should_test_every_path_when_none_matches() throws IOException {
+    // GIVEN
+    AtomicInteger sequentialCount = new AtomicInteger();
+    AtomicInteger parallelCount = new AtomicInteger();
+    // WHEN
+    boolean sequentialMatch = DirectoryScanner.anyMatch(tempDir, path -> sequentialCount.incrementAndGet() < 0, null);
+    boolean parallelMatch = DirectoryScanner.anyMatch(tempDir, path -> parallelCount.incrementAndGet() < 0, pool);
+    // THEN
+    then(sequentialMatch).isFalse();
+    then(parallelMatch).isFalse();
+    then(sequentialCount).hasValue(31);
+    then(parallelCount).hasValue(31);
+  }
+
+  @Test
+  void should_stop_scanning_at_the_first_match() throws IOException {
+    // GIVEN
+    AtomicInteger count = new AtomicInteger();
+    // WHEN
+    boolean match = DirectoryScanner.anyMatch(tempDir, path -> count.incrementAndGet() > 0, null);
+    // THEN
+    then(match).isTrue();
+    then(count).hasValue(1);
+  }
+
+  @Test
+  void should_give_paths_relative_to_the_scanned_directory() throws IOException {
+    // GIVEN
+    Path file = Path.of("dir-0" + File.separator + "sub-dir" + File.separator + "file-0.txt");
+    // WHEN/THEN
+    then(DirectoryScanner.anyMatch(tempDir, path -> !path.isAbsolute() && path.equals(file), pool)).isTrue();
+  }
+}
@@ -22,6 +22,8 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
+import org.assertj.core.configuration.Configuration;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
@@ -30,6 +32,11 @@ class FileContent_of_Test {
   @TempDir
   Path tempDir;
 
+  @AfterEach
+  void restoreDefaultMaxContentBytes() {
+    FileContent.setMaxContentBytes(Configuration.MAX_FILE_CONTENT_BYTES_FOR_IDE_DIFF);
+  }
+
   @Test
   void should_create_file_content_from_file() throws IOException {
     // GIVEN
@@ -53,4 +60,80 @@ class FileContent_of_Test {
     then(fileContent.path()).isEqualTo(path.toAbsolutePath().toString());
     then(fileContent.contents()).isEqualTo(bytes);
   }
+
+  @Test
+  void should_read_contents_on_first_access() throws IOException {
+    // GIVEN
+    Path path = Files.write(tempDir.resolve("actual.txt"), "hello".getBytes());
+    FileContent fileContent = FileContent.of(path);
+    Files.write(path, "bye".getBytes());
+    // WHEN
+    byte[] contents = fileContent.contents();
+    // THEN
+    then(contents).isEqualTo("bye".getBytes())
+                  .isSameAs(fileContent.contents());
+  }
+
+  @Test
+  void should_keep_the_first_bytes_of_a_file_larger_than_max_content_bytes() throws IOException {
+    // GIVEN
+    FileContent.setMaxContentBytes(4);
+    Path path = Files.write(tempDir.resolve("actual.txt"), "0123456789".getBytes());
+    // WHEN
+    FileContent fileContent = FileContent.of(path);
+    // THEN
+    then(fileContent.contents()).isEqualTo("0123".getBytes());
+  }
+
+  @Test
+  void should_keep_the_bytes_around_the_first_mismatch_of_files_larger_than_max_content_bytes() throws IOException {
+    // GIVEN
+    FileContent.setMaxContentBytes(4);
+    Path actual = Files.write(tempDir.resolve("actual.txt"), "0123456789".getBytes());
+    Path expected = Files.write(tempDir.resolve("expected.txt"), "012345-789".getBytes());
+    // WHEN
+    FileContent actualContent = FileContent.of(actual, expected);
+    FileContent expectedContent = FileContent.of(expected, actual);
+    // THEN
+    then(actualContent.contents()).isEqualTo("5678".getBytes());
+    then(expectedContent.contents()).isEqualTo("5-78".getBytes());
+  }
+
+  @Test
+  void should_keep_the_last_bytes_of_a_file_when_its_first_mismatch_is_close_to_its_end() throws IOException {
+    // GIVEN
+    FileContent.setMaxContentBytes(4);
+    Path actual = Files.write(tempDir.resolve("actual.txt"), "0123456789".getBytes());
+    Path expected = Files.write(tempDir.resolve("expected.txt"), "012345678".getBytes());
+    // WHEN
+    FileContent fileContent = FileContent.of(actual, expected);
+    // THEN
+    then(fileContent.contents()).isEqualTo("6789".getBytes());
+  }
+
+  @Test
+  void should_keep_the_bytes_around_the_given_mismatch_without_searching_it() throws IOException {
+    // GIVEN
+    FileContent.setMaxContentBytes(4);
+    Path actual = Files.write(tempDir.resolve("actual.txt"), "0123456789".getBytes());
+    Path expected = Files.write(tempDir.resolve("expected.txt"), "012345-789".getBytes());
+    // WHEN
+    FileContent actualContent = FileContent.of(actual, expected, 3);
+    // THEN
+    then(actualContent.contents()).isEqualTo("2345".getBytes());
+    then(actualContent.comparedFileContent().contents()).isEqualTo("2345".getBytes());
+  }
+
+  @Test
+  void should_create_the_file_content_of_the_compared_file() throws IOException {
+    // GIVEN
+    FileContent.setMaxContentBytes(4);
+    Path actual = Files.write(tempDir.resolve("actual.txt"), "0123456789".getBytes());
+    Path expected = Files.write(tempDir.resolve("expected.txt"), "012345-789".getBytes());
+    // WHEN
+    FileContent expectedContent = FileContent.of(actual, expected).comparedFileContent();
+    // THEN
+    then(expectedContent.path()).isEqualTo(expected.toAbsolutePath().toString());
+    then(expectedContent.contents()).isEqualTo("5-78".getBytes());
+  }
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.DiffUtils;
+import org.assertj.core.util.diff.InsertDelta;
+import org.junit.jupiter.api.Test;
+
+class LineDiff_Test {
+
+  @Test
+  void should_return_no_deltas_for_equal_lines() {
+    // GIVEN
+    List<String> lines = List.of("Yoda", "Luke");
+    // WHEN
+    List<Delta<String>> deltas = LineDiff.diff(lines, new ArrayList<>(lines), 10);
+    // THEN
+    then(deltas).isEmpty();
+  }
+
+  @Test
+  void should_return_deltas_positioned_after_the_common_prefix() {
+    // GIVEN
+    List<String> original = List.of("Yoda", "Luke", "Leia", "Han", "Obiwan");
+    List<String> revised = List.of("Yoda", "Luke", "Vader", "Han", "Obiwan", "Chewie");
+    // WHEN
+    List<Delta<String>> deltas = LineDiff.diff(original, revised, 10);
+    // THEN
+    then(deltas).containsExactly(new ChangeDelta<>(new Chunk<>(2, List.of("Leia")), new Chunk<>(2, List.of("Vader"))),
+                                 new InsertDelta<>(new Chunk<>(5, List.of()), new Chunk<>(5, List.of("Chewie"))));
+  }
+
+  @Test
+  void should_include_lines_missing_from_the_other_text_in_deltas() {
+    // GIVEN
+    List<String> original = List.of("a", "b", "c", "d", "e");
+    List<String> revised = List.of("x", "b", "y", "d", "z");
+    // WHEN
+    List<Delta<String>> deltas = LineDiff.diff(original, revised, 10);
+    // THEN
+    then(deltas).containsExactly(new ChangeDelta<>(new Chunk<>(0, List.of("a")), new Chunk<>(0, List.of("x"))),
+                                 new ChangeDelta<>(new Chunk<>(2, List.of("c")), new Chunk<>(2, List.of("y"))),
+                                 new ChangeDelta<>(new Chunk<>(4, List.of("e")), new Chunk<>(4, List.of("z"))));
+  }
+
+  @Test
+  void should_return_as_many_changed_lines_as_myers_diff() {
+    // GIVEN
+    List<String> original = List.of("a", "b", "c", "a", "b", "b", "a");
+    List<String> revised = List.of("c", "b", "a", "b", "a", "c");
+    // WHEN
+    List<Delta<String>> deltas = LineDiff.diff(original, revised, 10);
+    // THEN
+    then(changedLines(deltas)).isEqualTo(changedLines(DiffUtils.diff(original, revised).getDeltas()));
+  }
+
+  @Test
+  void should_only_return_the_first_deltas() {
+    // GIVEN
+    List<String> original = new ArrayList<>();
+    List<String> revised = new ArrayList<>();
+    for (int i = 0; i < 100_000; i++) {
+      original.add("line " + i);
+      revised.add(i % 1000 == 0 ? "changed line " + i : "line " + i);
+    }
+    // WHEN
+    List<Delta<String>> deltas = LineDiff.diff(original, revised, 3);
+    // THEN
+    then(deltas).extracting(Delta::lineNumber).containsExactly(1, 1001, 2001);
+  }
+
+  private static int changedLines(List<Delta<String>> deltas) {
+    return deltas.stream().mapToInt(delta -> delta.getOriginal().size() + delta.getRevised().size()).sum();
+  }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class LinearSpaceMyersSearch_Test {
+
+  @Test
+  void should_report_matching_indices_in_order() {
+    // GIVEN
+    int[] original = { 1, 2, 3, 4, 5 };
+    int[] revised = { 9, 1, 3, 8, 5 };
+    List<String> matches = new ArrayList<>();
+    // WHEN
+    LinearSpaceMyersSearch.match(original.length, revised.length, (x, y) -> original[x] == revised[y], () -> false,
+                                 (x, y) -> matches.add(x + "-" + y));
+    // THEN
+    then(matches).containsExactly("0-1", "2-2", "4-4");
+  }
+
+  @Test
+  void should_only_report_common_prefix_and_suffix_of_remaining_ranges_once_done() {
+    // GIVEN
+    int[] original = { 1, 2, 3, 4, 5 };
+    int[] revised = { 1, 9, 3, 8, 5 };
+    List<String> matches = new ArrayList<>();
+    // WHEN
+    LinearSpaceMyersSearch.match(original.length, revised.length, (x, y) -> original[x] == revised[y], () -> true,
+                                 (x, y) -> matches.add(x + "-" + y));
+    // THEN
+    then(matches).containsExactly("0-0", "4-4");
+  }
+
+}
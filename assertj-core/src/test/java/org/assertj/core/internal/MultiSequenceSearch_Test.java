@@ -0,0 +1,65 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import org.junit.jupiter.api.Test;
+
+class MultiSequenceSearch_Test {
+
+  @Test
+  void should_find_all_sequences_in_one_pass() {
+    // GIVEN
+    CharSequence[] sequences = { "he", "she", "his", "hers", "xyz", "e", "he" };
+    MultiSequenceSearch search = new MultiSequenceSearch(sequences, false);
+    // WHEN
+    boolean[] found = search.search(new StringBuilder("ushers"), false);
+    // THEN
+    then(found).containsExactly(true, true, false, true, false, true, true);
+  }
+
+  @Test
+  void should_find_sequences_ignoring_case() {
+    // GIVEN
+    MultiSequenceSearch search = new MultiSequenceSearch(new CharSequence[] { "YODA", "luke", "Leia" }, true);
+    // WHEN
+    boolean[] found = search.search("Yoda and LUKE", false);
+    // THEN
+    then(found).containsExactly(true, true, false);
+  }
+
+  @Test
+  void should_always_find_empty_sequences() {
+    // GIVEN
+    MultiSequenceSearch search = new MultiSequenceSearch(new CharSequence[] { "", "a" }, false);
+    // WHEN
+    boolean[] found = search.search("", false);
+    // THEN
+    then(found).containsExactly(true, false);
+  }
+
+  @Test
+  void should_stop_at_first_match_if_requested() {
+    // GIVEN
+    MultiSequenceSearch search = new MultiSequenceSearch(new CharSequence[] { "b", "a" }, false);
+    // WHEN
+    boolean[] found = search.search("ab", true);
+    // THEN
+    then(found).containsExactly(false, true);
+  }
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import org.assertj.core.internal.PrimitiveArrayKeys.Keys;
+import org.junit.jupiter.api.Test;
+
+class PrimitiveArrayKeys_Test {
+
+  @Test
+  void should_return_null_keys_for_non_primitive_arrays() {
+    // WHEN
+    Keys keys = PrimitiveArrayKeys.keysOf(new Integer[] { 1, 2 });
+    // THEN
+    then(keys).isNull();
+  }
+
+  @Test
+  void should_give_equal_keys_to_floating_point_values_equal_according_to_their_wrapper_equals() {
+    // WHEN
+    Keys keys = PrimitiveArrayKeys.keysOf(new double[] { Double.NaN, 0.0 / 0.0, 0.0, -0.0 });
+    // THEN
+    then(keys.get(0)).isEqualTo(keys.get(1));
+    then(keys.get(2)).isNotEqualTo(keys.get(3));
+  }
+
+  @Test
+  void should_order_floating_point_keys_like_their_wrapper_compareTo() {
+    // GIVEN
+    double[] sortedValues = { Double.NEGATIVE_INFINITY, -2.5, -1.0, -Double.MIN_VALUE, -0.0, 0.0, Double.MIN_VALUE, 1.0, 2.5,
+        Double.POSITIVE_INFINITY, Double.NaN };
+    float[] sortedFloatValues = { Float.NEGATIVE_INFINITY, -2.5f, -1.0f, -0.0f, 0.0f, 1.0f, Float.POSITIVE_INFINITY, Float.NaN };
+    // WHEN
+    Keys keys = PrimitiveArrayKeys.keysOf(sortedValues);
+    Keys floatKeys = PrimitiveArrayKeys.keysOf(sortedFloatValues);
+    // THEN
+    then(PrimitiveArrayKeys.isSorted(keys)).isTrue();
+    then(PrimitiveArrayKeys.doesNotHaveDuplicates(keys)).isTrue();
+    then(PrimitiveArrayKeys.isSorted(floatKeys)).isTrue();
+    then(PrimitiveArrayKeys.doesNotHaveDuplicates(floatKeys)).isTrue();
+  }
+
+  @Test
+  void should_order_char_keys_as_unsigned_values() {
+    // WHEN
+    Keys keys = PrimitiveArrayKeys.keysOf(new char[] { 'a', '\uFFFF' });
+    // THEN
+    then(PrimitiveArrayKeys.isSorted(keys)).isTrue();
+  }
+
+  @Test
+  void should_return_the_index_of_the_first_mismatch_relative_to_the_ranges_start() {
+    // GIVEN
+    double[] actual = { 1.0, 2.0, Double.NaN, 0.0 };
+    double[] other = { 9.0, 1.0, 2.0, Double.NaN, -0.0 };
+    // WHEN
+    int mismatch = PrimitiveArrayKeys.mismatch(actual, 0, other, 1, 4);
+    // THEN
+    then(mismatch).isEqualTo(3);
+    then(PrimitiveArrayKeys.mismatch(actual, 0, other, 1, 3)).isEqualTo(-1);
+  }
+
+  @Test
+  void should_evaluate_range_kernels_on_arrays() {
+    // GIVEN
+    int[] actual = { 1, 2, 3, 2, 5 };
+    // WHEN/THEN
+    then(PrimitiveArrayKeys.containsExactly(actual, new int[] { 1, 2, 3, 2, 5 })).isTrue();
+    then(PrimitiveArrayKeys.containsExactly(actual, new int[] { 1, 2, 3, 2 })).isFalse();
+    then(PrimitiveArrayKeys.containsSequence(actual, new int[] { 3, 2, 5 })).isTrue();
+    then(PrimitiveArrayKeys.containsSequence(actual, new int[] { 2, 5, 1 })).isFalse();
+    then(PrimitiveArrayKeys.startsWith(actual, new int[] { 1, 2 })).isTrue();
+    then(PrimitiveArrayKeys.startsWith(actual, new int[] { 2 })).isFalse();
+    then(PrimitiveArrayKeys.endsWith(actual, new int[] { 2, 5 })).isTrue();
+    then(PrimitiveArrayKeys.endsWith(actual, new int[] { 1, 2, 3, 2, 5, 6 })).isFalse();
+  }
+
+  @Test
+  void should_evaluate_kernels_on_keys() {
+    // GIVEN
+    Keys actual = keys(1, 2, 3, 2, 5);
+    // WHEN/THEN
+    then(PrimitiveArrayKeys.containsAll(actual, keys(5, 1, 5))).isTrue();
+    then(PrimitiveArrayKeys.containsAll(actual, keys(5, 4))).isFalse();
+    then(PrimitiveArrayKeys.containsAny(actual, keys(4, 3))).isTrue();
+    then(PrimitiveArrayKeys.containsNone(actual, keys(4, 6))).isTrue();
+    then(PrimitiveArrayKeys.containsOnly(actual, keys(1, 2, 3, 5))).isTrue();
+    then(PrimitiveArrayKeys.containsOnly(actual, keys(1, 2, 3))).isFalse();
+    then(PrimitiveArrayKeys.containsOnly(actual, keys(1, 2, 3, 5, 6))).isFalse();
+    then(PrimitiveArrayKeys.containsExactlyInAnyOrder(actual, keys(5, 2, 2, 3, 1))).isTrue();
+    then(PrimitiveArrayKeys.containsExactlyInAnyOrder(actual, keys(5, 2, 3, 3, 1))).isFalse();
+    then(PrimitiveArrayKeys.containsOnlyOnce(actual, keys(1, 3))).isTrue();
+    then(PrimitiveArrayKeys.containsOnlyOnce(actual, keys(2))).isFalse();
+    then(PrimitiveArrayKeys.containsOnlyOnce(actual, keys(1, 4))).isFalse();
+    then(PrimitiveArrayKeys.containsSubsequence(actual, keys(1, 3, 5))).isTrue();
+    then(PrimitiveArrayKeys.containsSubsequence(actual, keys(3, 1))).isFalse();
+    then(PrimitiveArrayKeys.doesNotHaveDuplicates(actual)).isFalse();
+    then(PrimitiveArrayKeys.isSorted(actual)).isFalse();
+  }
+
+  @Test
+  void should_find_keys_colliding_in_the_values_hash_set() {
+    // GIVEN
+    Keys actual = keys(0, 16, 32, 48, 64);
+    // WHEN/THEN
+    then(PrimitiveArrayKeys.containsExactlyInAnyOrder(actual, keys(64, 48, 32, 16, 0))).isTrue();
+    then(PrimitiveArrayKeys.containsExactlyInAnyOrder(keys(0, 0, 16), keys(0, 16, 16))).isFalse();
+    then(PrimitiveArrayKeys.containsOnly(actual, keys(16, 0, 64, 48, 32))).isTrue();
+  }
+
+  private static Keys keys(long... values) {
+    return PrimitiveArrayKeys.keysOf(values);
+  }
+
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.internal.ToleranceMatching.toleranceMatching;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.assertj.core.api.ComparatorFactory;
+import org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy;
+import org.assertj.core.api.comparisonstrategy.StandardComparisonStrategy;
+import org.assertj.core.util.DoubleComparator;
+import org.assertj.core.util.FloatComparator;
+import org.junit.jupiter.api.Test;
+
+class ToleranceMatching_Test {
+
+  private static final ComparatorFactory COMPARATOR_FACTORY = new ComparatorFactory();
+
+  @Test
+  void should_only_be_available_for_floating_point_arrays_compared_with_a_tolerance_comparator() {
+    // GIVEN
+    ComparatorBasedComparisonStrategy withPrecision = strategy(COMPARATOR_FACTORY.doubleComparatorWithPrecision(0.1));
+    ComparatorBasedComparisonStrategy customComparator = new ComparatorBasedComparisonStrategy(Comparator.naturalOrder());
+    double[] doubles = { 1.0 };
+    float[] floats = { 1.0f };
+    // WHEN/THEN
+    then(toleranceMatching(withPrecision, doubles, doubles)).isNotNull();
+    then(toleranceMatching(strategy(new DoubleComparator(0.1)), doubles, doubles)).isNotNull();
+    then(toleranceMatching(strategy(new FloatComparator(0.1f)), floats, floats)).isNotNull();
+    then(toleranceMatching(strategy(COMPARATOR_FACTORY.floatComparatorWithPrecision(0.1f)), floats, floats)).isNotNull();
+    then(toleranceMatching(withPrecision, floats, floats)).isNull();
+    then(toleranceMatching(customComparator, doubles, doubles)).isNull();
+    then(toleranceMatching(StandardComparisonStrategy.instance(), doubles, doubles)).isNull();
+  }
+
+  @Test
+  void should_find_values_within_precision() {
+    // GIVEN
+    ToleranceMatching matching = doublesMatching(0.1);
+    double[] actual = { 3.0, 1.0, 2.0 };
+    // WHEN/THEN
+    then(matching.containsAll(actual, new double[] { 1.1, 2.95 })).isTrue();
+    then(matching.containsAll(actual, new double[] { 1.1, 2.5 })).isFalse();
+    then(matching.containsOnly(actual, new double[] { 2.05, 1.0, 0.9, 3.1 })).isTrue();
+    then(matching.containsOnly(actual, new double[] { 2.05, 1.0 })).isFalse();
+    then(matching.containsExactlyInAnyOrder(actual, new double[] { 2.05, 1.0, 2.9 })).isTrue();
+    then(matching.containsExactlyInAnyOrder(actual, new double[] { 2.05, 1.0, 0.9 })).isFalse();
+  }
+
+  @Test
+  void should_match_values_in_the_same_order_as_the_regular_check() {
+    // GIVEN
+    ToleranceMatching matching = doublesMatching(0.5);
+    // WHEN/THEN
+    // 1.0 is matched with 0.6 first, leaving 1.4 without any match
+    then(matching.containsExactlyInAnyOrder(new double[] { 0.6, 1.4 }, new double[] { 1.0, 0.5 })).isFalse();
+    then(matching.containsExactlyInAnyOrder(new double[] { 1.4, 0.6 }, new double[] { 1.0, 0.5 })).isTrue();
+    // 1.0 removes all the values within precision: 0.6 and 1.4
+    then(matching.containsOnly(new double[] { 0.6, 1.4 }, new double[] { 1.0 })).isTrue();
+  }
+
+  @Test
+  void should_compare_special_values_like_the_comparator() {
+    // GIVEN
+    double[] actual = { Double.NaN, Double.POSITIVE_INFINITY, -0.0 };
+    double[] values = { 0.0, Double.NaN, Double.POSITIVE_INFINITY };
+    // WHEN/THEN
+    then(doublesMatching(0.1).containsExactlyInAnyOrder(actual, values)).isTrue();
+    // NaN is not equal to itself with DoubleComparator
+    then(toleranceMatching(strategy(new DoubleComparator(0.1)), actual, values).containsAll(actual, values)).isFalse();
+  }
+
+  @Test
+  void should_match_floats_within_precision() {
+    // GIVEN
+    ToleranceMatching matching = toleranceMatching(strategy(new FloatComparator(0.25f)), new float[0], new float[0]);
+    float[] actual = { 1.0f, 2.0f, 2.0f };
+    // WHEN/THEN
+    then(matching.containsExactlyInAnyOrder(actual, new float[] { 2.25f, 1.25f, 1.75f })).isTrue();
+    then(matching.containsExactlyInAnyOrder(actual, new float[] { 2.25f, 1.25f, 1.5f })).isFalse();
+  }
+
+  @Test
+  void should_only_be_available_for_iterables_of_the_compared_number_type() {
+    // GIVEN
+    ComparatorBasedComparisonStrategy withPrecision = strategy(COMPARATOR_FACTORY.doubleComparatorWithPrecision(0.1));
+    Object[] values = { 1.0, 2.0 };
+    // WHEN/THEN
+    then(toleranceMatching(withPrecision, List.of(2.0, 1.0), values)).isNotNull();
+    then(toleranceMatching(withPrecision, List.of(2.0f, 1.0f), values)).isNull();
+    then(toleranceMatching(withPrecision, asList(2.0, null), values)).isNull();
+    then(toleranceMatching(withPrecision, List.of(2.0, 1.0), new Object[] { 1.0, 2 })).isNull();
+    then(toleranceMatching(strategy(new FloatComparator(0.1f)), List.of(2.0, 1.0), values)).isNull();
+  }
+
+  @Test
+  void should_find_iterable_values_within_precision() {
+    // GIVEN
+    List<Float> actual = List.of(3.0f, 1.0f, 2.0f);
+    Object[] values = { 2.05f, 1.0f, 2.9f };
+    ComparatorBasedComparisonStrategy withPrecision = strategy(COMPARATOR_FACTORY.floatComparatorWithPrecision(0.1f));
+    ToleranceMatching matching = toleranceMatching(withPrecision, actual, values);
+    // WHEN/THEN
+    then(matching.containsAll(actual, new Object[] { 1.1f, 2.95f })).isTrue();
+    then(matching.containsOnly(actual, new Object[] { 2.05f, 1.0f })).isFalse();
+    then(matching.containsExactlyInAnyOrder(actual, values)).isTrue();
+    then(matching.containsExactlyInAnyOrder(actual, new Object[] { 2.05f, 1.0f, 0.9f })).isFalse();
+  }
+
+  @Test
+  void should_compare_primitive_values_like_the_boxed_ones() {
+    // GIVEN
+    var doubleComparator = (ToleranceComparator<Double>) COMPARATOR_FACTORY.doubleComparatorWithPrecision(0.1);
+    var floatComparator = (ToleranceComparator<Float>) COMPARATOR_FACTORY.floatComparatorWithPrecision(0.1f);
+    double[] doubles = { -0.0, 0.0, 0.1, 0.2, 0.30000000000000004, Double.NaN, Double.NEGATIVE_INFINITY };
+    float[] floats = { -0.0f, 0.0f, 0.1f, 0.2f, 0.3f, Float.NaN, Float.POSITIVE_INFINITY };
+    // WHEN/THEN
+    for (double x : doubles) {
+      for (double y : doubles) {
+        then(doubleComparator.areEqual(x, y)).isEqualTo(doubleComparator.compare(x, y) == 0);
+      }
+    }
+    for (float x : floats) {
+      for (float y : floats) {
+        then(floatComparator.areEqual(x, y)).isEqualTo(floatComparator.compare(x, y) == 0);
+      }
+    }
+  }
+
+  private static ToleranceMatching doublesMatching(double precision) {
+    return toleranceMatching(strategy(COMPARATOR_FACTORY.doubleComparatorWithPrecision(precision)), new double[0], new double[0]);
+  }
+
+  private static ComparatorBasedComparisonStrategy strategy(Comparator<?> comparator) {
+    return new ComparatorBasedComparisonStrategy(comparator);
+  }
+
+}
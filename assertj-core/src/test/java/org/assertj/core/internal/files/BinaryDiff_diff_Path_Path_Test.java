@@ -0,0 +1,94 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal.files;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.assertj.core.internal.BinaryDiff;
+import org.assertj.core.internal.BinaryDiffResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for <code>{@link BinaryDiff#diff(Path, Path)}</code>.
+ */
+class BinaryDiff_diff_Path_Path_Test {
+
+  private static final BinaryDiff BINARY_DIFF = new BinaryDiff();
+
+  @TempDir
+  private Path tempDir;
+
+  @Test
+  void should_return_no_diff_if_paths_have_equal_content() throws IOException {
+    // GIVEN
+    byte[] content = new byte[200_000];
+    Path actual = Files.write(tempDir.resolve("actual"), content);
+    Path expected = Files.write(tempDir.resolve("expected"), content);
+    // WHEN
+    BinaryDiffResult result = BINARY_DIFF.diff(actual, expected);
+    // THEN
+    then(result.hasNoDiff()).isTrue();
+  }
+
+  @Test
+  void should_return_diff_after_the_first_chunks() throws IOException {
+    // GIVEN
+    byte[] content = new byte[200_000];
+    Path actual = Files.write(tempDir.resolve("actual"), content);
+    content[150_000] = (byte) 0xCA;
+    Path expected = Files.write(tempDir.resolve("expected"), content);
+    // WHEN
+    BinaryDiffResult result = BINARY_DIFF.diff(actual, expected);
+    // THEN
+    then(result.offset).isEqualTo(150_000);
+    then(result.actual).isEqualTo("0x0");
+    then(result.expected).isEqualTo("0xCA");
+  }
+
+  @Test
+  void should_return_diff_if_actual_is_shorter() throws IOException {
+    // GIVEN
+    byte[] content = new byte[200_000];
+    Path actual = Files.write(tempDir.resolve("actual"), Arrays.copyOf(content, 131_072));
+    Path expected = Files.write(tempDir.resolve("expected"), content);
+    // WHEN
+    BinaryDiffResult result = BINARY_DIFF.diff(actual, expected);
+    // THEN
+    then(result.offset).isEqualTo(131_072);
+    then(result.actual).isEqualTo("EOF");
+    then(result.expected).isEqualTo("0x0");
+  }
+
+  @Test
+  void should_return_diff_if_expected_is_empty() throws IOException {
+    // GIVEN
+    Path actual = Files.write(tempDir.resolve("actual"), new byte[] { 0x1A });
+    Path expected = Files.write(tempDir.resolve("expected"), new byte[0]);
+    // WHEN
+    BinaryDiffResult result = BINARY_DIFF.diff(actual, expected);
+    // THEN
+    then(result.offset).isZero();
+    then(result.actual).isEqualTo("0x1A");
+    then(result.expected).isEqualTo("EOF");
+  }
+
+}
@@ -123,7 +123,7 @@ class Files_assertHasDigest_AlgorithmBytes_Test extends FilesBaseTest {
     // GIVEN
     File actual = newFile(tempDir.getAbsolutePath() + "/tmp.txt");
     IOException cause = new IOException();
-    given(nioFilesWrapper.newInputStream(any())).willThrow(cause);
+    given(nioFilesWrapper.newByteChannel(any())).willThrow(cause);
     // WHEN
     UncheckedIOException uioe = catchThrowableOfType(UncheckedIOException.class,
                                                      () -> underTest.assertHasDigest(INFO, actual, algorithm, expected));
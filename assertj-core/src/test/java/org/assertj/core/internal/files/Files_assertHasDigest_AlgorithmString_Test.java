@@ -124,7 +124,7 @@ class Files_assertHasDigest_AlgorithmString_Test extends FilesBaseTest {
     // GIVEN
     File actual = newFile(tempDir.getAbsolutePath() + "/tmp.txt");
     IOException cause = new IOException();
-    given(nioFilesWrapper.newInputStream(any())).willThrow(cause);
+    given(nioFilesWrapper.newByteChannel(any())).willThrow(cause);
     // WHEN
     UncheckedIOException uioe = catchThrowableOfType(UncheckedIOException.class,
                                                      () -> underTest.assertHasDigest(INFO, actual, algorithm, expected));
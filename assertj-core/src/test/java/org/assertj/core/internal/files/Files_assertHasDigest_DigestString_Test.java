@@ -125,7 +125,7 @@ class Files_assertHasDigest_DigestString_Test extends FilesBaseTest {
     // GIVEN
     File actual = newFile(tempDir.getAbsolutePath() + "/tmp.txt");
     IOException cause = new IOException();
-    given(nioFilesWrapper.newInputStream(any())).willThrow(cause);
+    given(nioFilesWrapper.newByteChannel(any())).willThrow(cause);
     // WHEN
     Throwable error = catchThrowableOfType(UncheckedIOException.class,
                                            () -> underTest.assertHasDigest(INFO, actual, digest, expected));
@@ -115,7 +115,7 @@ class Files_assertHasSameBinaryContentAs_Test extends FilesBaseTest {
   void should_throw_error_wrapping_caught_IOException() throws IOException {
     // GIVEN
     IOException cause = new IOException();
-    given(binaryDiff.diff(actual, expectedBytes)).willThrow(cause);
+    given(binaryDiff.diff(actual.toPath(), expected.toPath())).willThrow(cause);
     // WHEN
     UncheckedIOException uioe = catchThrowableOfType(UncheckedIOException.class,
                                                      () -> underTest.assertSameBinaryContentAs(INFO, actual, expected));
@@ -31,4 +31,10 @@ class Hexadecimals_Test {
     assertThat(Hexadecimals.byteToHexString((byte) 0xa2)).isEqualTo("A2");
   }
 
+  @Test
+  void should_return_hexadecimal_representation_of_bytes() {
+    assertThat(Hexadecimals.toHexString()).isEmpty();
+    assertThat(Hexadecimals.toHexString((byte) 0x00, (byte) 0xFF, (byte) 0xa2, (byte) 0x7f)).isEqualTo("00FFA27F");
+  }
+
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.util;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.configuration.Configuration.MAX_CACHED_PATTERNS;
+
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class Patterns_compile_Test {
+
+  @AfterEach
+  void restoreDefaultMaxCachedPatterns() {
+    Patterns.setMaxCachedPatterns(MAX_CACHED_PATTERNS);
+  }
+
+  @Test
+  void should_return_cached_pattern_for_the_same_regex_and_flags() {
+    // WHEN
+    Pattern pattern = Patterns.compile("Yo.a");
+    // THEN
+    then(Patterns.compile("Yo.a")).isSameAs(pattern);
+    then(Patterns.compile("Yo.a", Pattern.DOTALL)).isNotSameAs(pattern)
+                                                  .isSameAs(Patterns.compile("Yo.a", Pattern.DOTALL));
+  }
+
+  @Test
+  void should_evict_least_recently_used_patterns() {
+    // GIVEN
+    Patterns.setMaxCachedPatterns(2);
+    Pattern luke = Patterns.compile("Luke");
+    Pattern leia = Patterns.compile("Leia");
+    Patterns.compile("Luke");
+    // WHEN
+    Patterns.compile("Yoda");
+    // THEN
+    then(Patterns.compile("Luke")).isSameAs(luke);
+    then(Patterns.compile("Leia")).isNotSameAs(leia);
+  }
+
+  @Test
+  void should_not_cache_patterns_when_max_cached_patterns_is_zero() {
+    // GIVEN
+    Patterns.setMaxCachedPatterns(0);
+    // WHEN
+    Pattern pattern = Patterns.compile("Yoda");
+    // THEN
+    then(Patterns.compile("Yoda")).isNotSameAs(pattern)
+                                  .hasToString("Yoda");
+  }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.util.diff.myers;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
+import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.InsertDelta;
+import org.assertj.core.util.diff.Patch;
+import org.junit.jupiter.api.Test;
+
+class LinearSpaceMyersDiffTest {
+
+  private final LinearSpaceMyersDiff<String> linearSpaceMyersDiff = new LinearSpaceMyersDiff<>();
+
+  @Test
+  void should_return_empty_patch_for_equal_lists() {
+    // WHEN
+    Patch<String> patch = linearSpaceMyersDiff.diff(list("aaa", "bbb"), list("aaa", "bbb"));
+    // THEN
+    assertThat(patch.getDeltas()).isEmpty();
+  }
+
+  @Test
+  void should_return_insert_delete_and_change_deltas() {
+    // GIVEN
+    List<String> original = list("aaa", "bbb", "ccc", "ddd", "eee");
+    List<String> revised = list("zzz", "aaa", "ccc", "yyy", "eee");
+    // WHEN
+    Patch<String> patch = linearSpaceMyersDiff.diff(original, revised);
+    // THEN
+    assertThat(patch.getDeltas()).containsExactly(new InsertDelta<>(new Chunk<>(0, emptyList()), new Chunk<>(0, list("zzz"))),
+                                                  new DeleteDelta<>(new Chunk<>(1, list("bbb")), new Chunk<>(2, emptyList())),
+                                                  new ChangeDelta<>(new Chunk<>(3, list("ddd")), new Chunk<>(3, list("yyy"))));
+  }
+
+  @Test
+  void should_return_patches_as_minimal_as_myers_diff_ones() {
+    // GIVEN
+    Random random = new Random(0);
+    MyersDiff<String> myersDiff = new MyersDiff<>();
+    for (int i = 0; i < 1000; i++) {
+      List<String> original = randomLines(random);
+      List<String> revised = randomLines(random);
+      // WHEN
+      Patch<String> patch = linearSpaceMyersDiff.diff(original, revised);
+      // THEN
+      assertThat(patch.applyTo(original)).isEqualTo(revised);
+      assertThat(changedLines(patch)).isEqualTo(changedLines(myersDiff.diff(original, revised)));
+    }
+  }
+
+  private static List<String> randomLines(Random random) {
+    List<String> lines = new ArrayList<>();
+    for (int i = random.nextInt(20); i > 0; i--) {
+      lines.add(String.valueOf((char) ('a' + random.nextInt(4))));
+    }
+    return lines;
+  }
+
+  private static int changedLines(Patch<String> patch) {
+    int changedLines = 0;
+    for (Delta<String> delta : patch.getDeltas()) {
+      changedLines += delta.getOriginal().size() + delta.getRevised().size();
+    }
+    return changedLines;
+  }
+
+}
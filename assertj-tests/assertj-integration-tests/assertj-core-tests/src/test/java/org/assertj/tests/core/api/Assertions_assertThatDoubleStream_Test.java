@@ -0,0 +1,80 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatDoubleStream;
+import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.DoubleStream;
+
+import org.assertj.core.api.DoubleStreamAssert;
+import org.junit.jupiter.api.Test;
+
+class Assertions_assertThatDoubleStream_Test {
+
+  @Test
+  void should_accept_DoubleStream() {
+    // GIVEN
+    DoubleStream actual = DoubleStream.of(1.0, 2.0, 3.0);
+    // WHEN
+    DoubleStreamAssert result = assertThatDoubleStream(actual);
+    // THEN
+    result.containsExactly(1.0, 2.0, 3.0)
+          .isSorted();
+  }
+
+  @Test
+  void should_accept_null() {
+    // GIVEN
+    DoubleStream actual = null;
+    // WHEN/THEN
+    assertThatDoubleStream(actual).isNull();
+  }
+
+  @Test
+  void should_close_the_stream() {
+    // GIVEN
+    AtomicBoolean closed = new AtomicBoolean();
+    DoubleStream actual = DoubleStream.of(1.0, 2.0, 3.0).onClose(() -> closed.set(true));
+    // WHEN
+    assertThatDoubleStream(actual);
+    // THEN
+    assertThat(closed).isTrue();
+  }
+
+  @Test
+  void isEqualTo_and_isSameAs_should_check_the_stream_reference() {
+    // GIVEN
+    DoubleStream actual = DoubleStream.of(1.0, 2.0, 3.0);
+    // WHEN/THEN
+    assertThatDoubleStream(actual).isEqualTo(actual)
+                                  .isSameAs(actual)
+                                  .isNotSameAs(DoubleStream.of(1.0, 2.0, 3.0));
+  }
+
+  @Test
+  void should_fail_if_stream_does_not_contain_value() {
+    // GIVEN
+    DoubleStream actual = DoubleStream.of(1.0, 2.0, 3.0);
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatDoubleStream(actual).contains(4.0));
+    // THEN
+    assertThat(assertionError).hasMessageContaining("4.0");
+  }
+
+}
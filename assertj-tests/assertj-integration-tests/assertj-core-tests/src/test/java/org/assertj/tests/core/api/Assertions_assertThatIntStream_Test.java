@@ -0,0 +1,80 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIntStream;
+import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.IntStreamAssert;
+import org.junit.jupiter.api.Test;
+
+class Assertions_assertThatIntStream_Test {
+
+  @Test
+  void should_accept_IntStream() {
+    // GIVEN
+    IntStream actual = IntStream.of(1, 2, 3);
+    // WHEN
+    IntStreamAssert result = assertThatIntStream(actual);
+    // THEN
+    result.containsExactly(1, 2, 3)
+          .isSorted();
+  }
+
+  @Test
+  void should_accept_null() {
+    // GIVEN
+    IntStream actual = null;
+    // WHEN/THEN
+    assertThatIntStream(actual).isNull();
+  }
+
+  @Test
+  void should_close_the_stream() {
+    // GIVEN
+    AtomicBoolean closed = new AtomicBoolean();
+    IntStream actual = IntStream.of(1, 2, 3).onClose(() -> closed.set(true));
+    // WHEN
+    assertThatIntStream(actual);
+    // THEN
+    assertThat(closed).isTrue();
+  }
+
+  @Test
+  void isEqualTo_and_isSameAs_should_check_the_stream_reference() {
+    // GIVEN
+    IntStream actual = IntStream.of(1, 2, 3);
+    // WHEN/THEN
+    assertThatIntStream(actual).isEqualTo(actual)
+                               .isSameAs(actual)
+                               .isNotSameAs(IntStream.of(1, 2, 3));
+  }
+
+  @Test
+  void should_fail_if_stream_does_not_contain_value() {
+    // GIVEN
+    IntStream actual = IntStream.of(1, 2, 3);
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatIntStream(actual).contains(4));
+    // THEN
+    assertThat(assertionError).hasMessageContaining("4");
+  }
+
+}
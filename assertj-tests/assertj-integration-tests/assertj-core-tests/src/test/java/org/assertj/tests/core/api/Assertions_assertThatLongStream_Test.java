@@ -0,0 +1,80 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatLongStream;
+import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+
+import org.assertj.core.api.LongStreamAssert;
+import org.junit.jupiter.api.Test;
+
+class Assertions_assertThatLongStream_Test {
+
+  @Test
+  void should_accept_LongStream() {
+    // GIVEN
+    LongStream actual = LongStream.of(1L, 2L, 3L);
+    // WHEN
+    LongStreamAssert result = assertThatLongStream(actual);
+    // THEN
+    result.containsExactly(1L, 2L, 3L)
+          .isSorted();
+  }
+
+  @Test
+  void should_accept_null() {
+    // GIVEN
+    LongStream actual = null;
+    // WHEN/THEN
+    assertThatLongStream(actual).isNull();
+  }
+
+  @Test
+  void should_close_the_stream() {
+    // GIVEN
+    AtomicBoolean closed = new AtomicBoolean();
+    LongStream actual = LongStream.of(1L, 2L, 3L).onClose(() -> closed.set(true));
+    // WHEN
+    assertThatLongStream(actual);
+    // THEN
+    assertThat(closed).isTrue();
+  }
+
+  @Test
+  void isEqualTo_and_isSameAs_should_check_the_stream_reference() {
+    // GIVEN
+    LongStream actual = LongStream.of(1L, 2L, 3L);
+    // WHEN/THEN
+    assertThatLongStream(actual).isEqualTo(actual)
+                                .isSameAs(actual)
+                                .isNotSameAs(LongStream.of(1L, 2L, 3L));
+  }
+
+  @Test
+  void should_fail_if_stream_does_not_contain_value() {
+    // GIVEN
+    LongStream actual = LongStream.of(1L, 2L, 3L);
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLongStream(actual).contains(4L));
+    // THEN
+    assertThat(assertionError).hasMessageContaining("4");
+  }
+
+}
@@ -138,6 +138,9 @@ class Assertions_sync_with_BDDAssertions_WithAssertions_and_soft_assertions_vari
                      "assertThatPath",
                      "assertThatPredicate",
                      "assertThatStream",
+                     "assertThatIntStream",
+                     "assertThatLongStream",
+                     "assertThatDoubleStream",
                      "assertThatException",
                      "assertThatRuntimeException",
                      "assertThatNullPointerException",
@@ -21,6 +21,8 @@ import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.error.ShouldHaveBinaryContent.shouldHaveBinaryContent;
 import static org.assertj.core.error.ShouldNotBeNull.shouldNotBeNull;
 import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 
@@ -65,7 +67,7 @@ class InputStreamAssert_hasBinaryContent_Test {
     InputStream actual = mock();
     byte[] expected = new byte[0];
     IOException cause = new IOException();
-    given(actual.read()).willThrow(cause);
+    given(actual.readNBytes(any(), anyInt(), anyInt())).willThrow(cause);
     // WHEN
     Exception exception = catchException(() -> assertThat(actual).hasBinaryContent(expected));
     // THEN
@@ -72,7 +72,7 @@ class InputStreamAssert_hasSameContentAs_Test {
     InputStream actual = mock();
     InputStream expected = new ByteArrayInputStream(new byte[0]);
     IOException cause = new IOException();
-    given(actual.read(any(), anyInt(), anyInt())).willThrow(cause);
+    given(actual.readNBytes(any(), anyInt(), anyInt())).willThrow(cause);
     // WHEN
     Exception exception = catchException(() -> assertThat(actual).hasSameContentAs(expected));
     // THEN
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.api.list;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+class ListAssert_with_infinite_stream_Test {
+
+  private static Stream<Integer> naturalNumbers() {
+    return Stream.iterate(0, i -> i + 1);
+  }
+
+  @Test
+  void first_should_only_consume_the_first_element() {
+    // GIVEN
+    AtomicInteger consumed = new AtomicInteger();
+    Stream<Integer> actual = naturalNumbers().peek(i -> consumed.incrementAndGet());
+    // WHEN
+    assertThat(actual).first().isEqualTo(0);
+    // THEN
+    assertThat(consumed).hasValue(1);
+  }
+
+  @Test
+  void element_should_only_consume_elements_up_to_the_given_index() {
+    // GIVEN
+    AtomicInteger consumed = new AtomicInteger();
+    Stream<Integer> actual = naturalNumbers().peek(i -> consumed.incrementAndGet());
+    // WHEN
+    assertThat(actual).element(3).isEqualTo(3);
+    // THEN
+    assertThat(consumed).hasValue(4);
+  }
+
+  @Test
+  void startsWith_should_pass_with_infinite_stream() {
+    assertThat(naturalNumbers()).startsWith(0, 1, 2);
+  }
+
+  @Test
+  void anyMatch_should_pass_with_infinite_stream() {
+    assertThat(naturalNumbers()).anyMatch(i -> i > 100);
+  }
+
+  @Test
+  void contains_should_pass_with_infinite_stream() {
+    assertThat(naturalNumbers()).contains(10, 5);
+  }
+
+  @Test
+  void should_allow_chaining_prefix_assertions_on_infinite_int_stream() {
+    assertThat(IntStream.iterate(0, i -> i + 1)).contains(5)
+                                                .startsWith(0, 1)
+                                                .first().isEqualTo(0);
+  }
+
+  @Test
+  void element_should_fail_if_index_is_out_of_bounds() {
+    // GIVEN
+    Stream<Integer> actual = Stream.of(1, 2, 3);
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(actual).element(3));
+    // THEN
+    assertThat(assertionError).hasMessageContaining("check index validity");
+  }
+
+}
@@ -24,8 +24,13 @@ import java.util.Date;
 
 import org.assertj.core.api.AssumptionExceptionFactory;
 import org.assertj.core.configuration.Configuration;
+import org.assertj.core.error.ShouldBeEqual;
+import org.assertj.core.internal.Diff;
+import org.assertj.core.internal.Digests;
 import org.assertj.core.internal.Failures;
+import org.assertj.core.internal.FileContent;
 import org.assertj.core.presentation.StandardRepresentation;
+import org.assertj.core.util.Patterns;
 import org.assertj.core.util.introspection.FieldSupport;
 import org.assertj.core.util.introspection.Introspection;
 import org.junit.jupiter.api.Test;
@@ -57,6 +62,12 @@ class Configuration_apply_Test {
     then(date).isEqualTo("2001_02_03")
               .isEqualTo("2001|02|03");
     then(AssumptionExceptionFactory.getPreferredAssumptionException()).isEqualTo(configuration.preferredAssumptionException());
+    then(Patterns.getMaxCachedPatterns()).isEqualTo(configuration.maxCachedPatterns());
+    then(Diff.getMaxDeltas()).isEqualTo(configuration.maxContentDiffDeltas());
+    then(FileContent.getMaxContentBytes()).isEqualTo(configuration.maxFileContentBytesForIdeDiff());
+    then(Digests.getMaxCachedFileDigests()).isEqualTo(configuration.maxCachedFileDigests());
+    then(StandardRepresentation.getMaxRepresentationLength()).isEqualTo(configuration.maxRepresentationLength());
+    then(ShouldBeEqual.getMaxValueLength()).isEqualTo(configuration.maxLengthForEqualityErrorValues());
   }
 
   @Test
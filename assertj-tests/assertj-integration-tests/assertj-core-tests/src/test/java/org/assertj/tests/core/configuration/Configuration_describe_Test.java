@@ -56,7 +56,13 @@ class Configuration_describe_Test {
                                        "- printAssertionsDescription ...................... = false%n" +
                                        "- descriptionConsumer ............................. = sysout%n" +
                                        "- removeAssertJRelatedElementsFromStackTraceEnabled = false%n" +
-                                       "- preferredAssumptionException .................... = TEST_NG(org.testng.SkipException)%n"));
+                                       "- preferredAssumptionException .................... = TEST_NG(org.testng.SkipException)%n" +
+                                       "- maxCachedPatterns ............................... = 257%n" +
+                                       "- maxContentDiffDeltas ............................ = 101%n" +
+                                       "- maxFileContentBytesForIdeDiff ................... = 1048577%n" +
+                                       "- maxCachedFileDigests ............................ = 1%n" +
+                                       "- maxRepresentationLength ......................... = 2147483646%n" +
+                                       "- maxLengthForEqualityErrorValues ................. = 10001%n"));
   }
 
 }
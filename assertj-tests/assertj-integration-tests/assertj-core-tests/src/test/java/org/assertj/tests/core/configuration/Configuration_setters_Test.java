@@ -0,0 +1,82 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.configuration;
+
+import static org.assertj.core.api.Assertions.catchIllegalArgumentException;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import org.assertj.core.configuration.Configuration;
+import org.junit.jupiter.api.Test;
+
+class Configuration_setters_Test {
+
+  private final Configuration configuration = new Configuration();
+
+  @Test
+  void should_fail_if_maxCachedPatterns_is_negative() {
+    // WHEN
+    var illegalArgumentException = catchIllegalArgumentException(() -> configuration.setMaxCachedPatterns(-1));
+    // THEN
+    then(illegalArgumentException).hasMessage("maxCachedPatterns must be >= 0, but was -1");
+    then(configuration.maxCachedPatterns()).isEqualTo(Configuration.MAX_CACHED_PATTERNS);
+  }
+
+  @Test
+  void should_fail_if_maxContentDiffDeltas_is_zero() {
+    // WHEN
+    var illegalArgumentException = catchIllegalArgumentException(() -> configuration.setMaxContentDiffDeltas(0));
+    // THEN
+    then(illegalArgumentException).hasMessage("maxContentDiffDeltas must be >= 1, but was 0");
+    then(configuration.maxContentDiffDeltas()).isEqualTo(Configuration.MAX_CONTENT_DIFF_DELTAS);
+  }
+
+  @Test
+  void should_fail_if_maxFileContentBytesForIdeDiff_is_negative() {
+    // WHEN
+    var illegalArgumentException = catchIllegalArgumentException(() -> configuration.setMaxFileContentBytesForIdeDiff(-1));
+    // THEN
+    then(illegalArgumentException).hasMessage("maxFileContentBytesForIdeDiff must be >= 0, but was -1");
+    then(configuration.maxFileContentBytesForIdeDiff()).isEqualTo(Configuration.MAX_FILE_CONTENT_BYTES_FOR_IDE_DIFF);
+  }
+
+  @Test
+  void should_fail_if_maxCachedFileDigests_is_negative() {
+    // WHEN
+    var illegalArgumentException = catchIllegalArgumentException(() -> configuration.setMaxCachedFileDigests(-1));
+    // THEN
+    then(illegalArgumentException).hasMessage("maxCachedFileDigests must be >= 0, but was -1");
+    then(configuration.maxCachedFileDigests()).isEqualTo(Configuration.MAX_CACHED_FILE_DIGESTS);
+  }
+
+  @Test
+  void should_fail_if_maxRepresentationLength_is_zero() {
+    // WHEN
+    var illegalArgumentException = catchIllegalArgumentException(() -> configuration.setMaxRepresentationLength(0));
+    // THEN
+    then(illegalArgumentException).hasMessage("maxRepresentationLength must be > 0, but was 0");
+    then(configuration.maxRepresentationLength()).isEqualTo(Configuration.MAX_REPRESENTATION_LENGTH);
+  }
+
+  @Test
+  void should_fail_if_maxLengthForEqualityErrorValues_is_zero() {
+    // WHEN
+    var illegalArgumentException = catchIllegalArgumentException(() -> configuration.setMaxLengthForEqualityErrorValues(0));
+    // THEN
+    then(illegalArgumentException).hasMessage("maxLengthForEqualityErrorValues must be >= 1, but was 0");
+    then(configuration.maxLengthForEqualityErrorValues()).isEqualTo(Configuration.MAX_LENGTH_FOR_EQUALITY_ERROR_VALUES);
+  }
+
+}
@@ -80,4 +80,35 @@ class NonDefaultConfiguration extends Configuration {
     return PreferredAssumptionException.TEST_NG;
   }
 
+  @Override
+  public int maxCachedPatterns() {
+    return super.maxCachedPatterns() + 1;
+  }
+
+  @Override
+  public int maxContentDiffDeltas() {
+    return super.maxContentDiffDeltas() + 1;
+  }
+
+  @Override
+  public int maxFileContentBytesForIdeDiff() {
+    return super.maxFileContentBytesForIdeDiff() + 1;
+  }
+
+  @Override
+  public int maxCachedFileDigests() {
+    return super.maxCachedFileDigests() + 1;
+  }
+
+  @Override
+  public int maxRepresentationLength() {
+    // default is Integer.MAX_VALUE
+    return super.maxRepresentationLength() - 1;
+  }
+
+  @Override
+  public int maxLengthForEqualityErrorValues() {
+    return super.maxLengthForEqualityErrorValues() + 1;
+  }
+
 }
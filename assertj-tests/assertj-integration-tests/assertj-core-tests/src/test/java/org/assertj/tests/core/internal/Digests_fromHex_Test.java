@@ -16,6 +16,7 @@
 package org.assertj.tests.core.internal;
 
 import static org.assertj.core.api.Assertions.catchNullPointerException;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.error.ShouldNotBeNull.shouldNotBeNull;
 
@@ -67,4 +68,20 @@ class Digests_fromHex_Test {
     then(result).containsExactly(170);
   }
 
+  @Test
+  void should_fail_if_digest_contains_a_non_hexadecimal_character() {
+    // WHEN
+    NumberFormatException exception = catchThrowableOfType(NumberFormatException.class, () -> Digests.fromHex("A1G2"));
+    // THEN
+    then(exception).hasMessage("Invalid hexadecimal digit 'G' in digest: A1G2");
+  }
+
+  @Test
+  void should_accept_lower_case_digest() {
+    // WHEN
+    byte[] result = Digests.fromHex(DIGEST_TEST_1_STR.toLowerCase());
+    // THEN
+    then(result).isEqualTo(DIGEST_TEST_1_BYTES);
+  }
+
 }
@@ -21,7 +21,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
 
 import org.assertj.core.internal.Diff;
@@ -122,4 +124,66 @@ class Diff_diff_InputStream_Test {
     assertThat(diffs.get(0)).hasToString(format("Extra content at line 1:%n"
                                                 + "  [\"\"]%n"));
   }
+
+  @Test
+  void should_return_empty_diff_list_if_inputstreams_only_differ_by_line_separators() throws IOException {
+    actual = new ByteArrayInputStream("line0\r\nline1\r\n".getBytes(StandardCharsets.US_ASCII));
+    expected = new ByteArrayInputStream("line0\nline1".getBytes(StandardCharsets.US_ASCII));
+    List<Delta<String>> diffs = diff.diff(actual, expected);
+    assertThat(diffs).isEmpty();
+  }
+
+  @Test
+  void should_return_diffs_positioned_in_whole_inputstreams_if_they_differ_after_many_lines() throws IOException {
+    // GIVEN
+    String[] lines = new String[100_000];
+    Arrays.setAll(lines, i -> "line" + i);
+    expected = stream(lines);
+    lines[50_000] = "line_50000";
+    actual = stream(lines);
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, expected);
+    // THEN
+    assertThat(diffs).singleElement().hasToString(format("Changed content at line 50001:%n"
+                                                         + "expecting:%n"
+                                                         + "  [\"line50000\"]%n"
+                                                         + "but was:%n"
+                                                         + "  [\"line_50000\"]%n"));
+  }
+
+  @Test
+  void should_only_diff_lines_following_the_first_difference_up_to_a_limit() throws IOException {
+    // GIVEN
+    String[] lines = new String[100_000];
+    Arrays.setAll(lines, i -> "line" + i);
+    expected = stream(lines);
+    String[] linesWithExtraOne = new String[lines.length + 1];
+    linesWithExtraOne[0] = "extra";
+    System.arraycopy(lines, 0, linesWithExtraOne, 1, lines.length);
+    actual = stream(linesWithExtraOne);
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, expected);
+    // THEN
+    assertThat(diffs).singleElement().hasToString(format("Extra content at line 1:%n"
+                                                         + "  [\"extra\"]%n"));
+  }
+
+  @Test
+  void should_return_whole_differing_lines_if_the_common_line_they_start_with_is_longer_than_the_compared_chunks()
+      throws IOException {
+    // GIVEN
+    String commonStart = "base\n" + "é".repeat(70_000);
+    actual = new ByteArrayInputStream((commonStart + "b\nnext").getBytes(Charset.defaultCharset()));
+    expected = new ByteArrayInputStream((commonStart + "a\nnext").getBytes(Charset.defaultCharset()));
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, expected);
+    // THEN
+    String decodedStart = new String(("é".repeat(70_000)).getBytes(Charset.defaultCharset()), Charset.defaultCharset());
+    assertThat(diffs).singleElement()
+                     .satisfies(delta -> {
+                       assertThat(delta.getOriginal().getPosition()).isEqualTo(1);
+                       assertThat(delta.getOriginal().getLines()).containsExactly(decodedStart + "a");
+                       assertThat(delta.getRevised().getLines()).containsExactly(decodedStart + "b");
+                     });
+  }
 }
@@ -129,7 +129,7 @@ class Paths_assertHasDigest_with_MessageDigest_and_Byte_array_Test extends Paths
     MessageDigest digest = MessageDigest.getInstance("MD5");
     byte[] expected = {};
     IOException cause = new IOException("boom!");
-    willThrow(cause).given(nioFilesWrapper).newInputStream(actual);
+    willThrow(cause).given(nioFilesWrapper).newByteChannel(actual);
     // WHEN
     Throwable thrown = catchThrowable(() -> underTest.assertHasDigest(INFO, actual, digest, expected));
     // THEN
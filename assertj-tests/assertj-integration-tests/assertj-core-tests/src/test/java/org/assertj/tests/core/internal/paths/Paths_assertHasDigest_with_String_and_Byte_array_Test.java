@@ -143,7 +143,7 @@ class Paths_assertHasDigest_with_String_and_Byte_array_Test extends PathsBaseTes
     String algorithm = "MD5";
     byte[] expected = {};
     IOException cause = new IOException("boom!");
-    willThrow(cause).given(nioFilesWrapper).newInputStream(actual);
+    willThrow(cause).given(nioFilesWrapper).newByteChannel(actual);
     // WHEN
     Throwable thrown = catchThrowable(() -> underTest.assertHasDigest(INFO, actual, algorithm, expected));
     // THEN
@@ -78,4 +78,26 @@ class StandardRepresentation_custom_formatter_Test {
     // THEN
     then(actual).isNull();
   }
+
+  @Test
+  void should_honor_overridden_hasCustomFormatterFor() {
+    // GIVEN
+    StandardRepresentation.registerFormatterForType(String.class, value -> "'" + value + "'");
+    StandardRepresentation representation = new StandardRepresentation() {
+      @Override
+      protected boolean hasCustomFormatterFor(Object object) {
+        return object instanceof Integer || super.hasCustomFormatterFor(object) && !object.equals("standard");
+      }
+
+      @Override
+      protected <T> String customFormat(T object) {
+        return object instanceof Integer ? "int(" + object + ")" : super.customFormat(object);
+      }
+    };
+    Object intNumber = 8;
+    // WHEN/THEN
+    then(representation.toStringOf("abc")).isEqualTo("'abc'");
+    then(representation.toStringOf("standard")).isEqualTo("\"standard\"");
+    then(representation.toStringOf(intNumber)).isEqualTo("int(8)");
+  }
 }
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.presentation;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+import org.assertj.core.presentation.StandardRepresentation;
+import org.junit.jupiter.api.Test;
+
+class StandardRepresentation_maxRepresentationLength_Test extends AbstractBaseRepresentationTest {
+
+  private static final StandardRepresentation STANDARD_REPRESENTATION = new StandardRepresentation();
+
+  @Test
+  void should_fail_if_max_representation_length_is_not_positive() {
+    assertThatIllegalArgumentException().isThrownBy(() -> StandardRepresentation.setMaxRepresentationLength(0))
+                                        .withMessage("maxRepresentationLength must be > 0 but was 0");
+  }
+
+  @Test
+  void should_use_overridden_single_line_format_hooks() {
+    // GIVEN
+    StandardRepresentation representation = new StandardRepresentation() {
+      @Override
+      protected String singleLineFormat(Iterable<?> iterable, String start, String end, int maxLength) {
+        return "iterable of " + maxLength;
+      }
+
+      @Override
+      protected String singleLineFormat(Object[] array, Object root, int maxLength) {
+        return "array of " + maxLength;
+      }
+    };
+    StandardRepresentation.setMaxRepresentationLength(50);
+    // WHEN/THEN
+    then(representation.toStringOf(List.of(1, 2))).isEqualTo("iterable of 50");
+    then(representation.toStringOf(new Object[] { 1, 2 })).isEqualTo("array of 50");
+  }
+
+  @Test
+  void should_not_truncate_representations_by_default() {
+    // GIVEN
+    String string = "a".repeat(10_000);
+    // WHEN
+    String representation = STANDARD_REPRESENTATION.toStringOf(string);
+    // THEN
+    then(representation).isEqualTo("\"" + string + "\"");
+  }
+
+  @Test
+  void should_truncate_string_longer_than_max_representation_length() {
+    // GIVEN
+    StandardRepresentation.setMaxRepresentationLength(5);
+    // WHEN
+    String representation = STANDARD_REPRESENTATION.toStringOf("abcdefgh");
+    // THEN
+    then(representation).isEqualTo("\"abcde...\" (8 chars)");
+  }
+
+  @Test
+  void should_not_truncate_string_as_long_as_max_representation_length() {
+    // GIVEN
+    StandardRepresentation.setMaxRepresentationLength(5);
+    // WHEN
+    String representation = STANDARD_REPRESENTATION.toStringOf("abcde");
+    // THEN
+    then(representation).isEqualTo("\"abcde\"");
+  }
+
+  @Test
+  void should_stop_formatting_iterable_once_max_representation_length_is_exceeded() {
+    // GIVEN
+    StandardRepresentation.setMaxRepresentationLength(20);
+    Set<Integer> numbers = new TreeSet<>(List.of(1000, 2000, 3000, 4000, 5000, 6000));
+    // WHEN
+    String representation = STANDARD_REPRESENTATION.toStringOf(numbers);
+    // THEN
+    then(representation).isEqualTo("[1000,%n    2000,%n    ...]".formatted());
+  }
+
+  @Test
+  void should_stop_formatting_array_once_max_representation_length_is_exceeded() {
+    // GIVEN
+    StandardRepresentation.setMaxRepresentationLength(10);
+    String[] strings = { "abc", "def", "ghi", "jkl" };
+    // WHEN
+    String representation = STANDARD_REPRESENTATION.toStringOf(strings);
+    // THEN
+    then(representation).isEqualTo("[\"abc\",%n    ...]".formatted());
+  }
+
+  @Test
+  void should_stop_formatting_map_once_max_representation_length_is_exceeded() {
+    // GIVEN
+    StandardRepresentation.setMaxRepresentationLength(10);
+    Map<Integer, Integer> map = Map.of(1, 10, 2, 20, 3, 30, 4, 40);
+    // WHEN
+    String representation = STANDARD_REPRESENTATION.toStringOf(map);
+    // THEN
+    then(representation).isEqualTo("{1=10, 2=20, ...}");
+  }
+
+  @Test
+  void should_only_represent_the_printed_elements_of_random_access_lists() {
+    // GIVEN
+    StandardRepresentation.setMaxElementsForPrinting(4);
+    ArrayDeque<Integer> accessedIndexes = new ArrayDeque<>();
+    List<Integer> list = new RandomAccessList(1_000_000, accessedIndexes);
+    // WHEN
+    String representation = STANDARD_REPRESENTATION.toStringOf(list);
+    // THEN
+    then(representation).isEqualTo("[0, 1, ... 999998, 999999]");
+    then(accessedIndexes).containsOnly(0, 1, 999_998, 999_999);
+  }
+
+  @Test
+  void should_only_keep_the_smallest_keys_of_large_maps() {
+    // GIVEN
+    StandardRepresentation.setMaxElementsForPrinting(3);
+    Map<Integer, String> map = new HashMap<>();
+    IntStream.range(0, 10_000).map(i -> 10_000 - i).forEach(i -> map.put(i, "v" + i));
+    // WHEN
+    String representation = STANDARD_REPRESENTATION.toStringOf(map);
+    // THEN
+    then(representation).isEqualTo("{1=\"v1\", 2=\"v2\", 3=\"v3\", ...}");
+  }
+
+  @Test
+  void should_retain_initial_ordering_of_large_maps_if_keys_are_not_comparable() {
+    // GIVEN
+    StandardRepresentation.setMaxElementsForPrinting(2);
+    Map<Object, Integer> map = new LinkedHashMap<>();
+    map.put("foo", 3);
+    map.put(false, 2);
+    map.put('A', 1);
+    // WHEN
+    String representation = STANDARD_REPRESENTATION.toStringOf(map);
+    // THEN
+    then(representation).isEqualTo("{\"foo\"=3, false=2, ...}");
+  }
+
+  private static class RandomAccessList extends AbstractList<Integer> implements RandomAccess {
+
+    private final int size;
+    private final ArrayDeque<Integer> accessedIndexes;
+
+    private RandomAccessList(int size, ArrayDeque<Integer> accessedIndexes) {
+      this.size = size;
+      this.accessedIndexes = accessedIndexes;
+    }
+
+    @Override
+    public Integer get(int index) {
+      accessedIndexes.add(index);
+      return index;
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.assertj.core.util.diff.DiffAlgorithm;
+import org.assertj.core.util.diff.DiffUtils;
+import org.assertj.core.util.diff.Patch;
+import org.assertj.core.util.diff.myers.LinearSpaceMyersDiff;
+import org.assertj.core.util.diff.myers.MyersDiff;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * Compares {@link MyersDiff} and {@link LinearSpaceMyersDiff} on lines with scattered changes, results (average of 3 runs):
+ * <pre>
+ *   lines      changes  LinearSpaceMyersDiff  MyersDiff
+ *   10_000     10       0ms                   0ms
+ *   10_000     100      1ms                   2ms
+ *   100_000    100      8ms                   2ms
+ *   100_000    1_000    55ms                  79ms
+ *   1_000_000  1_000    152ms                 257ms
+ *   1_000_000  10_000   10677ms               21056ms
+ * </pre>
+ */
+class DiffUtilsPerfTest {
+
+  private final Random random = new Random(0);
+
+  @Test
+  @Timeout(value = 5)
+  void test_diff_1mLines_with_1000_changes() {
+    List<String> original = lines(1_000_000);
+    List<String> revised = withChanges(original, 1_000);
+    Patch<String> patch = DiffUtils.diff(original, revised, new LinearSpaceMyersDiff<>());
+    assertThat(patch.applyTo(original)).isEqualTo(revised);
+  }
+
+  @Disabled
+  @Test
+  void compare_diff_algorithms() {
+    for (int size : new int[] { 10_000, 100_000, 1_000_000 }) {
+      List<String> original = lines(size);
+      for (int changes : new int[] { size / 1000, size / 100 }) {
+        List<String> revised = withChanges(original, changes);
+        System.out.printf("%d lines, %d changes: LinearSpaceMyersDiff %dms, MyersDiff %dms%n", size, changes,
+                          time(new LinearSpaceMyersDiff<>(), original, revised), time(new MyersDiff<>(), original, revised));
+      }
+    }
+  }
+
+  private static long time(DiffAlgorithm<String> algorithm, List<String> original, List<String> revised) {
+    long start = System.nanoTime();
+    algorithm.diff(original, revised);
+    return (System.nanoTime() - start) / 1_000_000;
+  }
+
+  private static List<String> lines(int size) {
+    List<String> lines = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      lines.add("line " + i);
+    }
+    return lines;
+  }
+
+  private List<String> withChanges(List<String> lines, int changes) {
+    List<String> changedLines = new ArrayList<>(lines);
+    for (int i = 0; i < changes; i++) {
+      changedLines.set(random.nextInt(lines.size()), "changed line " + i);
+    }
+    return changedLines;
+  }
+
+}